@@ -0,0 +1,111 @@
+package com.minesweeper.domain;
+
+import java.util.Arrays;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vectorized adjacency counting using the incubating Vector API.
+ * <p>
+ * Computes the same 3x3 box sum as {@link AdjacencyCounter}, but a whole vector of columns at a time:
+ * each row's mine bits are unpacked into a zero-padded 0/1 byte row, horizontal sums are three
+ * shifted loads added together, and counts are merged back into the packed cells with a blend that
+ * keeps mines at 0. This class is only compiled by the {@code vector} Maven profile and is loaded
+ * reflectively, so the default build never references {@code jdk.incubator.vector}.
+ */
+final class VectorAdjacencyCounter implements AdjacencyCounter.RowCounter {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    public void countRows(byte[] cells, int size, int fromRow, int toRow) {
+        // Mine rows are padded by one zero column on each side, so column c lives at m[c + 1]
+        byte[] minesAbove = new byte[size + 2];
+        byte[] minesCurrent = new byte[size + 2];
+        byte[] minesBelow = new byte[size + 2];
+        byte[] sumsAbove = new byte[size];
+        byte[] sumsCurrent = new byte[size];
+        byte[] sumsBelow = new byte[size];
+        if (fromRow > 0) {
+            unpackMines(cells, size, fromRow - 1, minesAbove);
+            horizontalSums(minesAbove, size, sumsAbove);
+        }
+        unpackMines(cells, size, fromRow, minesCurrent);
+        horizontalSums(minesCurrent, size, sumsCurrent);
+        for (int row = fromRow; row < toRow; row++) {
+            if (row + 1 < size) {
+                unpackMines(cells, size, row + 1, minesBelow);
+                horizontalSums(minesBelow, size, sumsBelow);
+            } else {
+                Arrays.fill(sumsBelow, (byte) 0); // No row below the last one
+            }
+            mergeCounts(cells, row * size, size, sumsAbove, sumsCurrent, sumsBelow, minesCurrent);
+
+            byte[] recycledMines = minesAbove;
+            minesAbove = minesCurrent;
+            minesCurrent = minesBelow;
+            minesBelow = recycledMines;
+            byte[] recycledSums = sumsAbove;
+            sumsAbove = sumsCurrent;
+            sumsCurrent = sumsBelow;
+            sumsBelow = recycledSums;
+        }
+    }
+
+    private static void unpackMines(byte[] cells, int size, int row, byte[] mines) {
+        int rowStart = row * size;
+        int bound = SPECIES.loopBound(size);
+        int column = 0;
+        for (; column < bound; column += SPECIES.length()) {
+            ByteVector.fromArray(SPECIES, cells, rowStart + column)
+                    .lanewise(VectorOperators.LSHR, Grid.MINE_SHIFT)
+                    .and((byte) 1)
+                    .intoArray(mines, column + 1);
+        }
+        for (; column < size; column++) {
+            mines[column + 1] = (byte) ((cells[rowStart + column] >>> Grid.MINE_SHIFT) & 1);
+        }
+    }
+
+    private static void horizontalSums(byte[] mines, int size, byte[] sums) {
+        int bound = SPECIES.loopBound(size);
+        int column = 0;
+        for (; column < bound; column += SPECIES.length()) {
+            ByteVector.fromArray(SPECIES, mines, column)
+                    .add(ByteVector.fromArray(SPECIES, mines, column + 1))
+                    .add(ByteVector.fromArray(SPECIES, mines, column + 2))
+                    .intoArray(sums, column);
+        }
+        for (; column < size; column++) {
+            sums[column] = (byte) (mines[column] + mines[column + 1] + mines[column + 2]);
+        }
+    }
+
+    private static void mergeCounts(byte[] cells, int rowStart, int size,
+                                    byte[] above, byte[] current, byte[] below, byte[] mines) {
+        int bound = SPECIES.loopBound(size);
+        int column = 0;
+        for (; column < bound; column += SPECIES.length()) {
+            ByteVector mine = ByteVector.fromArray(SPECIES, mines, column + 1);
+            ByteVector count = ByteVector.fromArray(SPECIES, above, column)
+                    .add(ByteVector.fromArray(SPECIES, current, column))
+                    .add(ByteVector.fromArray(SPECIES, below, column))
+                    .sub(mine);
+            // Mines keep a count of 0, as they always have
+            VectorMask<Byte> isMine = mine.compare(VectorOperators.NE, (byte) 0);
+            count = count.blend((byte) 0, isMine);
+            ByteVector.fromArray(SPECIES, cells, rowStart + column)
+                    .and((byte) ~Grid.COUNT_MASK)
+                    .or(count)
+                    .intoArray(cells, rowStart + column);
+        }
+        for (; column < size; column++) {
+            int index = rowStart + column;
+            int count = mines[column + 1] != 0 ? 0 : above[column] + current[column] + below[column];
+            cells[index] = (byte) ((cells[index] & ~Grid.COUNT_MASK) | count);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.minesweeper;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+
+import com.minesweeper.dataset.BoardDataset;
+import com.minesweeper.dataset.BoardDatasetWriter;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Headless entry point that generates a large set of boards into a compact binary dataset file.
+ * Re-running with the same settings and output file resumes an interrupted run. Without {@code --seed},
+ * a new file gets a random seed and an existing file is resumed with the seed in its header.
+ * <p>
+ * Usage: {@code java -cp minesweeper.jar com.minesweeper.BoardGenerator --size 16 --mines 40
+ * --count 1000000 --out boards.bin [--seed 42] [--threads 8]}
+ */
+public class BoardGenerator {
+
+    private static final String USAGE = "Usage: BoardGenerator --size <n> --mines <n> --count <n> --out <file>"
+            + " [--seed <n>] [--threads <n>]";
+
+    public static void main(String[] args) {
+        BoardDataset dataset;
+        long count;
+        int threads;
+        Path out;
+        try {
+            CommandLineOptions options = CommandLineOptions.parse(args);
+            out = Path.of(options.required("out"));
+            long seed = options.has("seed")
+                    ? options.requiredLong("seed")
+                    : existingSeed(out).orElseGet(() -> new SplittableRandom().nextLong());
+            dataset = new BoardDataset(options.requiredInt("size"), options.requiredInt("mines"), seed);
+            count = options.requiredLong("count");
+            threads = options.getInt("threads", Runtime.getRuntime().availableProcessors());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return;
+        } catch (IOException e) {
+            System.err.println("Board generation failed: " + e.getMessage());
+            return;
+        }
+
+        System.out.printf("Generating %d boards of %dx%d with %d mines (seed %d) on %d threads into %s%n",
+                count, dataset.gridSize(), dataset.gridSize(), dataset.mineCount(), dataset.baseSeed(), threads, out);
+        try {
+            BoardDatasetWriter writer = new BoardDatasetWriter(dataset, SeededMinePlacer::new, threads);
+            writer.write(out, count, report -> System.out.println(report));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Board generation failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the base seed of an existing dataset file, so a run started without {@code --seed} can be
+     * resumed the same way. The writer still checks the file's size and mine count against the options.
+     *
+     * @return The seed in the file's header, or empty if the file does not exist or is empty.
+     */
+    private static OptionalLong existingSeed(Path out) throws IOException {
+        if (!Files.exists(out) || Files.size(out) == 0) {
+            return OptionalLong.empty();
+        }
+        try (FileChannel channel = FileChannel.open(out, StandardOpenOption.READ)) {
+            return OptionalLong.of(BoardDataset.readHeader(channel).baseSeed());
+        }
+    }
+}
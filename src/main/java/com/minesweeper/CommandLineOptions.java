@@ -0,0 +1,109 @@
+package com.minesweeper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@code --name value} options of a headless entry point. Every problem with them is reported as
+ * an IllegalArgumentException whose message names the option, so the entry points can print it
+ * above their usage line.
+ */
+final class CommandLineOptions {
+
+    private final Map<String, String> values;
+
+    private CommandLineOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Parses arguments given as pairs of an option name, prefixed with {@code --}, and its value.
+     *
+     * @param args The command-line arguments.
+     * @return The options, by name without the prefix.
+     * @throws IllegalArgumentException if an argument is not an option name or has no value.
+     */
+    static CommandLineOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Invalid argument: " + args[i]);
+            }
+            values.put(args[i].substring(2), args[i + 1]);
+        }
+        return new CommandLineOptions(values);
+    }
+
+    boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    /**
+     * Gets the value of an option that must be given.
+     *
+     * @throws IllegalArgumentException if the option is missing.
+     */
+    String required(String name) {
+        String value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required option --" + name);
+        }
+        return value;
+    }
+
+    /**
+     * Gets a whole-number option that must be given.
+     *
+     * @throws IllegalArgumentException if the option is missing or not a number.
+     */
+    long requiredLong(String name) {
+        return parseLong(name, required(name));
+    }
+
+    /**
+     * Gets a whole-number option that must be given and fit in an int.
+     *
+     * @throws IllegalArgumentException if the option is missing or not such a number.
+     */
+    int requiredInt(String name) {
+        return parseInt(name, required(name));
+    }
+
+    /**
+     * Gets an optional whole-number option.
+     *
+     * @throws IllegalArgumentException if the option is given but not a number.
+     */
+    long getLong(String name, long defaultValue) {
+        return has(name) ? parseLong(name, values.get(name)) : defaultValue;
+    }
+
+    /**
+     * Gets an optional whole-number option that must fit in an int.
+     *
+     * @throws IllegalArgumentException if the option is given but not such a number.
+     */
+    int getInt(String name, int defaultValue) {
+        return has(name) ? parseInt(name, values.get(name)) : defaultValue;
+    }
+
+    private static long parseLong(String name, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Option --" + name + " must be a whole number, but was " + value);
+        }
+    }
+
+    private static int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Option --" + name + " must be a whole number, but was " + value);
+        }
+    }
+}
@@ -1,12 +1,25 @@
 package com.minesweeper;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.minesweeper.game.BoardPrefetcher;
 import com.minesweeper.game.MinesweeperGame;
 import com.minesweeper.handler.InputHandler;
 import com.minesweeper.handler.MinePlacer;
 import com.minesweeper.handler.OutputHandler;
+import com.minesweeper.io.AsyncOutputHandler;
+import com.minesweeper.io.console.AnsiConsoleOutputHandler;
 import com.minesweeper.io.console.ConsoleInputHandler;
 import com.minesweeper.io.console.ConsoleOutputHandler;
-import com.minesweeper.placement.RandomMinePlacer;
+import com.minesweeper.io.console.MinimapOutputHandler;
+import com.minesweeper.io.console.ViewportOutputHandler;
+import com.minesweeper.placement.DifficultyTargetedMinePlacer;
+import com.minesweeper.placement.NoGuessMinePlacer;
+import com.minesweeper.placement.SeededMinePlacer;
 
 /**
  * Main application entry point for the Minesweeper game.
@@ -14,15 +27,92 @@ import com.minesweeper.placement.RandomMinePlacer;
  */
 public class Main {
 
+    private static final int BOARD_POOL_CAPACITY = 1;
+    private static final String NO_GUESS_OPTION = "--no-guess";
+    private static final String ANSI_OPTION = "--ansi";
+    private static final String VIEWPORT_OPTION = "--viewport";
+    private static final String MINIMAP_OPTION = "--minimap";
+    private static final String ASYNC_OPTION = "--async";
+    private static final String THREE_BV_OPTION = "--3bv";
+    private static final Pattern THREE_BV_RANGE = Pattern.compile("^(\\d+)-(\\d+)$"); // Like "30-60"
+    private static final Duration TARGETED_TIME_LIMIT = Duration.ofSeconds(2); // Search time per board
+
     public static void main(String[] args) {
-        // Instantiate concrete implementations
-        OutputHandler outputHandler = new ConsoleOutputHandler();
+        List<String> options = List.of(args);
+        DifficultyTargetedMinePlacer.Target target;
+        try {
+            target = targetOf(options);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+        // Instantiate concrete implementations; ANSI terminals can redraw only the cells that changed,
+        // and large boards can be shown through a window that follows the moves, under an overview
+        OutputHandler consoleOutput = options.contains(MINIMAP_OPTION) ? new MinimapOutputHandler()
+                : options.contains(VIEWPORT_OPTION) ? new ViewportOutputHandler()
+                : options.contains(ANSI_OPTION) ? new AnsiConsoleOutputHandler()
+                : new ConsoleOutputHandler();
+        // Optionally write on a render thread, so moves are not held up by the terminal
+        try (AsyncOutputHandler asyncOutput = options.contains(ASYNC_OPTION)
+                ? new AsyncOutputHandler(consoleOutput) : null) {
+            play(options, target, asyncOutput != null ? asyncOutput : consoleOutput);
+        }
+    }
+
+    /**
+     * Reads the difficulty band of {@code --3bv min-max}; with {@code --no-guess} too, boards must also
+     * be solvable without guessing from the opening the game reveals.
+     *
+     * @return The target, or null to play unfiltered boards.
+     * @throws IllegalArgumentException if the band is missing or malformed.
+     */
+    private static DifficultyTargetedMinePlacer.Target targetOf(List<String> options) {
+        int position = options.indexOf(THREE_BV_OPTION);
+        if (position < 0) {
+            return null;
+        }
+        Matcher matcher = position + 1 < options.size() ? THREE_BV_RANGE.matcher(options.get(position + 1)) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new IllegalArgumentException("Usage: " + THREE_BV_OPTION + " <min>-<max>, for example "
+                    + THREE_BV_OPTION + " 30-60");
+        }
+        DifficultyTargetedMinePlacer.Target target = DifficultyTargetedMinePlacer.Target.threeBv(
+                Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+        return options.contains(NO_GUESS_OPTION) ? target.withNoGuess() : target;
+    }
+
+    private static void play(List<String> options, DifficultyTargetedMinePlacer.Target target,
+                             OutputHandler outputHandler) {
         // ConsoleInputHandler needs the OutputHandler for printing prompts/errors
         InputHandler inputHandler = new ConsoleInputHandler(outputHandler);
-        MinePlacer minePlacer = new RandomMinePlacer(); // Use random placement
-        // Inject dependencies into the game orchestrator
-        MinesweeperGame game = new MinesweeperGame(inputHandler, outputHandler, minePlacer);
-        // Run the game
-        game.run();
+        if (target != null) {
+            // Boards in the band are searched for on several threads, ahead of time through the pool
+            try (DifficultyTargetedMinePlacer minePlacer = new DifficultyTargetedMinePlacer(target,
+                    TARGETED_TIME_LIMIT, new SplittableRandom().nextLong())) {
+                playWithPool(inputHandler, outputHandler, minePlacer);
+                System.out.println(minePlacer.getMetrics());
+            }
+            return;
+        }
+        if (options.contains(NO_GUESS_OPTION)) {
+            // Mines are placed after the first move, so there is nothing to pre-generate
+            try (NoGuessMinePlacer minePlacer = new NoGuessMinePlacer()) {
+                new MinesweeperGame(inputHandler, outputHandler, minePlacer).run();
+            }
+            return;
+        }
+        playWithPool(inputHandler, outputHandler, new SeededMinePlacer()); // Boards laid out from their seeds
+    }
+
+    private static void playWithPool(InputHandler inputHandler, OutputHandler outputHandler, MinePlacer minePlacer) {
+        // Pre-generate the next board in the background while the current game is played
+        try (BoardPrefetcher boardPrefetcher = new BoardPrefetcher(minePlacer, BOARD_POOL_CAPACITY)) {
+            // Inject dependencies into the game orchestrator
+            MinesweeperGame game = new MinesweeperGame(inputHandler, outputHandler, minePlacer, boardPrefetcher);
+            // Run the game, then report how often a pre-generated board was ready
+            game.run();
+            outputHandler.flush();
+            System.out.println(boardPrefetcher.getMetrics());
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.minesweeper;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.handler.MoveStrategy;
+import com.minesweeper.simulation.DeductionMoveStrategy;
+import com.minesweeper.simulation.RandomMoveStrategy;
+import com.minesweeper.simulation.Simulator;
+
+/**
+ * Headless entry point that measures the win rate of a move strategy by simulating many games.
+ * Without {@code --size} and {@code --mines} it simulates the beginner (9x9, 10 mines), intermediate
+ * (16x16, 40 mines) and expert presets; grids are square, so expert is 22x22 with 99 mines.
+ * <p>
+ * Usage: {@code java -cp minesweeper.jar com.minesweeper.WinRateSimulator [--games 1000000]
+ * [--size 16 --mines 40] [--strategy deduction|random] [--seed 42] [--threads 8]}
+ */
+public class WinRateSimulator {
+
+    private static final String USAGE = "Usage: WinRateSimulator [--games <n>] [--size <n> --mines <n>]"
+            + " [--strategy deduction|random] [--seed <n>] [--threads <n>]";
+    private static final long DEFAULT_GAMES = 100_000;
+
+    public static void main(String[] args) {
+        List<GameConfiguration> configurations;
+        Supplier<MoveStrategy> strategy;
+        long games;
+        int threads;
+        try {
+            CommandLineOptions options = CommandLineOptions.parse(args);
+            long seed = options.has("seed") ? options.requiredLong("seed") : new SplittableRandom().nextLong();
+            if (options.has("size") || options.has("mines")) {
+                configurations = List.of(new GameConfiguration(options.requiredInt("size"),
+                        options.requiredInt("mines"), seed));
+            } else {
+                configurations = List.of(new GameConfiguration(9, 10, seed),
+                        new GameConfiguration(16, 40, seed),
+                        new GameConfiguration(22, 99, seed));
+            }
+            strategy = strategy(options.get("strategy", "deduction"));
+            games = options.getLong("games", DEFAULT_GAMES);
+            threads = options.getInt("threads", Runtime.getRuntime().availableProcessors());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return;
+        }
+
+        Simulator simulator = new Simulator(threads);
+        for (GameConfiguration configuration : configurations) {
+            System.out.println(simulator.run(configuration, games, strategy));
+        }
+    }
+
+    private static Supplier<MoveStrategy> strategy(String name) {
+        return switch (name) {
+            case "deduction" -> DeductionMoveStrategy::new;
+            case "random" -> RandomMoveStrategy::new;
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+}
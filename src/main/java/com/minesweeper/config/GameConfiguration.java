@@ -1,10 +1,25 @@
 package com.minesweeper.config;
 
+import java.util.SplittableRandom;
+
 /**
  * An immutable value object holding the configuration settings for a Minesweeper game instance.
+ * Together, the three components identify a board completely: a board generated by
+ * {@code SeededMinePlacer} can be stored or shared as just its configuration and regenerated on demand.
  *
  * @param gridSize The size (width and height) of the square grid.
  * @param mineCount The number of mines to be placed on the grid.
+ * @param seed The 64-bit seed that determines the mine layout.
  */
-public record GameConfiguration(int gridSize, int mineCount) {
-} 
\ No newline at end of file
+public record GameConfiguration(int gridSize, int mineCount, long seed) {
+
+    /**
+     * Creates a configuration with a freshly drawn random seed.
+     *
+     * @param gridSize The size (width and height) of the square grid.
+     * @param mineCount The number of mines to be placed on the grid.
+     */
+    public GameConfiguration(int gridSize, int mineCount) {
+        this(gridSize, mineCount, new SplittableRandom().nextLong());
+    }
+}
@@ -0,0 +1,130 @@
+package com.minesweeper.dataset;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.minesweeper.domain.Grid;
+
+/**
+ * Describes the binary layout of a generated board dataset.
+ * <p>
+ * A dataset file is a fixed header followed by fixed-size board records:
+ * <pre>
+ *   header:  int magic ("MSBD"), short version, short reserved, int gridSize, int mineCount, long baseSeed
+ *   record:  ceil(gridSize * gridSize / 8) bytes; bit (i % 8) of byte (i / 8) is set when cell i is a mine
+ * </pre>
+ * All multi-byte values are big-endian. The number of boards is not stored; it follows from the file
+ * length, which lets an interrupted run be resumed by appending after the last complete record.
+ *
+ * @param gridSize  The size (width and height) of every board.
+ * @param mineCount The number of mines on every board.
+ * @param baseSeed  The seed the per-board seeds are derived from.
+ */
+public record BoardDataset(int gridSize, int mineCount, long baseSeed) {
+
+    /**
+     * The magic number at the start of every dataset file.
+     */
+    public static final int MAGIC = 0x4D534244; // "MSBD"
+
+    /**
+     * The format version written by this class.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * The size of the header in bytes.
+     */
+    public static final int HEADER_BYTES = 24;
+
+    /**
+     * Gets the number of bytes each board record takes.
+     *
+     * @return The record size in bytes.
+     */
+    public int recordBytes() {
+        return (int) (((long) gridSize * gridSize + 7) / 8);
+    }
+
+    /**
+     * Gets the number of complete board records in a file of the given length.
+     *
+     * @param fileBytes The length of the dataset file.
+     * @return The number of complete records.
+     */
+    public long completeRecords(long fileBytes) {
+        return Math.max(0, fileBytes - HEADER_BYTES) / recordBytes();
+    }
+
+    /**
+     * Writes the header into a buffer.
+     *
+     * @param buffer The buffer to write to; at least {@link #HEADER_BYTES} bytes must remain.
+     */
+    public void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) 0)
+                .putInt(gridSize)
+                .putInt(mineCount)
+                .putLong(baseSeed);
+    }
+
+    /**
+     * Reads the header from the start of a dataset file.
+     *
+     * @param channel The open dataset file.
+     * @return The dataset description stored in the header.
+     * @throws IOException if the file is too short or is not a dataset of a supported version.
+     */
+    public static BoardDataset readHeader(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                throw new IOException("File is too short to contain a board dataset header");
+            }
+        }
+        buffer.flip();
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("File is not a board dataset");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported board dataset version: " + version);
+        }
+        buffer.getShort(); // Reserved
+        return new BoardDataset(buffer.getInt(), buffer.getInt(), buffer.getLong());
+    }
+
+    /**
+     * Packs the mine layout of a grid into a record.
+     *
+     * @param grid   The grid whose mines are encoded.
+     * @param record The buffer to write to; at least {@link #recordBytes()} bytes must remain.
+     */
+    public static void encode(Grid grid, ByteBuffer record) {
+        int cellCount = grid.getCellCount();
+        for (int base = 0; base < cellCount; base += Byte.SIZE) {
+            int bits = 0;
+            int end = Math.min(base + Byte.SIZE, cellCount);
+            for (int index = base; index < end; index++) {
+                if (grid.isMine(index)) {
+                    bits |= 1 << (index - base);
+                }
+            }
+            record.put((byte) bits);
+        }
+    }
+
+    /**
+     * Checks whether cell {@code index} is a mine in an encoded record.
+     *
+     * @param record The record bytes, positioned at the start of the record.
+     * @param index  The flat index of the cell.
+     * @return true if the record marks the cell as a mine.
+     */
+    public static boolean isMine(ByteBuffer record, int index) {
+        return (record.get(record.position() + index / Byte.SIZE) & (1 << (index % Byte.SIZE))) != 0;
+    }
+}
@@ -0,0 +1,232 @@
+package com.minesweeper.dataset;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.MinePlacer;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Generates boards on a pool of worker threads and streams them into a dataset file.
+ * <p>
+ * Board {@code i} is generated by the MinePlacer the factory returns for
+ * {@link SeededMinePlacer#seedForBoard(long, long)}, so every board depends only on the dataset's base
+ * seed and its position. Workers encode boards into records drawn from a fixed set of reusable buffers;
+ * the calling thread collects them in order and appends them through a buffered FileChannel. At most
+ * {@code 2 * threads} records are in flight, so memory stays bounded however many boards are written.
+ * <p>
+ * When the file already holds boards for the same dataset, writing resumes after the last complete
+ * record; a partially written trailing record is discarded first.
+ */
+public class BoardDatasetWriter {
+
+    private static final int OUTPUT_BUFFER_BYTES = 1 << 20;
+    private static final long PROGRESS_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final BoardDataset dataset;
+    private final LongFunction<MinePlacer> placerFactory;
+    private final int threads;
+
+    /**
+     * Constructs a BoardDatasetWriter.
+     *
+     * @param dataset       The board size, mine count and base seed of the dataset.
+     * @param placerFactory Creates the MinePlacer for a board from that board's seed.
+     * @param threads       The number of worker threads generating boards.
+     * @throws IllegalArgumentException if the dataset settings or thread count are invalid.
+     */
+    public BoardDatasetWriter(BoardDataset dataset, LongFunction<MinePlacer> placerFactory, int threads) {
+        if (dataset.gridSize() <= 0) {
+            throw new IllegalArgumentException("Grid size must be positive, but was " + dataset.gridSize());
+        }
+        long totalCells = (long) dataset.gridSize() * dataset.gridSize();
+        if (dataset.mineCount() < 0 || dataset.mineCount() > totalCells) {
+            throw new IllegalArgumentException("Mine count must be between 0 and " + totalCells
+                    + ", but was " + dataset.mineCount());
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive, but was " + threads);
+        }
+        this.dataset = dataset;
+        this.placerFactory = placerFactory;
+        this.threads = threads;
+    }
+
+    /**
+     * Writes boards until the file holds {@code boardCount} of them, resuming an existing file if present.
+     *
+     * @param file       The dataset file to create or extend.
+     * @param boardCount The total number of boards the file should hold.
+     * @param progress   Called roughly once per second, and once at the end, with the progress so far.
+     * @return The final progress report.
+     * @throws IOException if the file cannot be written, or holds a different dataset.
+     */
+    public Report write(Path file, long boardCount, Consumer<Report> progress) throws IOException {
+        long startNanos = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long resumedFrom = openForAppend(channel);
+            Report report = new Report(resumedFrom, 0, 0);
+            if (resumedFrom < boardCount) {
+                report = generate(channel, resumedFrom, boardCount, startNanos, progress);
+            }
+            channel.force(false);
+            progress.accept(report);
+            return report;
+        }
+    }
+
+    /**
+     * Validates or writes the header and positions the channel after the last complete record.
+     *
+     * @return The number of complete records already in the file.
+     */
+    private long openForAppend(FileChannel channel) throws IOException {
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(BoardDataset.HEADER_BYTES);
+            dataset.writeHeader(header);
+            header.flip();
+            writeFully(channel, header);
+            return 0;
+        }
+        BoardDataset existing = BoardDataset.readHeader(channel);
+        if (!existing.equals(dataset)) {
+            throw new IOException("Existing file holds a different dataset: " + existing);
+        }
+        long records = dataset.completeRecords(channel.size());
+        channel.truncate(BoardDataset.HEADER_BYTES + records * dataset.recordBytes()); // Drop a torn record
+        channel.position(channel.size());
+        return records;
+    }
+
+    private Report generate(FileChannel channel, long firstBoard, long boardCount, long startNanos,
+                            Consumer<Report> progress) throws IOException {
+        int window = 2 * threads;
+        BlockingQueue<ByteBuffer> freeRecords = new ArrayBlockingQueue<>(window);
+        for (int i = 0; i < window; i++) {
+            freeRecords.add(ByteBuffer.allocate(dataset.recordBytes()));
+        }
+        ByteBuffer output = ByteBuffer.allocateDirect(Math.max(OUTPUT_BUFFER_BYTES, dataset.recordBytes()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "board-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<ByteBuffer>> inFlight = new ArrayDeque<>(window);
+        long nextBoard = firstBoard;
+        long written = 0;
+        long lastProgressNanos = startNanos;
+        try {
+            while (nextBoard < boardCount || !inFlight.isEmpty()) {
+                while (nextBoard < boardCount && inFlight.size() < window) {
+                    long boardIndex = nextBoard++;
+                    inFlight.add(executor.submit(() -> encodeBoard(boardIndex, freeRecords.take())));
+                }
+                ByteBuffer record = await(inFlight.poll());
+                append(channel, output, record);
+                freeRecords.add(record);
+                written++;
+
+                long now = System.nanoTime();
+                if (now - lastProgressNanos >= PROGRESS_INTERVAL_NANOS) {
+                    lastProgressNanos = now;
+                    progress.accept(new Report(firstBoard, written, now - startNanos));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            output.flip();
+            writeFully(channel, output); // Every buffered record is complete, so keep them even on failure
+        }
+        return new Report(firstBoard, written, System.nanoTime() - startNanos);
+    }
+
+    private ByteBuffer encodeBoard(long boardIndex, ByteBuffer record) {
+        Grid grid = new Grid(dataset.gridSize());
+        placerFactory.apply(SeededMinePlacer.seedForBoard(dataset.baseSeed(), boardIndex))
+                .placeMines(grid, dataset.mineCount());
+        record.clear();
+        BoardDataset.encode(grid, record);
+        record.flip();
+        return record;
+    }
+
+    private static ByteBuffer await(Future<ByteBuffer> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Board generation was interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Board generation failed", cause);
+        }
+    }
+
+    private static void append(FileChannel channel, ByteBuffer output, ByteBuffer record) throws IOException {
+        if (output.remaining() < record.remaining()) {
+            output.flip();
+            writeFully(channel, output);
+            output.clear();
+        }
+        output.put(record);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Progress of a dataset run.
+     *
+     * @param resumedFrom  The number of boards that were already in the file when the run started.
+     * @param boardsWritten The number of boards written by this run.
+     * @param elapsedNanos The time spent by this run, in nanoseconds.
+     */
+    public record Report(long resumedFrom, long boardsWritten, long elapsedNanos) {
+
+        /**
+         * Gets the total number of boards in the file.
+         *
+         * @return The boards from earlier runs plus the boards written by this run.
+         */
+        public long totalBoards() {
+            return resumedFrom + boardsWritten;
+        }
+
+        /**
+         * Gets the generation throughput of this run.
+         *
+         * @return Boards written per second, or 0 if no time has elapsed.
+         */
+        public double boardsPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : boardsWritten * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d boards in file (%d written this run, %.0f boards/s)",
+                    totalBoards(), boardsWritten, boardsPerSecond());
+        }
+    }
+}
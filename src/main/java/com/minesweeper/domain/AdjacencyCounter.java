@@ -0,0 +1,187 @@
+package com.minesweeper.domain;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes adjacent mine counts for a packed grid as a 3x3 box sum over the mine bits.
+ * <p>
+ * Each row is first reduced to horizontal sums of three (left, self, right), and a cell's count
+ * is the sum of the horizontal sums of the rows above, at and below it, minus its own mine bit.
+ * Rows are processed in bands; a band reads the mine bits of the rows bordering it but only writes
+ * the counts of its own rows, so bands can run concurrently on a ForkJoinPool without coordination.
+ * Boards below {@link #PARALLEL_THRESHOLD} cells stay on the calling thread.
+ * <p>
+ * When the build includes the {@code vector} profile and the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, rows are counted by {@code VectorAdjacencyCounter};
+ * otherwise the scalar loop below is used.
+ */
+final class AdjacencyCounter {
+
+    /**
+     * Boards with fewer cells than this are counted on the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    /**
+     * Bands are split until they cover at most this many cells.
+     */
+    private static final int BAND_CELLS = 1 << 16;
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_COUNTER_CLASS = "com.minesweeper.domain.VectorAdjacencyCounter";
+
+    // Null when the vectorized pass is not compiled in or the incubator module is not loaded
+    private static final RowCounter VECTOR_ROW_COUNTER = loadVectorRowCounter();
+
+    /**
+     * Strategy for counting a band of rows; implemented by the scalar and vectorized passes.
+     */
+    interface RowCounter {
+        void countRows(byte[] cells, int size, int fromRow, int toRow);
+    }
+
+    private AdjacencyCounter() {
+    }
+
+    private static RowCounter loadVectorRowCounter() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (RowCounter) Class.forName(VECTOR_COUNTER_CLASS).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Not compiled into this build; use the scalar pass
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reports whether the vectorized row counter is in use.
+     *
+     * @return true if rows are counted with the Vector API.
+     */
+    static boolean isVectorized() {
+        return VECTOR_ROW_COUNTER != null;
+    }
+
+    /**
+     * Calculates the adjacent mine count of every non-mine cell, choosing the serial or
+     * parallel pass based on the board size.
+     *
+     * @param cells The packed, row-major cell states.
+     * @param size  The width and height of the square grid.
+     */
+    static void count(byte[] cells, int size) {
+        if (cells.length < PARALLEL_THRESHOLD) {
+            countSerial(cells, size);
+        } else {
+            countParallel(cells, size);
+        }
+    }
+
+    /**
+     * Calculates all counts on the calling thread.
+     */
+    static void countSerial(byte[] cells, int size) {
+        countRows(cells, size, 0, size);
+    }
+
+    /**
+     * Calculates all counts by splitting the board into row bands on the common ForkJoinPool.
+     */
+    static void countParallel(byte[] cells, int size) {
+        int rowsPerBand = Math.max(1, BAND_CELLS / size);
+        ForkJoinPool.commonPool().invoke(new BandTask(cells, size, 0, size, rowsPerBand));
+    }
+
+    /**
+     * Calculates the counts for rows in [fromRow, toRow) with the selected row counter.
+     */
+    static void countRows(byte[] cells, int size, int fromRow, int toRow) {
+        if (VECTOR_ROW_COUNTER != null) {
+            VECTOR_ROW_COUNTER.countRows(cells, size, fromRow, toRow);
+        } else {
+            countRowsScalar(cells, size, fromRow, toRow);
+        }
+    }
+
+    /**
+     * Calculates the counts for rows in [fromRow, toRow), reading mine bits from the bordering rows.
+     */
+    static void countRowsScalar(byte[] cells, int size, int fromRow, int toRow) {
+        int[] above = new int[size]; // Stays all zero when there is no row above the band
+        int[] current = new int[size];
+        int[] below = new int[size];
+        if (fromRow > 0) {
+            horizontalSums(cells, size, fromRow - 1, above);
+        }
+        horizontalSums(cells, size, fromRow, current);
+        for (int row = fromRow; row < toRow; row++) {
+            if (row + 1 < size) {
+                horizontalSums(cells, size, row + 1, below);
+            } else {
+                Arrays.fill(below, 0); // No row below the last one
+            }
+            int rowStart = row * size;
+            for (int column = 0; column < size; column++) {
+                int index = rowStart + column;
+                int state = cells[index];
+                int mine = (state >>> Grid.MINE_SHIFT) & 1;
+                // Mines keep a count of 0, as they always have
+                int count = (above[column] + current[column] + below[column] - mine) & -(mine ^ 1);
+                cells[index] = (byte) ((state & ~Grid.COUNT_MASK) | count);
+            }
+            int[] recycled = above;
+            above = current;
+            current = below;
+            below = recycled;
+        }
+    }
+
+    /**
+     * Fills sums[c] with the number of mines among columns c-1, c and c+1 of the given row.
+     */
+    private static void horizontalSums(byte[] cells, int size, int row, int[] sums) {
+        int rowStart = row * size;
+        int left = 0;
+        int middle = (cells[rowStart] >>> Grid.MINE_SHIFT) & 1;
+        for (int column = 0; column < size; column++) {
+            int right = column + 1 < size ? (cells[rowStart + column + 1] >>> Grid.MINE_SHIFT) & 1 : 0;
+            sums[column] = left + middle + right;
+            left = middle;
+            middle = right;
+        }
+    }
+
+    /**
+     * Recursively splits a row range in half until it is small enough to count directly.
+     */
+    private static final class BandTask extends RecursiveAction {
+
+        private final byte[] cells;
+        private final int size;
+        private final int fromRow;
+        private final int toRow;
+        private final int rowsPerBand;
+
+        BandTask(byte[] cells, int size, int fromRow, int toRow, int rowsPerBand) {
+            this.cells = cells;
+            this.size = size;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.rowsPerBand = rowsPerBand;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= rowsPerBand) {
+                countRows(cells, size, fromRow, toRow);
+                return;
+            }
+            int middle = (fromRow + toRow) >>> 1;
+            invokeAll(new BandTask(cells, size, fromRow, middle, rowsPerBand),
+                    new BandTask(cells, size, middle, toRow, rowsPerBand));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.minesweeper.domain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Keeps counts of hidden, revealed and known-mine cells over a {@link Grid}, so that any rectangle of
+ * a large board can be summarized without visiting its cells.
+ * <p>
+ * The counts are held in two-dimensional Fenwick (binary indexed) trees, one int per cell for revealed
+ * safe cells and one for revealed mines. The mine tree is only allocated once a mine is shown, which
+ * normally happens at game over. Each tree node holds the count of an aligned block of
+ * {@code 2^a x 2^b} cells, so the trees form a mip pyramid that has rectangular blocks and is stored
+ * in place. A cell update touches one node per block size, and a rectangle count combines four
+ * prefix counts, so both take O(log^2 size) steps. That is about the best any structure can do for
+ * rectangle counts that change: a square quadtree needs O(perimeter) nodes for an unaligned rectangle.
+ * <p>
+ * Revealed mines are the only mines known to be mines, since the game has no flags. The summary follows
+ * the grid through its reveal log, like the ANSI output does: {@link #update()} adds the cells revealed
+ * since the last call, and keeps the {@link Zobrist} hash of what it has counted. When that hash differs
+ * from the grid's, as after {@link Grid#revealAllMines()}, it rebuilds the trees in one linear pass.
+ */
+public final class BoardSummary {
+
+    private final Grid grid;
+    private final int size;
+    private final int[] revealed; // Fenwick tree of revealed safe cells, row-major over the grid
+    private int[] knownMines; // Fenwick tree of revealed mines; null while there are none
+    private final BitSet counted = new BitSet(); // The cells included in the trees
+    private long countedHash;
+
+    /**
+     * Constructs a summary of a grid in its current state, in time linear in the number of cells.
+     *
+     * @param grid The grid to summarize.
+     */
+    public BoardSummary(Grid grid) {
+        this.grid = grid;
+        this.size = grid.getSize();
+        this.revealed = new int[grid.getCellCount()];
+        rebuild();
+    }
+
+    /**
+     * Gets the grid this summary follows.
+     *
+     * @return The grid.
+     */
+    public Grid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Catches up with the grid. Cells revealed by its last reveal are added in O(log^2 size) steps each;
+     * any other change since the previous update is found by the hash check and costs a rebuild.
+     * Call it after every reveal, or at least before counting.
+     */
+    public void update() {
+        long hash = countedHash;
+        int newCells = 0;
+        for (int i = 0; i < grid.getLastRevealCount(); i++) {
+            int index = grid.getLastRevealedCell(i);
+            if (!counted.get(index)) {
+                hash ^= Zobrist.key(index, grid.isMine(index) ? Zobrist.MINE : grid.getAdjacentMineCount(index));
+                newCells++;
+            }
+        }
+        if (hash != grid.getPositionHash()) {
+            rebuild(); // Something changed that the reveal log does not show
+            return;
+        }
+        if (newCells == 0) {
+            return;
+        }
+        for (int i = 0; i < grid.getLastRevealCount(); i++) {
+            int index = grid.getLastRevealedCell(i);
+            if (!counted.get(index)) {
+                counted.set(index);
+                add(grid.isMine(index) ? mineTree() : revealed, grid.rowOf(index), grid.columnOf(index));
+            }
+        }
+        countedHash = hash;
+    }
+
+    /**
+     * Counts the cells of a rectangle, as of the last {@link #update()}, in O(log^2 size) steps.
+     *
+     * @param rowStart    The first row, inclusive.
+     * @param columnStart The first column, inclusive.
+     * @param rowEnd      The last row, exclusive.
+     * @param columnEnd   The last column, exclusive.
+     * @return The hidden, revealed and known-mine counts of the rectangle.
+     * @throws IndexOutOfBoundsException if the rectangle is empty or not inside the grid.
+     */
+    public Counts count(int rowStart, int columnStart, int rowEnd, int columnEnd) {
+        if (rowStart < 0 || columnStart < 0 || rowEnd > size || columnEnd > size
+                || rowStart >= rowEnd || columnStart >= columnEnd) {
+            throw new IndexOutOfBoundsException(String.format("Rectangle rows %d-%d, columns %d-%d is not inside "
+                    + "a grid of size %d", rowStart, rowEnd, columnStart, columnEnd, size));
+        }
+        int area = (rowEnd - rowStart) * (columnEnd - columnStart);
+        int revealedCount = rectangleSum(revealed, rowStart, columnStart, rowEnd, columnEnd);
+        int mineCount = knownMines == null ? 0 : rectangleSum(knownMines, rowStart, columnStart, rowEnd, columnEnd);
+        return new Counts(area - revealedCount - mineCount, revealedCount, mineCount);
+    }
+
+    /**
+     * Counts the whole grid.
+     *
+     * @return The hidden, revealed and known-mine counts of every cell.
+     */
+    public Counts total() {
+        return count(0, 0, size, size);
+    }
+
+    /**
+     * Recounts every cell: the trees are filled with one value per cell, then each node passes its sum
+     * to its parent along the rows and then along the columns, so the whole build is linear.
+     */
+    private void rebuild() {
+        Arrays.fill(revealed, 0);
+        knownMines = null;
+        counted.clear();
+        for (int index = 0; index < revealed.length; index++) {
+            if (grid.isRevealed(index)) {
+                counted.set(index);
+                if (grid.isMine(index)) {
+                    mineTree()[index] = 1;
+                } else {
+                    revealed[index] = 1;
+                }
+            }
+        }
+        propagate(revealed);
+        if (knownMines != null) {
+            propagate(knownMines);
+        }
+        countedHash = grid.getPositionHash();
+    }
+
+    private void propagate(int[] tree) {
+        for (int row = 0; row < size; row++) {
+            int offset = row * size;
+            for (int column = 0; column < size; column++) {
+                int parent = column | (column + 1);
+                if (parent < size) {
+                    tree[offset + parent] += tree[offset + column];
+                }
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            int parent = row | (row + 1);
+            if (parent < size) {
+                int from = row * size;
+                int to = parent * size;
+                for (int column = 0; column < size; column++) {
+                    tree[to + column] += tree[from + column];
+                }
+            }
+        }
+    }
+
+    private int[] mineTree() {
+        if (knownMines == null) {
+            knownMines = new int[revealed.length];
+        }
+        return knownMines;
+    }
+
+    private void add(int[] tree, int row, int column) {
+        for (int r = row; r < size; r |= r + 1) {
+            int offset = r * size;
+            for (int c = column; c < size; c |= c + 1) {
+                tree[offset + c]++;
+            }
+        }
+    }
+
+    private int rectangleSum(int[] tree, int rowStart, int columnStart, int rowEnd, int columnEnd) {
+        return prefixSum(tree, rowEnd, columnEnd) - prefixSum(tree, rowStart, columnEnd)
+                - prefixSum(tree, rowEnd, columnStart) + prefixSum(tree, rowStart, columnStart);
+    }
+
+    /**
+     * Sums the cells in rows {@code [0, rows)} and columns {@code [0, columns)}.
+     */
+    private int prefixSum(int[] tree, int rows, int columns) {
+        int sum = 0;
+        for (int r = rows - 1; r >= 0; r = (r & (r + 1)) - 1) {
+            int offset = r * size;
+            for (int c = columns - 1; c >= 0; c = (c & (c + 1)) - 1) {
+                sum += tree[offset + c];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * The cells of a rectangle by what a player can see.
+     *
+     * @param hidden     The cells not revealed, mines included.
+     * @param revealed   The revealed safe cells.
+     * @param knownMines The revealed mines.
+     */
+    public record Counts(int hidden, int revealed, int knownMines) {
+
+        /**
+         * Gets the number of cells counted.
+         *
+         * @return The area of the rectangle.
+         */
+        public int area() {
+            return hidden + revealed + knownMines;
+        }
+
+        /**
+         * Gets the share of the rectangle that is revealed, mines included.
+         *
+         * @return The fraction from 0 to 1.
+         */
+        public double revealedFraction() {
+            return (double) (revealed + knownMines) / area();
+        }
+    }
+}
@@ -4,12 +4,16 @@ package com.minesweeper.domain;
  * Represents a single cell on the Minesweeper grid.
  * It holds information about whether it contains a mine,
  * its revealed state, and the count of adjacent mines.
+ * <p>
+ * A Cell obtained from {@link Grid#getCell(Coordinates)} is a lightweight view over
+ * the grid's packed storage: reads and writes go straight through to the grid.
+ * A Cell created with the public constructor is detached and keeps its own state.
  */
 public class Cell {
 
-    private boolean isMine;
-    private boolean isRevealed;
-    private int adjacentMineCount;
+    private final Grid grid;
+    private final int index;
+    private byte state;
 
     /**
      * Constructs a new Cell.
@@ -17,9 +21,19 @@ public class Cell {
      * and has an adjacent mine count of 0.
      */
     public Cell() {
-        this.isMine = false;
-        this.isRevealed = false;
-        this.adjacentMineCount = 0; // Default value
+        this(null, 0);
+    }
+
+    /**
+     * Constructs a view of the cell stored at the given flat index of a grid.
+     *
+     * @param grid  The grid that owns the cell state.
+     * @param index The flat index of the cell within the grid.
+     */
+    Cell(Grid grid, int index) {
+        this.grid = grid;
+        this.index = index;
+        this.state = 0; // Only used by detached cells
     }
 
     /**
@@ -28,7 +42,7 @@ public class Cell {
      * @return true if the cell contains a mine, false otherwise.
      */
     public boolean isMine() {
-        return isMine;
+        return (state() & Grid.MINE_BIT) != 0;
     }
 
     /**
@@ -37,7 +51,7 @@ public class Cell {
      * @return true if the cell is revealed, false otherwise.
      */
     public boolean isRevealed() {
-        return isRevealed;
+        return (state() & Grid.REVEALED_BIT) != 0;
     }
 
     /**
@@ -47,30 +61,51 @@ public class Cell {
      * @return The count of adjacent mines.
      */
     public int getAdjacentMineCount() {
-        return adjacentMineCount;
+        return state() & Grid.COUNT_MASK;
     }
 
     /**
      * Sets the count of adjacent mines for this cell.
      *
      * @param adjacentMineCount The number of adjacent mines.
+     * @throws IllegalArgumentException if the count is outside the range 0-8.
      */
     public void setAdjacentMineCount(int adjacentMineCount) {
-        this.adjacentMineCount = adjacentMineCount;
+        if (adjacentMineCount < 0 || adjacentMineCount > Grid.MAX_ADJACENT_MINES) {
+            throw new IllegalArgumentException("Adjacent mine count must be between 0 and "
+                    + Grid.MAX_ADJACENT_MINES + ", but was " + adjacentMineCount);
+        }
+        if (grid == null) {
+            state = (byte) ((state & ~Grid.COUNT_MASK) | adjacentMineCount);
+        } else {
+            grid.setAdjacentMineCount(index, adjacentMineCount);
+        }
     }
 
     /**
      * Places a mine in this cell. Should typically only be called during grid setup.
      */
     public void placeMine() {
-        this.isMine = true;
+        if (grid == null) {
+            state |= Grid.MINE_BIT;
+        } else {
+            grid.placeMine(index);
+        }
     }
 
     /**
      * Marks this cell as revealed. This action is usually triggered by the player.
      */
     public void reveal() {
-        this.isRevealed = true;
+        if (grid == null) {
+            state |= Grid.REVEALED_BIT;
+        } else {
+            grid.markRevealed(index);
+        }
+    }
+
+    private int state() {
+        return grid == null ? state : grid.stateAt(index);
     }
 
-} 
\ No newline at end of file
+}
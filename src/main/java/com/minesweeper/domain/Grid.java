@@ -1,6 +1,7 @@
 package com.minesweeper.domain;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.minesweeper.handler.MinePlacer;
@@ -8,34 +9,105 @@ import com.minesweeper.handler.MinePlacer;
 /**
  * Represents the Minesweeper game board, containing a 2D arrangement of Cells.
  * Manages the creation and access to cells within the grid boundaries.
+ * <p>
+ * Cell state is packed into a single byte per cell in a flat, row-major array:
+ * bits 0-3 hold the adjacent mine count, bit 4 the mine flag and bit 5 the revealed flag.
+ * The previous {@code Cell[][]} layout cost roughly 28 bytes per cell on a 64-bit JVM with
+ * compressed references (a 24-byte Cell object plus a 4-byte array slot), so a
+ * 10,000x10,000 board needed about 2.8 GB of heap; the packed layout needs 1 byte per cell,
+ * or about 100 MB for the same board. {@link #getCell(Coordinates)} returns a lightweight
+ * {@link Cell} view over this storage.
+ * <p>
+ * The grid also keeps the {@link Zobrist} hash of its revealed cells, updated with one XOR per
+ * revealed cell, so positions can be compared or cached in constant time.
  */
 public class Grid {
 
+    static final int COUNT_MASK = 0x0F;
+    static final int MINE_SHIFT = 4;
+    static final int MINE_BIT = 1 << MINE_SHIFT;
+    static final int REVEALED_BIT = 0x20;
+    static final int MAX_ADJACENT_MINES = 8;
+    private static final int INITIAL_REVEAL_STACK_CAPACITY = 64;
+    private static final int INITIAL_MINE_INDEX_CAPACITY = 16;
+
+    /**
+     * The maximum number of neighbors a cell can have; neighbor buffers must be at least this long.
+     */
+    public static final int MAX_NEIGHBORS = 8;
+
+    // Edge class bits for a row or column: whether a line exists before and after it
+    private static final int HAS_PREVIOUS = 1;
+    private static final int HAS_NEXT = 2;
+
     private final int size;
-    private final Cell[][] cells;
+    private final byte[] cells;
+    private int[] revealStack = new int[INITIAL_REVEAL_STACK_CAPACITY]; // Reused across cascades
+    private int[] revealLog = new int[INITIAL_REVEAL_STACK_CAPACITY]; // Cells revealed by the latest revealCell
+    private int revealLogSize;
+    private final int[] neighborBuffer = new int[MAX_NEIGHBORS];
+    private int[] mineIndices = new int[INITIAL_MINE_INDEX_CAPACITY];
+    private int mineCount;
+    private int hiddenSafeCellCount;
+    private long positionHash;
+    private int threeBv = -1; // Computed on first request; -1 until then
+    // Edge class of each row/column index (the grid is square, so one table serves both axes)
+    private final byte[] edgeClasses;
+    // Flat neighbor offsets for each (row edge class, column edge class) pair, indexed by rowClass * 4 + columnClass
+    private final int[][] neighborOffsets;
 
     /**
      * Constructs a new Grid of the specified size.
      * Initializes all cells to their default state.
      *
      * @param size The width and height of the square grid.
-     * @throws IllegalArgumentException if size is not positive.
+     * @throws IllegalArgumentException if size is not positive, or too large to index.
      */
     public Grid(int size) {
         if (size <= 0) {
             throw new IllegalArgumentException("Grid size must be positive, but was " + size);
         }
+        if ((long) size * size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid size is too large: " + size);
+        }
         this.size = size;
-        this.cells = new Cell[size][size];
-        initializeCells();
+        this.cells = new byte[size * size]; // All cells start hidden, mine-free, with a count of 0
+        this.hiddenSafeCellCount = cells.length;
+        this.positionHash = Zobrist.emptyHash(size);
+        this.edgeClasses = buildEdgeClasses(size);
+        this.neighborOffsets = buildNeighborOffsets(size);
     }
 
-    private void initializeCells() {
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                cells[r][c] = new Cell();
+    private static byte[] buildEdgeClasses(int size) {
+        byte[] classes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            classes[i] = (byte) ((i > 0 ? HAS_PREVIOUS : 0) | (i < size - 1 ? HAS_NEXT : 0));
+        }
+        return classes;
+    }
+
+    private static int[][] buildNeighborOffsets(int size) {
+        int[][] offsets = new int[16][];
+        for (int rowClass = 0; rowClass < 4; rowClass++) {
+            for (int columnClass = 0; columnClass < 4; columnClass++) {
+                int[] buffer = new int[MAX_NEIGHBORS];
+                int count = 0;
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        if ((dr == 0 && dc == 0) || !hasLine(rowClass, dr) || !hasLine(columnClass, dc)) {
+                            continue;
+                        }
+                        buffer[count++] = dr * size + dc;
+                    }
+                }
+                offsets[rowClass * 4 + columnClass] = Arrays.copyOf(buffer, count);
             }
         }
+        return offsets;
+    }
+
+    private static boolean hasLine(int edgeClass, int delta) {
+        return delta == 0 || (delta < 0 ? (edgeClass & HAS_PREVIOUS) != 0 : (edgeClass & HAS_NEXT) != 0);
     }
 
     /**
@@ -58,7 +130,7 @@ public class Grid {
         if (!isValidCoordinate(coordinates)) {
             throw new IndexOutOfBoundsException("Coordinates out of bounds: " + coordinates + " for grid size " + size);
         }
-        return cells[coordinates.row()][coordinates.column()];
+        return new Cell(this, indexOf(coordinates.row(), coordinates.column()));
     }
 
     /**
@@ -85,27 +157,107 @@ public class Grid {
             throw new IndexOutOfBoundsException("Cannot get neighbors for coordinates outside the grid: " + coordinates);
         }
 
-        List<Coordinates> neighbors = new ArrayList<>();
-        int r = coordinates.row();
-        int c = coordinates.column();
+        int[] offsets = offsetsFor(coordinates.row(), coordinates.column());
+        int center = indexOf(coordinates.row(), coordinates.column());
+        List<Coordinates> neighbors = new ArrayList<>(offsets.length);
+        for (int offset : offsets) {
+            int neighbor = center + offset;
+            neighbors.add(new Coordinates(rowOf(neighbor), columnOf(neighbor)));
+        }
+        return neighbors;
+    }
 
-        // Loop through the 3x3 area around the cell
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                // Skip the center cell itself
-                if (dr == 0 && dc == 0) {
-                    continue;
-                }
+    /**
+     * Gets the total number of cells on the grid, which is also the exclusive upper bound of flat indices.
+     *
+     * @return The number of cells.
+     */
+    public int getCellCount() {
+        return cells.length;
+    }
 
-                Coordinates neighborCoordinates = new Coordinates(r + dr, c + dc);
+    /**
+     * Converts a row and column into a flat, row-major cell index. Bounds are not checked.
+     *
+     * @param row    The row index.
+     * @param column The column index.
+     * @return The flat index of the cell.
+     */
+    public int indexOf(int row, int column) {
+        return row * size + column;
+    }
 
-                // Check if the neighbor coordinates are within the grid bounds
-                if (isValidCoordinate(neighborCoordinates)) {
-                    neighbors.add(neighborCoordinates);
-                }
-            }
+    /**
+     * Gets the row of a flat cell index.
+     *
+     * @param index The flat index of a cell.
+     * @return The row index.
+     */
+    public int rowOf(int index) {
+        return index / size;
+    }
+
+    /**
+     * Gets the column of a flat cell index.
+     *
+     * @param index The flat index of a cell.
+     * @return The column index.
+     */
+    public int columnOf(int index) {
+        return index % size;
+    }
+
+    /**
+     * Writes the flat indices of all cells adjacent (including diagonals) to the given cell
+     * into the supplied buffer. Grid edges are handled by precomputed offset tables, so the
+     * call performs no bounds checks per neighbor and allocates nothing.
+     *
+     * @param index  The flat index of the center cell.
+     * @param buffer The buffer to fill; must hold at least {@link #MAX_NEIGHBORS} entries.
+     * @return The number of neighbors written to the buffer.
+     * @throws IndexOutOfBoundsException if the index is outside the grid.
+     */
+    public int getNeighbors(int index, int[] buffer) {
+        int row = index / size;
+        int[] offsets = offsetsFor(row, index - row * size);
+        for (int i = 0; i < offsets.length; i++) {
+            buffer[i] = index + offsets[i];
         }
-        return neighbors;
+        return offsets.length;
+    }
+
+    private int[] offsetsFor(int row, int column) {
+        return neighborOffsets[edgeClasses[row] * 4 + edgeClasses[column]];
+    }
+
+    /**
+     * Checks if the cell at the given flat index contains a mine.
+     *
+     * @param index The flat index of the cell.
+     * @return true if the cell contains a mine, false otherwise.
+     */
+    public boolean isMine(int index) {
+        return (cells[index] & MINE_BIT) != 0;
+    }
+
+    /**
+     * Checks if the cell at the given flat index has been revealed.
+     *
+     * @param index The flat index of the cell.
+     * @return true if the cell is revealed, false otherwise.
+     */
+    public boolean isRevealed(int index) {
+        return (cells[index] & REVEALED_BIT) != 0;
+    }
+
+    /**
+     * Gets the adjacent mine count of the cell at the given flat index.
+     *
+     * @param index The flat index of the cell.
+     * @return The count of adjacent mines.
+     */
+    public int getAdjacentMineCount(int index) {
+        return cells[index] & COUNT_MASK;
     }
 
     /**
@@ -122,30 +274,27 @@ public class Grid {
         calculateAdjacentMineCounts();
     }
 
+    /**
+     * Initializes the grid like {@link #initialize(MinePlacer, int)}, telling the placer which cell the
+     * player reveals first.
+     *
+     * @param minePlacer   The strategy for placing mines.
+     * @param mineCount    The total number of mines to place.
+     * @param openingIndex The flat index of the first cell the player reveals.
+     */
+    public void initialize(MinePlacer minePlacer, int mineCount, int openingIndex) {
+        minePlacer.placeMines(this, mineCount, openingIndex);
+        calculateAdjacentMineCounts();
+    }
+
     /**
      * Calculates and sets the adjacent mine count for every non-mine cell in the grid.
      * This should be called after mines have been placed.
      */
     private void calculateAdjacentMineCounts() {
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                Coordinates currentCoordinates = new Coordinates(row, col);
-                Cell currentCell = getCell(currentCoordinates);
-                // Skip calculation for cells that are mines themselves
-                if (currentCell.isMine()) {
-                    continue;
-                }
-                int adjacentMines = 0;
-                List<Coordinates> neighbors = getAdjacentCoordinates(currentCoordinates);
-                for (Coordinates neighborCoordinates : neighbors) {
-                    // No need to check bounds here, getAdjacentCoordinates handles it
-                    if (getCell(neighborCoordinates).isMine()) {
-                        adjacentMines++;
-                    }
-                }
-                currentCell.setAdjacentMineCount(adjacentMines);
-            }
-        }
+        AdjacencyCounter.count(cells, size);
+        threeBv = -1;
+        positionHash = Zobrist.hashOf(this); // Counts of cells revealed before initialization may have changed
     }
 
     /**
@@ -154,79 +303,346 @@ public class Grid {
      * of adjacent non-mine, hidden cells.
      *
      * @param coordinates The coordinates of the cell to reveal.
+     * @return The number of cells revealed, including the cascade; 0 if the cell was already revealed.
      * @throws IndexOutOfBoundsException if the coordinates are outside the grid.
      */
-    public void revealCell(Coordinates coordinates) {
-        // getCell handles the bounds check
-        Cell cell = getCell(coordinates);
+    public int revealCell(Coordinates coordinates) {
+        if (!isValidCoordinate(coordinates)) {
+            throw new IndexOutOfBoundsException("Coordinates out of bounds: " + coordinates + " for grid size " + size);
+        }
+        return revealCell(indexOf(coordinates.row(), coordinates.column()));
+    }
+
+    /**
+     * Reveals the cell at the given flat index, cascading from zero-count cells like
+     * {@link #revealCell(Coordinates)}. The revealed cells can be read back with
+     * {@link #getLastRevealedCell(int)} until the next reveal.
+     *
+     * @param index The flat index of the cell to reveal.
+     * @return The number of cells revealed, including the cascade; 0 if the cell was already revealed.
+     * @throws IndexOutOfBoundsException if the index is outside the grid.
+     */
+    public int revealCell(int index) {
+        revealLogSize = 0;
 
         // Do nothing if the cell is already revealed
-        if (cell.isRevealed()) {
-            return;
+        if (!reveal(index)) {
+            return 0;
         }
+        logReveal(index);
 
-        cell.reveal();
+        if ((cells[index] & COUNT_MASK) == 0) {
+            revealAdjacentCells(index);
+        }
+        return revealLogSize;
+    }
 
-        if (cell.getAdjacentMineCount() == 0) {
-            revealAdjacentCells(coordinates);
+    /**
+     * Gets the number of cells revealed by the most recent {@code revealCell} call.
+     *
+     * @return The number of cells, including the cascade.
+     */
+    public int getLastRevealCount() {
+        return revealLogSize;
+    }
+
+    /**
+     * Gets one of the cells revealed by the most recent {@code revealCell} call.
+     * The first entry is the cell that was asked for; cascaded cells follow.
+     *
+     * @param i The position in the reveal, from 0 to {@link #getLastRevealCount()} - 1.
+     * @return The flat index of the revealed cell.
+     * @throws IndexOutOfBoundsException if i is not a valid position.
+     */
+    public int getLastRevealedCell(int i) {
+        if (i < 0 || i >= revealLogSize) {
+            throw new IndexOutOfBoundsException("Reveal position " + i + " out of range 0.." + (revealLogSize - 1));
         }
+        return revealLog[i];
+    }
 
+    private void logReveal(int index) {
+        if (revealLogSize == revealLog.length) {
+            revealLog = Arrays.copyOf(revealLog, revealLogSize * 2);
+        }
+        revealLog[revealLogSize++] = index;
     }
 
     /**
-     * Recursively reveals adjacent cells that have no adjacent mines.
-     * 
-     * @param center The coordinates of the cell to start revealing from.
+     * Iteratively reveals the region around a zero-count cell.
+     * Uses an explicit stack of flat indices instead of recursion, so the Java stack depth
+     * stays constant however large the connected zero region is. Cells are marked revealed
+     * before they are pushed, so each cell enters the stack at most once.
+     *
+     * @param start The flat index of an already revealed cell with zero adjacent mines.
      */
-    private void revealAdjacentCells(Coordinates center) {
-        int[] directions = {-1, 0, 1};
-        for (int rowOffset : directions) {
-            for (int colOffset : directions) {
-                // Skip the center cell itself
-                if (rowOffset == 0 && colOffset == 0) {
+    private void revealAdjacentCells(int start) {
+        int top = 0;
+        revealStack[top++] = start;
+        while (top > 0) {
+            int center = revealStack[--top];
+            int neighborCount = getNeighbors(center, neighborBuffer);
+            for (int i = 0; i < neighborCount; i++) {
+                int neighbor = neighborBuffer[i];
+                if (!reveal(neighbor)) {
                     continue;
                 }
-                Coordinates neighborCoordinates = new Coordinates(
-                        center.row() + rowOffset,
-                        center.column() + colOffset
-                );
-                if (isValidCoordinate(neighborCoordinates)) {
-                    revealCell(neighborCoordinates);
+                logReveal(neighbor);
+                if ((cells[neighbor] & COUNT_MASK) == 0) {
+                    if (top == revealStack.length) {
+                        revealStack = Arrays.copyOf(revealStack, top * 2);
+                    }
+                    revealStack[top++] = neighbor;
                 }
             }
         }
     }
 
+    /**
+     * Gets the 3BV of the board: the minimum number of clicks that clear it. It is computed by
+     * {@link ThreeBvScorer} on the first call after {@link #initialize(MinePlacer, int)} and cached,
+     * so games that never ask for it pay nothing.
+     *
+     * @return The 3BV of the board.
+     */
+    public int getThreeBv() {
+        if (threeBv < 0) {
+            threeBv = ThreeBvScorer.score(cells, size);
+        }
+        return threeBv;
+    }
 
     /**
-     * Checks if all cells that do not contain mines have been revealed.
+     * Gets the Zobrist hash of the revealed cells and what they show. Equal positions on grids of the
+     * same size have equal hashes.
      *
-     * @return true if all non-mine cells are revealed, false otherwise.
+     * @return The 64-bit position hash.
      */
-    public boolean areAllNonMinesRevealed() {
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                Cell cell = cells[r][c];
-                // If we find a cell that is NOT a mine AND is NOT revealed, the condition is false
-                if (!cell.isMine() && !cell.isRevealed()) {
-                    return false;
-                }
+    public long getPositionHash() {
+        return positionHash;
+    }
+
+    /**
+     * Makes this grid an exact copy of another grid of the same size: its mines, revealed cells and
+     * counters, and the cells revealed by its last reveal. The copy costs one array copy of a byte per
+     * cell, which makes it a cheap snapshot to hand to another thread.
+     *
+     * @param source The grid to copy.
+     * @throws IllegalArgumentException if the grids differ in size.
+     */
+    public void copyFrom(Grid source) {
+        copyFrom(source, false);
+    }
+
+    /**
+     * Copies another grid like {@link #copyFrom(Grid)}, optionally keeping this grid's reveal log. When
+     * kept, the source's last reveal is put in front of it, so a copy that skips intermediate states
+     * still lists every cell revealed since, with the cell most recently asked for first.
+     *
+     * @param source         The grid to copy.
+     * @param mergeRevealLog true to add the source's last reveal to this grid's log instead of replacing it.
+     * @throws IllegalArgumentException if the grids differ in size.
+     */
+    public void copyFrom(Grid source, boolean mergeRevealLog) {
+        if (source.size != size) {
+            throw new IllegalArgumentException("Cannot copy a grid of size " + source.size + " into size " + size);
+        }
+        System.arraycopy(source.cells, 0, cells, 0, cells.length);
+        if (mineIndices.length < source.mineCount) {
+            mineIndices = new int[source.mineIndices.length];
+        }
+        System.arraycopy(source.mineIndices, 0, mineIndices, 0, source.mineCount);
+        mineCount = source.mineCount;
+        hiddenSafeCellCount = source.hiddenSafeCellCount;
+        positionHash = source.positionHash;
+        threeBv = source.threeBv;
+
+        int kept = mergeRevealLog ? revealLogSize : 0;
+        int logSize = source.revealLogSize + kept;
+        if (revealLog.length < logSize) {
+            revealLog = Arrays.copyOf(revealLog, Math.max(logSize, revealLog.length * 2));
+        }
+        System.arraycopy(revealLog, 0, revealLog, source.revealLogSize, kept);
+        System.arraycopy(source.revealLog, 0, revealLog, 0, source.revealLogSize);
+        revealLogSize = logSize;
+    }
+
+    /**
+     * Gets the Zobrist key of a revealed cell in its current state.
+     */
+    private long shownKey(int index) {
+        int state = cells[index];
+        return Zobrist.key(index, (state & MINE_BIT) != 0 ? Zobrist.MINE : state & COUNT_MASK);
+    }
+
+    /**
+     * Returns the packed state array itself, for the scorers in this package; callers must not modify it.
+     */
+    byte[] packedCells() {
+        return cells;
+    }
+
+    /**
+     * Returns the packed state byte of the cell at the given flat index.
+     */
+    int stateAt(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Places a mine in the cell at the given flat index, recording it in the mine index.
+     * Placing a mine where one already exists has no effect.
+     *
+     * @param index The flat index of the cell.
+     */
+    public void placeMine(int index) {
+        int state = cells[index];
+        if ((state & MINE_BIT) != 0) {
+            return;
+        }
+        boolean revealed = (state & REVEALED_BIT) != 0;
+        if (revealed) {
+            positionHash ^= shownKey(index);
+        }
+        cells[index] = (byte) (state | MINE_BIT);
+        threeBv = -1;
+        if (revealed) {
+            positionHash ^= shownKey(index);
+        }
+        if (mineCount == mineIndices.length) {
+            mineIndices = Arrays.copyOf(mineIndices, mineCount * 2);
+        }
+        mineIndices[mineCount++] = index;
+        if ((state & REVEALED_BIT) == 0) {
+            hiddenSafeCellCount--; // A hidden safe cell just became a mine
+        }
+    }
+
+    /**
+     * Moves a mine from one hidden cell to another and updates the adjacent mine counts around both,
+     * for generators that repair a layout after the grid has been initialized.
+     *
+     * @param from The flat index of a hidden mine.
+     * @param to   The flat index of a hidden cell without a mine.
+     * @throws IllegalArgumentException if either cell is revealed, from holds no mine, or to already holds one.
+     */
+    public void moveMine(int from, int to) {
+        if ((cells[from] & (MINE_BIT | REVEALED_BIT)) != MINE_BIT) {
+            throw new IllegalArgumentException("Cell " + from + " is not a hidden mine");
+        }
+        if ((cells[to] & (MINE_BIT | REVEALED_BIT)) != 0) {
+            throw new IllegalArgumentException("Cell " + to + " is not a hidden safe cell");
+        }
+        for (int i = 0; i < mineCount; i++) {
+            if (mineIndices[i] == from) {
+                mineIndices[i] = to;
+                break;
             }
         }
-        // If the loop completes without finding any unrevealed non-mine cells, the condition is true
+        cells[from] &= ~MINE_BIT;
+        cells[to] = (byte) ((cells[to] | MINE_BIT) & ~COUNT_MASK); // Mines keep a count of 0
+        int neighborCount = getNeighbors(from, neighborBuffer);
+        for (int i = 0; i < neighborCount; i++) {
+            int neighbor = neighborBuffer[i];
+            if ((cells[neighbor] & MINE_BIT) == 0) {
+                setAdjacentMineCount(neighbor, (cells[neighbor] & COUNT_MASK) - 1);
+            }
+        }
+        neighborCount = getNeighbors(to, neighborBuffer);
+        for (int i = 0; i < neighborCount; i++) {
+            int neighbor = neighborBuffer[i];
+            if ((cells[neighbor] & MINE_BIT) == 0) {
+                setAdjacentMineCount(neighbor, (cells[neighbor] & COUNT_MASK) + 1);
+            }
+        }
+        // The old mine cell now needs a count of its own
+        int count = 0;
+        neighborCount = getNeighbors(from, neighborBuffer);
+        for (int i = 0; i < neighborCount; i++) {
+            count += (cells[neighborBuffer[i]] & MINE_BIT) >>> MINE_SHIFT;
+        }
+        setAdjacentMineCount(from, count);
+    }
+
+    /**
+     * Marks the cell at the given flat index as revealed, without cascading.
+     */
+    void markRevealed(int index) {
+        reveal(index);
+    }
+
+    /**
+     * Sets the revealed bit of a cell and keeps the hidden safe cell counter in step.
+     *
+     * @return true if the cell was hidden before this call, false if it was already revealed.
+     */
+    private boolean reveal(int index) {
+        int state = cells[index];
+        if ((state & REVEALED_BIT) != 0) {
+            return false;
+        }
+        cells[index] = (byte) (state | REVEALED_BIT);
+        positionHash ^= shownKey(index);
+        if ((state & MINE_BIT) == 0) {
+            hiddenSafeCellCount--;
+        }
         return true;
     }
 
+    /**
+     * Stores the adjacent mine count of the cell at the given flat index.
+     */
+    void setAdjacentMineCount(int index, int count) {
+        boolean revealed = (cells[index] & REVEALED_BIT) != 0;
+        if (revealed) {
+            positionHash ^= shownKey(index);
+        }
+        cells[index] = (byte) ((cells[index] & ~COUNT_MASK) | count);
+        threeBv = -1;
+        if (revealed) {
+            positionHash ^= shownKey(index);
+        }
+    }
+
+    /**
+     * Gets the number of mines placed on the grid.
+     *
+     * @return The number of mine cells.
+     */
+    public int getMineCount() {
+        return mineCount;
+    }
+
+    /**
+     * Gets the number of cells that do not contain a mine and are still hidden.
+     * The count is maintained incrementally by the reveal and mine placement paths.
+     *
+     * @return The number of hidden safe cells.
+     */
+    public int getHiddenSafeCellCount() {
+        return hiddenSafeCellCount;
+    }
+
+    /**
+     * Checks if all cells that do not contain mines have been revealed.
+     * Runs in constant time using the hidden safe cell counter.
+     *
+     * @return true if all non-mine cells are revealed, false otherwise.
+     */
+    public boolean areAllNonMinesRevealed() {
+        return hiddenSafeCellCount == 0;
+    }
+
     /**
      * Helper method to reveal all mine locations, typically used at game over.
+     * Walks the mine index, so it runs in time proportional to the number of mines.
      */
     public void revealAllMines() {
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                Cell cell = cells[r][c];
-                if (cell.isMine()) {
-                    cell.reveal();
-                }
+        for (int i = 0; i < mineCount; i++) {
+            int mine = mineIndices[i];
+            if ((cells[mine] & REVEALED_BIT) == 0) {
+                cells[mine] |= REVEALED_BIT;
+                positionHash ^= shownKey(mine);
             }
         }
     }
@@ -0,0 +1,219 @@
+package com.minesweeper.domain;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes the 3BV (Bechtel's Board Benchmark Value) of a board: the minimum number of clicks that
+ * clear it without flags. Every opening (an 8-connected region of zero cells) takes one click, which
+ * also reveals the numbers around it, and every numbered cell that touches no zero cell takes one
+ * click of its own.
+ * <p>
+ * Zero cells are labelled with a union-find over a flat parent array in one raster pass: each zero cell
+ * is joined to the zero cells among its left, upper-left, upper and upper-right neighbors, always
+ * linking to the smaller root, and the pass counts the components it creates and the isolated numbers
+ * it meets. Large boards are split into row bands that are labelled in parallel on the common
+ * ForkJoinPool, each band ignoring the row above it; the band borders are then merged on the calling
+ * thread, and every union that joins two components there removes one from the total. Bands only
+ * write the parent entries of their own rows, so they need no coordination.
+ */
+public final class ThreeBvScorer {
+
+    /**
+     * Boards with fewer cells than this are scored on the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    /**
+     * Bands are split until they cover at most this many cells.
+     */
+    private static final int BAND_CELLS = 1 << 16;
+
+    private static final int ZERO_MASK = Grid.MINE_BIT | Grid.COUNT_MASK; // Both clear on a zero cell
+
+    private ThreeBvScorer() {
+    }
+
+    /**
+     * Computes the 3BV of a grid whose mines are placed and counted, choosing the serial or parallel
+     * pass based on the board size. {@link Grid#getThreeBv()} caches the result.
+     *
+     * @param grid The grid to score.
+     * @return The minimum number of clicks that clear the board.
+     */
+    public static int score(Grid grid) {
+        return score(grid.packedCells(), grid.getSize());
+    }
+
+    static int score(byte[] cells, int size) {
+        if (cells.length < PARALLEL_THRESHOLD) {
+            return scoreSerial(cells, size);
+        }
+        return scoreParallel(cells, size, Math.max(1, BAND_CELLS / size));
+    }
+
+    /**
+     * Scores the whole board on the calling thread.
+     */
+    static int scoreSerial(byte[] cells, int size) {
+        int[] parent = new int[cells.length];
+        return (int) scoreRows(cells, size, parent, 0, size);
+    }
+
+    /**
+     * Scores the board in bands of {@code rowsPerBand} rows on the common ForkJoinPool, then merges the
+     * band borders.
+     */
+    static int scoreParallel(byte[] cells, int size, int rowsPerBand) {
+        int[] parent = new int[cells.length];
+        long count = ForkJoinPool.commonPool().invoke(new BandTask(cells, size, parent, 0, size, rowsPerBand));
+        for (int row = rowsPerBand; row < size; row += rowsPerBand) {
+            count -= mergeBorder(cells, size, parent, row);
+        }
+        return (int) count;
+    }
+
+    /**
+     * Labels the zero cells of rows [fromRow, toRow) without looking above {@code fromRow}.
+     *
+     * @return The zero components found in the band plus its isolated numbered cells.
+     */
+    static long scoreRows(byte[] cells, int size, int[] parent, int fromRow, int toRow) {
+        long count = 0;
+        for (int row = fromRow; row < toRow; row++) {
+            boolean hasAbove = row > fromRow;
+            int rowStart = row * size;
+            for (int column = 0; column < size; column++) {
+                int index = rowStart + column;
+                int state = cells[index];
+                if ((state & Grid.MINE_BIT) != 0) {
+                    continue;
+                }
+                if ((state & Grid.COUNT_MASK) != 0) {
+                    if (!touchesZero(cells, size, row, column)) {
+                        count++; // A number that no opening reveals
+                    }
+                    continue;
+                }
+                parent[index] = index;
+                count++; // A new component, until a union below merges it away
+                if (column > 0 && isZero(cells, index - 1)) {
+                    count -= union(parent, index - 1, index);
+                }
+                if (hasAbove) {
+                    int above = index - size;
+                    if (column > 0 && isZero(cells, above - 1)) {
+                        count -= union(parent, above - 1, index);
+                    }
+                    if (isZero(cells, above)) {
+                        count -= union(parent, above, index);
+                    }
+                    if (column + 1 < size && isZero(cells, above + 1)) {
+                        count -= union(parent, above + 1, index);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Joins the zero cells of {@code row} to those of the row above it, across a band border.
+     *
+     * @return The number of unions that joined two separate components.
+     */
+    private static int mergeBorder(byte[] cells, int size, int[] parent, int row) {
+        int merged = 0;
+        int rowStart = row * size;
+        for (int column = 0; column < size; column++) {
+            int index = rowStart + column;
+            if (!isZero(cells, index)) {
+                continue;
+            }
+            int above = index - size;
+            if (column > 0 && isZero(cells, above - 1)) {
+                merged += union(parent, above - 1, index);
+            }
+            if (isZero(cells, above)) {
+                merged += union(parent, above, index);
+            }
+            if (column + 1 < size && isZero(cells, above + 1)) {
+                merged += union(parent, above + 1, index);
+            }
+        }
+        return merged;
+    }
+
+    private static boolean touchesZero(byte[] cells, int size, int row, int column) {
+        for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, size - 1); r++) {
+            for (int c = Math.max(column - 1, 0); c <= Math.min(column + 1, size - 1); c++) {
+                if (isZero(cells, r * size + c)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZero(byte[] cells, int index) {
+        return (cells[index] & ZERO_MASK) == 0;
+    }
+
+    private static int find(int[] parent, int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]]; // Path halving
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    /**
+     * Links the roots of two cells, the larger under the smaller.
+     *
+     * @return 1 if the cells were in separate components, 0 otherwise.
+     */
+    private static int union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA == rootB) {
+            return 0;
+        }
+        parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        return 1;
+    }
+
+    /**
+     * Recursively splits a row range in half until it is small enough to score directly.
+     */
+    private static final class BandTask extends RecursiveTask<Long> {
+
+        private final byte[] cells;
+        private final int size;
+        private final int[] parent;
+        private final int fromRow;
+        private final int toRow;
+        private final int rowsPerBand;
+
+        BandTask(byte[] cells, int size, int[] parent, int fromRow, int toRow, int rowsPerBand) {
+            this.cells = cells;
+            this.size = size;
+            this.parent = parent;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.rowsPerBand = rowsPerBand;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toRow - fromRow <= rowsPerBand) {
+                return scoreRows(cells, size, parent, fromRow, toRow);
+            }
+            // Split on a band boundary, so the borders merged afterwards are exactly the band starts
+            int middle = fromRow + (toRow - fromRow + rowsPerBand - 1) / rowsPerBand / 2 * rowsPerBand;
+            BandTask upper = new BandTask(cells, size, parent, fromRow, middle, rowsPerBand);
+            BandTask lower = new BandTask(cells, size, parent, middle, toRow, rowsPerBand);
+            invokeAll(upper, lower);
+            return upper.join() + lower.join();
+        }
+    }
+}
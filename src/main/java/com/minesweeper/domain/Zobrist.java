@@ -0,0 +1,68 @@
+package com.minesweeper.domain;
+
+/**
+ * Zobrist hashing of what a player can see on a board.
+ * <p>
+ * A position hashes to the XOR of one 64-bit key per revealed cell, chosen by the cell's index and
+ * what it shows (its adjacent mine count, or {@link #MINE} for a revealed mine), so revealing a cell
+ * updates the hash with a single XOR. Instead of a table of random keys, which would cost 80 bytes per
+ * cell on very large boards, each key is the SplitMix64 finalizer applied to the packed
+ * {@code (index, value)} pair; the finalizer is a bijection with good avalanche, so distinct pairs get
+ * distinct, well-mixed keys.
+ */
+public final class Zobrist {
+
+    /**
+     * The value shown by a revealed mine.
+     */
+    public static final int MINE = 9;
+
+    private Zobrist() {
+    }
+
+    /**
+     * Gets the key of a cell showing a value.
+     *
+     * @param index The flat index of the cell, or any position in a sequence being hashed.
+     * @param value What the cell shows.
+     * @return The 64-bit key.
+     */
+    public static long key(int index, int value) {
+        return mix(((long) index << 32) | (value & 0xFFFFFFFFL));
+    }
+
+    /**
+     * Gets the hash of a grid with nothing revealed; it depends on the grid size only.
+     *
+     * @param size The width and height of the grid.
+     * @return The 64-bit hash.
+     */
+    public static long emptyHash(int size) {
+        return mix(~(long) size);
+    }
+
+    /**
+     * Computes the hash of a grid from scratch, for checking the one {@link Grid} maintains.
+     *
+     * @param grid The grid to hash.
+     * @return The hash of its revealed cells.
+     */
+    public static long hashOf(Grid grid) {
+        long hash = emptyHash(grid.getSize());
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (grid.isRevealed(index)) {
+                hash ^= key(index, grid.isMine(index) ? MINE : grid.getAdjacentMineCount(index));
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * The SplitMix64 finalizer.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
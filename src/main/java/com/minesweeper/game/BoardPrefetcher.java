@@ -0,0 +1,213 @@
+package com.minesweeper.game;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.MinePlacer;
+
+/**
+ * Pre-generates boards on a background thread so a new game can start without waiting for
+ * mine placement and adjacency counting.
+ * <p>
+ * The pool holds up to {@code capacity} initialized boards for the most recently requested grid size
+ * and mine count. {@link #take(GameConfiguration)} hands out a pooled board when one matches, and
+ * otherwise generates one synchronously; either way it then asks the background thread to refill the
+ * pool for that configuration. The MinePlacer is called from both threads, so it must be thread-safe.
+ * <p>
+ * Each board is placed by {@link MinePlacer#withSeed(long)} for the seed of its configuration. Pooled
+ * boards get freshly drawn seeds, so a pooled board comes with its own configuration in place of the
+ * requested one; for a seeded placer that configuration regenerates the board.
+ */
+public class BoardPrefetcher implements AutoCloseable {
+
+    private final MinePlacer minePlacer;
+    private final BlockingQueue<Board> pool;
+    private final ExecutorService executor;
+    private final AtomicBoolean refillScheduled = new AtomicBoolean(false);
+    private volatile BoardShape target;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong boardsGenerated = new AtomicLong();
+    private final AtomicLong generationNanos = new AtomicLong();
+
+    /**
+     * Constructs a BoardPrefetcher with its own background thread.
+     *
+     * @param minePlacer The thread-safe strategy used to place mines on pooled boards.
+     * @param capacity   The maximum number of boards kept ready.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public BoardPrefetcher(MinePlacer minePlacer, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Pool capacity must be positive, but was " + capacity);
+        }
+        this.minePlacer = minePlacer;
+        this.pool = new ArrayBlockingQueue<>(capacity);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets an initialized board for the given configuration, from the pool when possible.
+     * Afterwards the pool is refilled in the background for the same grid size and mine count.
+     *
+     * @param config The grid size and mine count of the board, and the seed to use if none is pooled.
+     * @return An initialized board ready for play, with the configuration it was generated from.
+     */
+    public Board take(GameConfiguration config) {
+        BoardShape shape = new BoardShape(config.gridSize(), config.mineCount());
+        if (!shape.equals(target)) {
+            target = shape;
+            pool.clear(); // Boards for the previous configuration are no longer wanted
+        }
+        Board board = pollMatching(shape);
+        if (board != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            board = generate(config);
+        }
+        scheduleRefill();
+        return board;
+    }
+
+    /**
+     * Starts filling the pool for a configuration ahead of the first {@link #take(GameConfiguration)}.
+     *
+     * @param config The grid size and mine count to prepare boards for.
+     */
+    public void prefetch(GameConfiguration config) {
+        BoardShape shape = new BoardShape(config.gridSize(), config.mineCount());
+        if (!shape.equals(target)) {
+            target = shape;
+            pool.clear();
+        }
+        scheduleRefill();
+    }
+
+    /**
+     * Gets a snapshot of the pool's hit-rate and generation-time counters.
+     *
+     * @return The current metrics.
+     */
+    public Metrics getMetrics() {
+        return new Metrics(hits.get(), misses.get(), boardsGenerated.get(), generationNanos.get());
+    }
+
+    /**
+     * Stops the background thread. Boards still in the pool are discarded.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        pool.clear();
+    }
+
+    private Board pollMatching(BoardShape shape) {
+        Board board;
+        while ((board = pool.poll()) != null) {
+            if (shape.matches(board.config())) {
+                return board;
+            }
+        }
+        return null;
+    }
+
+    private void scheduleRefill() {
+        if (!executor.isShutdown() && refillScheduled.compareAndSet(false, true)) {
+            executor.execute(this::refill);
+        }
+    }
+
+    private void refill() {
+        try {
+            BoardShape shape;
+            while ((shape = target) != null && pool.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                Board board = generate(new GameConfiguration(shape.gridSize(), shape.mineCount()));
+                if (shape.equals(target)) {
+                    pool.offer(board);
+                }
+            }
+        } finally {
+            refillScheduled.set(false);
+        }
+        // A take() that raced with the end of the loop may have found the refill still flagged as running
+        if (pool.remainingCapacity() > 0 && target != null && !Thread.currentThread().isInterrupted()) {
+            scheduleRefill();
+        }
+    }
+
+    private Board generate(GameConfiguration config) {
+        long start = System.nanoTime();
+        Grid grid = new Grid(config.gridSize());
+        grid.initialize(minePlacer.withSeed(config.seed()), config.mineCount());
+        generationNanos.addAndGet(System.nanoTime() - start);
+        boardsGenerated.incrementAndGet();
+        return new Board(config, grid);
+    }
+
+    /**
+     * The part of a configuration that determines which pooled boards are interchangeable.
+     */
+    private record BoardShape(int gridSize, int mineCount) {
+
+        boolean matches(GameConfiguration config) {
+            return gridSize == config.gridSize() && mineCount == config.mineCount();
+        }
+    }
+
+    /**
+     * An initialized board and the configuration it was generated from.
+     *
+     * @param config The grid size, mine count and seed of the board.
+     * @param grid   The initialized grid.
+     */
+    public record Board(GameConfiguration config, Grid grid) {
+    }
+
+    /**
+     * A snapshot of pool usage.
+     *
+     * @param hits            The number of boards served from the pool.
+     * @param misses          The number of boards generated synchronously because the pool had none.
+     * @param boardsGenerated The number of boards generated on either thread.
+     * @param generationNanos The total time spent generating those boards, in nanoseconds.
+     */
+    public record Metrics(long hits, long misses, long boardsGenerated, long generationNanos) {
+
+        /**
+         * Gets the fraction of requests served from the pool.
+         *
+         * @return The hit rate between 0 and 1, or 0 if no boards were requested.
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        /**
+         * Gets the average time to generate one board.
+         *
+         * @return The average generation time in milliseconds, or 0 if no boards were generated.
+         */
+        public double averageGenerationMillis() {
+            return boardsGenerated == 0 ? 0.0 : generationNanos / 1e6 / boardsGenerated;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Board pool: %d hits, %d misses (%.0f%% hit rate), %d boards generated, %.2f ms average",
+                    hits, misses, hitRate() * 100, boardsGenerated, averageGenerationMillis());
+        }
+    }
+}
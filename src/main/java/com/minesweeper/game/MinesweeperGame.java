@@ -9,6 +9,8 @@ import com.minesweeper.exception.InputCancelledException;
 import com.minesweeper.handler.InputHandler;
 import com.minesweeper.handler.MinePlacer;
 import com.minesweeper.handler.OutputHandler;
+import com.minesweeper.solver.Hint;
+import com.minesweeper.solver.HintService;
 
 /**
  * Orchestrates the Minesweeper game flow.
@@ -19,8 +21,11 @@ public class MinesweeperGame {
     private final InputHandler inputHandler;
     private final OutputHandler outputHandler;
     private final MinePlacer minePlacer;
+    private final BoardPrefetcher boardPrefetcher; // Optional; null means boards are built synchronously
     private Grid grid;
     private GameState gameState;
+    private HintService hintService; // Created on the first hint of each game
+    private int pendingMineCount = -1; // Mines still to place on the first move; -1 once placed
 
     // GameState enum to track the user’s progress throughout the game
     private enum GameState {
@@ -35,10 +40,25 @@ public class MinesweeperGame {
      * @param minePlacer    The strategy for placing mines.
      */
     public MinesweeperGame(InputHandler inputHandler, OutputHandler outputHandler, MinePlacer minePlacer) {
+        this(inputHandler, outputHandler, minePlacer, null);
+    }
+
+    /**
+     * Constructs a new MinesweeperGame that takes its boards from a background pool.
+     *
+     * @param inputHandler    The handler for user input.
+     * @param outputHandler   The handler for displaying output.
+     * @param minePlacer      The strategy for placing mines.
+     * @param boardPrefetcher The pool of pre-generated boards, or null to build each board synchronously.
+     */
+    public MinesweeperGame(InputHandler inputHandler, OutputHandler outputHandler, MinePlacer minePlacer,
+                           BoardPrefetcher boardPrefetcher) {
         this.inputHandler = inputHandler;
         this.outputHandler = outputHandler;
         this.minePlacer = minePlacer;
+        this.boardPrefetcher = boardPrefetcher;
         this.gameState = GameState.INITIALIZING; // Start in initializing state
+        inputHandler.setHintListener(this::showHint);
     }
 
     /**
@@ -73,20 +93,44 @@ public class MinesweeperGame {
 
     /**
      * Sets up a new game: gets configuration, creates and initializes the grid.
+     * With a board pool, a pre-generated grid is used when one is ready. A placer that needs the
+     * opening gets an empty grid now and places its mines on the first move. A seeded placer lays out
+     * the board from the configuration's seed, which is displayed so the board can be shared. A board
+     * meant to be opened at a particular cell is opened there for the player.
      */
     private void setupGame() throws InputCancelledException {
         gameState = GameState.INITIALIZING;
+        hintService = null;
+        pendingMineCount = -1;
         GameConfiguration config = inputHandler.getGameConfiguration();
-        grid = new Grid(config.gridSize());
-        grid.initialize(minePlacer, config.mineCount());
-
+        if (minePlacer.needsOpening()) {
+            grid = new Grid(config.gridSize());
+            pendingMineCount = config.mineCount();
+            return;
+        }
+        if (boardPrefetcher != null) {
+            BoardPrefetcher.Board board = boardPrefetcher.take(config);
+            grid = board.grid();
+            config = board.config(); // A pooled board has a seed of its own
+        } else {
+            grid = new Grid(config.gridSize());
+            grid.initialize(minePlacer.withSeed(config.seed()), config.mineCount());
+        }
+        if (minePlacer.isSeeded()) {
+            outputHandler.displayBoardConfiguration(config);
+        }
+        int startingCell = minePlacer.startingCell(grid);
+        if (startingCell >= 0) {
+            grid.revealCell(startingCell);
+        }
     }
     
     /**
      * Runs the main loop of a single game session.
      */
     private void playGameLoop() throws InputCancelledException {
-        gameState = GameState.IN_PROGRESS;
+        // An opening chosen by the placer can clear a small board by itself
+        gameState = pendingMineCount < 0 && grid.areAllNonMinesRevealed() ? GameState.WON : GameState.IN_PROGRESS;
         while (gameState == GameState.IN_PROGRESS) {
             outputHandler.displayGrid(grid);
             Coordinates move = inputHandler.getMoveInput(grid.getSize());
@@ -101,6 +145,11 @@ public class MinesweeperGame {
      */
     private void processMove(Coordinates coordinates) {
         Cell selectedCell = grid.getCell(coordinates); // Relies on getCell for bounds check
+        if (pendingMineCount >= 0) {
+            grid.initialize(minePlacer, pendingMineCount, grid.indexOf(coordinates.row(), coordinates.column()));
+            pendingMineCount = -1;
+            hintService = null; // Built for the empty grid
+        }
 
         if (selectedCell.isRevealed()) {
             outputHandler.displayAlreadyRevealedMessage();
@@ -111,6 +160,9 @@ public class MinesweeperGame {
             gameState = GameState.LOST;
         } else {
             grid.revealCell(coordinates);
+            if (hintService != null) {
+                hintService.update();
+            }
             outputHandler.displayAdjacentMineCount(selectedCell.getAdjacentMineCount());
 
             // Check for win condition
@@ -120,10 +172,30 @@ public class MinesweeperGame {
         }
     }
 
+    /**
+     * Displays a hint for the current game. The hint service is created on first use and then kept
+     * up to date after every move.
+     */
+    private void showHint() {
+        if (gameState != GameState.IN_PROGRESS) {
+            return;
+        }
+        if (hintService == null) {
+            hintService = new HintService(grid);
+        }
+        Hint hint = hintService.hint();
+        outputHandler.displayHint(new Coordinates(grid.rowOf(hint.index()), grid.columnOf(hint.index())),
+                hint.mineProbability());
+    }
+
     /**
      * Handles the end of a game, displaying the final grid and result message.
      */
     private void endGame() {
+        if (hintService != null) {
+            outputHandler.displayHintLatency(hintService.getHintCount(),
+                    hintService.latencyPercentileNanos(50) / 1e6, hintService.latencyPercentileNanos(99) / 1e6);
+        }
         if (gameState == GameState.LOST) {
             revealAllMines(); 
             outputHandler.displayGrid(grid);
@@ -36,5 +36,14 @@ public interface InputHandler {
      * @return true if the user wants to play again, false otherwise.
      */
     boolean promptPlayAgain();
+
+    /**
+     * Registers the action to run when the user asks for a hint while entering a move.
+     * Implementations without a hint command may ignore it.
+     *
+     * @param hintListener The action to run; it displays the hint itself.
+     */
+    default void setHintListener(Runnable hintListener) {
+    }
     
 } 
\ No newline at end of file
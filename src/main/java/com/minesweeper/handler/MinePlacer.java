@@ -17,4 +17,58 @@ public interface MinePlacer {
      */
     void placeMines(Grid grid, int mineCount);
 
+    /**
+     * Places mines knowing the first cell the player reveals. Placers that can use the opening, for
+     * example to guarantee it is safe, override this; the default ignores it.
+     *
+     * @param grid         The Grid object to place mines on.
+     * @param mineCount    The total number of mines to place.
+     * @param openingIndex The flat index of the first cell the player reveals.
+     */
+    default void placeMines(Grid grid, int mineCount, int openingIndex) {
+        placeMines(grid, mineCount);
+    }
+
+    /**
+     * Reports whether this placer should wait for the player's first move before placing mines.
+     *
+     * @return true if the board should be initialized through
+     *         {@link Grid#initialize(MinePlacer, int, int)} once the first move is known.
+     */
+    default boolean needsOpening() {
+        return false;
+    }
+
+    /**
+     * Gets the cell a board from this placer is meant to be opened at, for placers whose guarantees
+     * depend on where the player starts. The game reveals it before the first move.
+     *
+     * @param grid A grid initialized by this placer.
+     * @return The flat index of the cell to open, or -1 to let the player choose.
+     */
+    default int startingCell(Grid grid) {
+        return -1;
+    }
+
+    /**
+     * Reports whether this placer's layouts are determined by a seed, so that a board can be stored
+     * or shared as its {@code GameConfiguration}.
+     *
+     * @return true if {@link #withSeed(long)} gives a placer for that seed.
+     */
+    default boolean isSeeded() {
+        return false;
+    }
+
+    /**
+     * Gets a placer that lays out mines as determined by the given seed. Placers that are not
+     * {@link #isSeeded() seeded} return themselves, as the seed does not identify their boards.
+     *
+     * @param seed The seed that determines the mine layout.
+     * @return A placer for the seed, or this placer if it does not use seeds.
+     */
+    default MinePlacer withSeed(long seed) {
+        return this;
+    }
+
 } 
\ No newline at end of file
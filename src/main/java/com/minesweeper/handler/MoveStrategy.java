@@ -0,0 +1,31 @@
+package com.minesweeper.handler;
+
+import java.util.SplittableRandom;
+
+import com.minesweeper.domain.Grid;
+
+/**
+ * Interface defining the contract for strategies that choose moves when a game is played headlessly.
+ * A strategy instance plays one game at a time on one thread.
+ */
+public interface MoveStrategy {
+
+    /**
+     * Called before the first move of each game.
+     *
+     * @param grid The newly initialized grid that is about to be played.
+     */
+    default void startGame(Grid grid) {
+    }
+
+    /**
+     * Chooses the next cell to reveal. Strategies should only read the revealed state of the grid;
+     * the cells revealed by the previous move are available from {@link Grid#getLastRevealedCell(int)}.
+     *
+     * @param grid   The grid being played.
+     * @param random The random stream of the calling thread, for strategies that need to guess.
+     * @return The flat index of a hidden cell.
+     */
+    int nextMove(Grid grid, SplittableRandom random);
+
+}
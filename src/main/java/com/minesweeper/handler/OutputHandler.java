@@ -1,5 +1,7 @@
 package com.minesweeper.handler;
 
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.domain.Coordinates;
 import com.minesweeper.domain.Grid;
 
 /**
@@ -12,6 +14,14 @@ public interface OutputHandler {
      */
     void displayWelcomeMessage();
 
+    /**
+     * Displays the configuration of a new board, including the seed that regenerates it.
+     * (e.g., "Board 9x9 with 10 mines, seed 42.")
+     *
+     * @param config The grid size, mine count and seed of the board.
+     */
+    void displayBoardConfiguration(GameConfiguration config);
+
     /**
      * Displays the current state of the Minesweeper grid.
      * Implementations should format the grid clearly, showing row/column headers,
@@ -21,6 +31,26 @@ public interface OutputHandler {
      */
     void displayGrid(Grid grid);
 
+    /**
+     * Moves the visible part of the grid, for handlers that show only a window of a large board, and
+     * displays the grid again. The window stays within the board.
+     *
+     * @param rowDelta    The rows to move down by; negative to move up.
+     * @param columnDelta The columns to move right by; negative to move left.
+     * @return true if the handler has a viewport and redrew it, false if it always shows the whole grid.
+     */
+    default boolean pan(int rowDelta, int columnDelta) {
+        return false;
+    }
+
+    /**
+     * Waits until everything displayed so far has been written out. Callers that print to the console
+     * directly use it to keep their output after the handler's. Handlers that write synchronously have
+     * nothing to wait for.
+     */
+    default void flush() {
+    }
+
     /**
      * Prompts the user to enter their next move.
      * (e.g., "Select a square to reveal (e.g. A1): ")
@@ -61,6 +91,25 @@ public interface OutputHandler {
      */
     void displayAlreadyRevealedMessage();
 
+    /**
+     * Displays a suggested square to reveal next.
+     * (e.g., "Hint: B3 is safe.")
+     *
+     * @param coordinates     The suggested square.
+     * @param mineProbability The chance that the square is a mine; 0 when it is proven safe.
+     */
+    void displayHint(Coordinates coordinates, double mineProbability);
+
+    /**
+     * Displays how many hints were given in a game and how long they took.
+     * (e.g., "Hints: 3 given, latency p50 0.4 ms, p99 2.1 ms.")
+     *
+     * @param hintCount    The number of hints given.
+     * @param medianMillis The median hint latency, in milliseconds.
+     * @param p99Millis    The 99th percentile hint latency, in milliseconds.
+     */
+    void displayHintLatency(long hintCount, double medianMillis, double p99Millis);
+
     /**
      * Displays a prompt asking the user if they want to play again.
      * (e.g., "Press any key to play again...") 
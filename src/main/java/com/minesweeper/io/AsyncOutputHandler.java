@@ -0,0 +1,323 @@
+package com.minesweeper.io;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.OutputHandler;
+
+/**
+ * OutputHandler decorator that writes on a dedicated render thread, so the game does not wait for the
+ * terminal between moves.
+ * <p>
+ * Grids go through a single-slot mailbox. {@link #displayGrid(Grid)} copies the grid into a snapshot,
+ * one byte per cell, and returns; the render thread draws the snapshot on a grid of its own. When the
+ * renderer falls behind, a new frame replaces the one still waiting, so only the latest is drawn. The
+ * replaced frame's reveal log is merged into the new one, so handlers that draw only the revealed cells,
+ * like the ANSI handler, still see every change. Messages go through a queue and are all written, in
+ * order. A frame is drawn after the messages displayed before it, and before those displayed after it.
+ * <p>
+ * The caller waits only where output must be complete: at the end of a game, on the mine-hit, win and
+ * goodbye messages, on {@link #flush()}, and on {@link #pan(int, int)}, whose answer comes from the
+ * wrapped handler. A failure on the render thread is rethrown by the next wait.
+ */
+public class AsyncOutputHandler implements OutputHandler, AutoCloseable {
+
+    private final OutputHandler delegate;
+    private final ExecutorService executor;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+    // The mailbox, guarded by this
+    private final Queue<Runnable> messages = new ArrayDeque<>();
+    private long messagesQueued;
+    private long messagesTaken;
+    private Grid source; // The grid the latest frame was copied from
+    private Grid latestFrame; // The caller's snapshot; copied again by the render thread when taken
+    private int frameGeneration; // Changes with the source grid, so the render thread starts a new grid too
+    private boolean framePending;
+    private long frameSequence; // The messages queued before the pending frame
+    private boolean rendering;
+    private boolean closed;
+    private RuntimeException failure;
+
+    // Owned by the render thread
+    private Grid shownFrame;
+    private int shownGeneration = -1;
+
+    private long framesSubmitted;
+    private long framesRendered;
+    private long messagesWritten;
+    private long waitNanos;
+
+    /**
+     * Constructs an AsyncOutputHandler with its own render thread.
+     *
+     * @param delegate The handler that does the writing; it is only called from the render thread.
+     */
+    public AsyncOutputHandler(OutputHandler delegate) {
+        this.delegate = delegate;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "render");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void displayWelcomeMessage() {
+        enqueue(delegate::displayWelcomeMessage);
+    }
+
+    @Override
+    public void displayBoardConfiguration(GameConfiguration config) {
+        enqueue(() -> delegate.displayBoardConfiguration(config));
+    }
+
+    /**
+     * Copies the grid into the mailbox and returns without waiting for it to be drawn.
+     */
+    @Override
+    public void displayGrid(Grid grid) {
+        synchronized (this) {
+            if (!closed) {
+                if (grid != source || latestFrame == null) {
+                    source = grid;
+                    frameGeneration++;
+                    latestFrame = new Grid(grid.getSize());
+                    latestFrame.copyFrom(grid);
+                } else {
+                    latestFrame.copyFrom(grid, framePending); // Keep the reveals of a frame that is dropped
+                }
+                framePending = true;
+                frameSequence = messagesQueued;
+                framesSubmitted++;
+                scheduleDrain();
+                return;
+            }
+        }
+        delegate.displayGrid(grid);
+    }
+
+    @Override
+    public void displayPromptForMove() {
+        enqueue(delegate::displayPromptForMove);
+    }
+
+    @Override
+    public void displayMineHitMessage() {
+        enqueue(delegate::displayMineHitMessage);
+        flush(); // The game is over: let the player see how it ended
+    }
+
+    @Override
+    public void displayWinMessage() {
+        enqueue(delegate::displayWinMessage);
+        flush();
+    }
+
+    @Override
+    public void displayAdjacentMineCount(int count) {
+        enqueue(() -> delegate.displayAdjacentMineCount(count));
+    }
+
+    @Override
+    public void displayInvalidInputMessage(String input, String reason) {
+        enqueue(() -> delegate.displayInvalidInputMessage(input, reason));
+    }
+
+    @Override
+    public void displayAlreadyRevealedMessage() {
+        enqueue(delegate::displayAlreadyRevealedMessage);
+    }
+
+    @Override
+    public void displayHint(Coordinates coordinates, double mineProbability) {
+        enqueue(() -> delegate.displayHint(coordinates, mineProbability));
+    }
+
+    @Override
+    public void displayHintLatency(long hintCount, double medianMillis, double p99Millis) {
+        enqueue(() -> delegate.displayHintLatency(hintCount, medianMillis, p99Millis));
+    }
+
+    @Override
+    public void displayPromptPlayAgain() {
+        enqueue(delegate::displayPromptPlayAgain);
+    }
+
+    @Override
+    public void displayGoodbyeMessage() {
+        enqueue(delegate::displayGoodbyeMessage);
+        flush();
+    }
+
+    /**
+     * Pans the wrapped handler's viewport on the render thread, after the output queued before it, and
+     * waits for the answer.
+     */
+    @Override
+    public boolean pan(int rowDelta, int columnDelta) {
+        boolean[] panned = new boolean[1];
+        enqueue(() -> panned[0] = delegate.pan(rowDelta, columnDelta));
+        flush(); // Makes the render thread's write visible here
+        return panned[0];
+    }
+
+    /**
+     * Waits until every frame and message displayed so far has been written or dropped.
+     *
+     * @throws IllegalStateException if the wrapped handler failed on the render thread since the last wait.
+     */
+    @Override
+    public void flush() {
+        long start = System.nanoTime();
+        synchronized (this) {
+            try {
+                while (!closed && (framePending || rendering || !messages.isEmpty())) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waitNanos += System.nanoTime() - start;
+            }
+            if (failure != null) {
+                RuntimeException cause = failure;
+                failure = null;
+                throw new IllegalStateException("Output failed on the render thread", cause);
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the frame and wait counters.
+     *
+     * @return The current metrics.
+     */
+    public synchronized Metrics getMetrics() {
+        return new Metrics(framesSubmitted, framesRendered, messagesWritten, waitNanos);
+    }
+
+    /**
+     * Writes what is still queued and stops the render thread. Later output is written on the caller's thread.
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            synchronized (this) {
+                closed = true;
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    private void enqueue(Runnable message) {
+        synchronized (this) {
+            if (!closed) {
+                messages.add(message);
+                messagesQueued++;
+                scheduleDrain();
+                return;
+            }
+        }
+        message.run();
+    }
+
+    private void scheduleDrain() {
+        if (!executor.isShutdown() && drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Runs on the render thread: writes queued output until there is none.
+     */
+    private void drain() {
+        try {
+            Runnable output;
+            while ((output = next()) != null) {
+                RuntimeException error = null;
+                try {
+                    output.run();
+                } catch (RuntimeException e) {
+                    error = e;
+                }
+                synchronized (this) {
+                    rendering = false;
+                    if (error != null && failure == null) {
+                        failure = error;
+                    }
+                    notifyAll();
+                }
+            }
+        } finally {
+            drainScheduled.set(false);
+        }
+        // Output queued after the last next() but before the flag was cleared found the drain still scheduled
+        synchronized (this) {
+            if (!framePending && messages.isEmpty()) {
+                return;
+            }
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Takes the next output: the pending frame once the messages before it are written, else the next message.
+     */
+    private synchronized Runnable next() {
+        if (framePending && frameSequence == messagesTaken) {
+            framePending = false;
+            if (shownGeneration != frameGeneration) {
+                shownFrame = new Grid(latestFrame.getSize()); // A new grid tells the wrapped handler a new game began
+                shownGeneration = frameGeneration;
+            }
+            shownFrame.copyFrom(latestFrame);
+            framesRendered++;
+            rendering = true;
+            Grid frame = shownFrame;
+            return () -> delegate.displayGrid(frame);
+        }
+        Runnable message = messages.poll();
+        if (message != null) {
+            messagesTaken++;
+            messagesWritten++;
+            rendering = true;
+        }
+        return message;
+    }
+
+    /**
+     * A snapshot of asynchronous output.
+     *
+     * @param framesSubmitted The number of grids displayed by the game.
+     * @param framesRendered  The number of those drawn; the rest were replaced by newer frames first.
+     * @param messagesWritten The number of messages written.
+     * @param waitNanos       The total time callers spent waiting for output to be written.
+     */
+    public record Metrics(long framesSubmitted, long framesRendered, long messagesWritten, long waitNanos) {
+
+        /**
+         * Gets the fraction of frames that were replaced before being drawn.
+         *
+         * @return The drop rate, from 0 to 1; 0 if no frame was displayed.
+         */
+        public double dropRate() {
+            return framesSubmitted == 0 ? 0.0 : 1.0 - (double) framesRendered / framesSubmitted;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Async output: %d frames submitted, %d drawn (%.1f%% dropped), %d messages, "
+                    + "%.2f ms waited", framesSubmitted, framesRendered, dropRate() * 100, messagesWritten,
+                    waitNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.minesweeper.io.console;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.domain.Zobrist;
+
+/**
+ * Console OutputHandler for ANSI terminals that keeps the grid on screen and redraws only the cells
+ * that changed since the previous frame.
+ * <p>
+ * The first frame of a game clears the screen and prints the full grid at the top, with messages and
+ * prompts below it. Later frames move the cursor to each cell revealed by the last move, including
+ * its cascade, and overwrite just that glyph. Runs of changed cells on one row share a single cursor
+ * move. The cursor is then parked below the grid and the old messages are cleared.
+ * <p>
+ * The changed cells come from the grid's reveal log, so a frame costs time and bytes in proportion
+ * to what changed. To catch changes the log does not show, such as {@link Grid#revealAllMines()}, the
+ * handler keeps the {@link Zobrist} hash of what is on screen and compares it with the grid's
+ * position hash. On a mismatch, a new grid, a size change or {@link #invalidate()}, it falls back to a
+ * full redraw. A full redraw is also used when the grid and the message area do not fit in the
+ * terminal, because cursor positions stop being reliable once the screen scrolls. Measuring the
+ * terminal starts a process, so the size is cached: it is measured again before a frame that is
+ * redrawn in full anyway, and otherwise at most once per {@link #MEASURE_INTERVAL_NANOS}. A resize
+ * found that way is redrawn in full, and a terminal whose size cannot be measured always gets full
+ * redraws. Messages and prompts are counted as they are
+ * written, wrapped lines included, and once they reach the bottom of the terminal the screen has
+ * scrolled under the grid, so the next frame is a full redraw as well.
+ */
+public class AnsiConsoleOutputHandler extends ConsoleOutputHandler {
+
+    /**
+     * Lines kept free below the grid for the prompt, the typed move and the messages about it. More
+     * output than fits below the grid before the next frame scrolls it and forces a full redraw.
+     */
+    static final int MESSAGE_LINES = 4;
+
+    /**
+     * How long a terminal size is trusted for frames that are not redrawn in full anyway.
+     */
+    static final long MEASURE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private static final String ESCAPE = "\u001B[";
+    private static final String CLEAR_SCREEN = ESCAPE + "H" + ESCAPE + "2J";
+    private static final String CLEAR_BELOW = ESCAPE + "J";
+    private static final int HEADER_LINES = 1;
+
+    private final GridFrameRenderer renderer = new GridFrameRenderer();
+    private final StringBuilder output = new StringBuilder();
+    private final Supplier<TerminalSize> terminal;
+    private final long measureIntervalNanos;
+    private boolean measured;
+    private long measuredAt; // System.nanoTime() of the last measurement
+    private TerminalSize shownSize = TerminalSize.UNKNOWN; // The terminal size the screen was drawn for
+    private Grid shownGrid; // The grid on screen, or null when the screen must be redrawn
+    private char[] shown = new char[0]; // The glyph on screen for every cell
+    private long shownHash;
+    private int[] changed = new int[64];
+    private int linesBelowGrid; // Line breaks written under the grid since the previous frame
+
+    private long frames;
+    private long fullRedraws;
+    private long charactersWritten;
+
+    /**
+     * Constructs an AnsiConsoleOutputHandler for the terminal the program runs in, measured with
+     * {@code stty size}.
+     */
+    public AnsiConsoleOutputHandler() {
+        this(TerminalSize::query, MEASURE_INTERVAL_NANOS);
+    }
+
+    /**
+     * Constructs an AnsiConsoleOutputHandler for a terminal of fixed size.
+     *
+     * @param terminalRows    The height of the terminal in lines, or 0 if unknown.
+     * @param terminalColumns The width of the terminal in characters, or 0 if unknown.
+     */
+    public AnsiConsoleOutputHandler(int terminalRows, int terminalColumns) {
+        this(fixedSize(new TerminalSize(terminalRows, terminalColumns)), MEASURE_INTERVAL_NANOS);
+    }
+
+    /**
+     * Constructs an AnsiConsoleOutputHandler that measures the terminal with the given function.
+     *
+     * @param terminal             Measures the terminal.
+     * @param measureIntervalNanos How long a measurement is trusted for frames that are not redrawn in
+     *                             full anyway; 0 measures before every frame.
+     */
+    AnsiConsoleOutputHandler(Supplier<TerminalSize> terminal, long measureIntervalNanos) {
+        this.terminal = terminal;
+        this.measureIntervalNanos = measureIntervalNanos;
+    }
+
+    @Override
+    public void displayGrid(Grid grid) {
+        output.setLength(0);
+        long now = System.nanoTime();
+        if (grid != shownGrid || !measured || now - measuredAt >= measureIntervalNanos) {
+            measure(now);
+        }
+        if (grid != shownGrid || !appendChangedCells(grid)) {
+            appendFullFrame(grid);
+        }
+        linesBelowGrid = 0; // Both kinds of frame leave the cursor on the first line under the grid
+        frames++;
+        charactersWritten += output.length();
+        System.out.print(output);
+    }
+
+    @Override
+    protected void printLine(String line) {
+        super.printLine(line);
+        linesWritten(rowsTaken(line.length()));
+    }
+
+    @Override
+    protected void printPrompt(String prompt) {
+        super.printPrompt(prompt);
+        linesWritten(rowsTaken(prompt.length())); // The Enter that ends the answer
+    }
+
+    /**
+     * Forgets what is on screen, for example after other output overwrote it. The next frame is a full redraw.
+     */
+    public void invalidate() {
+        shownGrid = null;
+    }
+
+    /**
+     * Gets a snapshot of the output counters.
+     *
+     * @return The current metrics.
+     */
+    public Metrics getMetrics() {
+        return new Metrics(frames, fullRedraws, charactersWritten);
+    }
+
+    /**
+     * Measures the terminal, forgetting what is on screen if its size changed.
+     */
+    private void measure(long now) {
+        TerminalSize size = terminal.get();
+        measured = true;
+        measuredAt = now;
+        if (!size.equals(shownSize)) {
+            invalidate(); // Resized: the terminal may have rewrapped or scrolled what is on screen
+            shownSize = size;
+        }
+    }
+
+    /**
+     * Appends cursor moves and glyphs for the cells revealed since the previous frame.
+     *
+     * @return false if the screen cannot be updated in place and needs a full redraw.
+     */
+    private boolean appendChangedCells(Grid grid) {
+        if (!fits(grid.getSize())) {
+            return false;
+        }
+        int changedCount = 0;
+        long hash = shownHash;
+        for (int i = 0; i < grid.getLastRevealCount(); i++) {
+            int index = grid.getLastRevealedCell(i);
+            if (shown[index] != GridFrameRenderer.HIDDEN_CELL) {
+                continue; // Already drawn, as when no move was made since the previous frame
+            }
+            hash ^= Zobrist.key(index, grid.isMine(index) ? Zobrist.MINE : grid.getAdjacentMineCount(index));
+            if (changedCount == changed.length) {
+                changed = Arrays.copyOf(changed, changedCount * 2);
+            }
+            changed[changedCount++] = index;
+        }
+        if (hash != grid.getPositionHash()) {
+            return false; // Something changed that the reveal log does not show
+        }
+        Arrays.sort(changed, 0, changedCount);
+        int size = grid.getSize();
+        int firstCellColumn = GridFrameRenderer.firstGlyphColumn(size);
+        int previous = -2;
+        for (int i = 0; i < changedCount; i++) {
+            int index = changed[i];
+            char glyph = GridFrameRenderer.glyphOf(grid, index);
+            if (index == previous + 1 && grid.columnOf(index) != 0) {
+                output.append(' '); // Continue the run: the separator is cheaper than a cursor move
+            } else {
+                int row = index / size;
+                int column = index - row * size;
+                output.append(ESCAPE).append(HEADER_LINES + row + 1).append(';')
+                        .append(firstCellColumn + 2 * column).append('H');
+            }
+            output.append(glyph);
+            shown[index] = glyph;
+            previous = index;
+        }
+        shownHash = hash;
+        // Park the cursor under the grid and its blank line, and clear the previous messages
+        output.append(ESCAPE).append(HEADER_LINES + size + 2).append(";1H").append(CLEAR_BELOW);
+        return true;
+    }
+
+    private void appendFullFrame(Grid grid) {
+        output.append(CLEAR_SCREEN).append(renderer.render(grid));
+        int cellCount = grid.getCellCount();
+        if (shown.length != cellCount) {
+            shown = new char[cellCount];
+        }
+        for (int index = 0; index < cellCount; index++) {
+            shown[index] = GridFrameRenderer.glyphOf(grid, index);
+        }
+        shownHash = grid.getPositionHash();
+        shownGrid = grid;
+        fullRedraws++;
+    }
+
+    /**
+     * Checks whether the grid and the message area fit in the terminal, so that nothing scrolls.
+     * A terminal of unknown size is assumed not to fit.
+     */
+    private boolean fits(int size) {
+        return shownSize.isKnown()
+                && HEADER_LINES + size + 1 + MESSAGE_LINES <= shownSize.rows()
+                && GridFrameRenderer.firstGlyphColumn(size) + 2 * (size - 1) <= shownSize.columns();
+    }
+
+    /**
+     * Counts line breaks written under the grid. The screen scrolls on the one that would move the
+     * cursor past the last terminal line, which shifts the grid away from where the cursor moves of
+     * the next partial frame expect it.
+     */
+    private void linesWritten(int count) {
+        linesBelowGrid += count;
+        if (shownGrid != null
+                && linesBelowGrid >= shownSize.rows() - (HEADER_LINES + shownGrid.getSize() + 1)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Gets the terminal lines a line of text takes once it wraps at the terminal width.
+     */
+    private int rowsTaken(int length) {
+        int columns = shownSize.columns();
+        return columns <= 0 || length <= columns ? 1 : (length + columns - 1) / columns;
+    }
+
+    private static Supplier<TerminalSize> fixedSize(TerminalSize size) {
+        return () -> size;
+    }
+
+    /**
+     * A snapshot of grid output.
+     *
+     * @param frames            The number of grids displayed.
+     * @param fullRedraws       The number of those drawn in full.
+     * @param charactersWritten The characters written for grids, escape sequences included; the output
+     *                          is ASCII, so this is also the byte count.
+     */
+    public record Metrics(long frames, long fullRedraws, long charactersWritten) {
+
+        /**
+         * Gets the average output per displayed grid.
+         *
+         * @return The average number of characters per frame, or 0 if nothing was displayed.
+         */
+        public double averageCharactersPerFrame() {
+            return frames == 0 ? 0.0 : (double) charactersWritten / frames;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ANSI output: %d frames, %d full redraws, %d characters (%.1f per frame)",
+                    frames, fullRedraws, charactersWritten, averageCharactersPerFrame());
+        }
+    }
+}
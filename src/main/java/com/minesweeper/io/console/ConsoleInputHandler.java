@@ -16,10 +16,14 @@ import com.minesweeper.handler.OutputHandler;
  */
 public class ConsoleInputHandler implements InputHandler {
 
-    private static final Pattern MOVE_PATTERN = Pattern.compile("^([A-Z])(\\d+)$"); // Pattern to match input like "A1", "B12", "Z26"
+    private static final Pattern MOVE_PATTERN = Pattern.compile("^([A-Z]+)(\\d+)$"); // Pattern to match input like "A1", "B12", "AA30"
+    private static final Pattern PAN_PATTERN = Pattern.compile("^(up|down|left|right)(?:\\s+(\\d+))?$",
+            Pattern.CASE_INSENSITIVE); // Pattern to match input like "down" or "left 10"
+    private static final int DEFAULT_PAN_CELLS = 5; // Cells to pan when the command gives no count
     private static final double MINES_MAX_DENSITY = 0.35; // Maximum density of mines on the grid
     private final Scanner scanner;
     private final OutputHandler outputHandler;
+    private Runnable hintListener; // Null until a game registers one
 
     /**
      * Primary constructor for dependency injection.
@@ -107,22 +111,31 @@ public class ConsoleInputHandler implements InputHandler {
             if (input.equalsIgnoreCase("quit")) {
                 throw new InputCancelledException("User quit the game.");
             }
+            if (input.equalsIgnoreCase("hint") && hintListener != null) {
+                hintListener.run();
+                continue;
+            }
+
+            Matcher panMatcher = PAN_PATTERN.matcher(input);
+            if (panMatcher.matches()) {
+                pan(input, panMatcher);
+                continue;
+            }
 
             Matcher matcher = MOVE_PATTERN.matcher(input);
             if (matcher.matches()) {
                 try {
-                    char rowChar = matcher.group(1).toUpperCase().charAt(0);
                     int col = Integer.parseInt(matcher.group(2));
 
-                    int rowIndex = rowChar - 'A';
+                    int rowIndex = RowLabels.parse(matcher.group(1)); // -1 when too long for an int
                     int colIndex = col - 1;
 
                     if (rowIndex >= 0 && rowIndex < gridSize && colIndex >= 0 && colIndex < gridSize) {
                         return new Coordinates(rowIndex, colIndex);
                     } else {
                         outputHandler.displayInvalidInputMessage(input,
-                                String.format("Coordinates out of bounds for grid size %d. Row (A-%c), Column (1-%d).",
-                                        gridSize, (char) ('A' + gridSize - 1), gridSize));
+                                String.format("Coordinates out of bounds for grid size %d. Row (A-%s), Column (1-%d).",
+                                        gridSize, RowLabels.of(gridSize - 1), gridSize));
                     }
                 } catch (NumberFormatException e) {
                     outputHandler.displayInvalidInputMessage(input, "Invalid column number format.");
@@ -135,6 +148,33 @@ public class ConsoleInputHandler implements InputHandler {
         }
     }
 
+    /**
+     * Asks the output handler to move its viewport, and reports when it has none.
+     */
+    private void pan(String input, Matcher panMatcher) {
+        int cells;
+        try {
+            cells = panMatcher.group(2) == null ? DEFAULT_PAN_CELLS : Integer.parseInt(panMatcher.group(2));
+        } catch (NumberFormatException e) {
+            outputHandler.displayInvalidInputMessage(input, "Invalid pan distance.");
+            return;
+        }
+        boolean panned = switch (panMatcher.group(1).toLowerCase()) {
+            case "up" -> outputHandler.pan(-cells, 0);
+            case "down" -> outputHandler.pan(cells, 0);
+            case "left" -> outputHandler.pan(0, -cells);
+            default -> outputHandler.pan(0, cells);
+        };
+        if (!panned) {
+            outputHandler.displayInvalidInputMessage(input, "Panning is only available in viewport mode.");
+        }
+    }
+
+    @Override
+    public void setHintListener(Runnable hintListener) {
+        this.hintListener = hintListener;
+    }
+
     @Override
     public boolean promptPlayAgain() {
         outputHandler.displayPromptPlayAgain();
@@ -153,6 +193,7 @@ public class ConsoleInputHandler implements InputHandler {
      * Helper to read an integer, handling non-numeric input and 'quit'.
      */
     private String readLine(String prompt) throws InputCancelledException {
+        outputHandler.flush(); // Direct prints must not overtake output the handler has not written yet
         System.out.print(prompt); // Keep direct print for prompt
         String line = scanner.nextLine().trim();
         if (line.equalsIgnoreCase("quit")) {
@@ -1,6 +1,6 @@
 package com.minesweeper.io.console;
 
-import com.minesweeper.domain.Cell;
+import com.minesweeper.config.GameConfiguration;
 import com.minesweeper.domain.Coordinates;
 import com.minesweeper.domain.Grid;
 import com.minesweeper.handler.OutputHandler;
@@ -11,87 +11,100 @@ import com.minesweeper.handler.OutputHandler;
  */
 public class ConsoleOutputHandler implements OutputHandler {
 
-    private static final String HIDDEN_CELL = "_";
-    private static final String MINE_CELL = "*";
+    private final GridFrameRenderer renderer = new GridFrameRenderer();
 
     @Override
     public void displayWelcomeMessage() {
-        System.out.println("Welcome to Minesweeper!");
-        System.out.println(); // Add a blank line for spacing
+        printLine("Welcome to Minesweeper!");
+        printLine(""); // Add a blank line for spacing
     }
 
     @Override
-    public void displayGrid(Grid grid) {
-        int size = grid.getSize();
-
-        // Print header row (column numbers)
-        System.out.print("  "); // Indent for row labels
-        for (int c = 0; c < size; c++) {
-            System.out.printf(" %d", c + 1); // Use printf for spacing if numbers get large
-        }
-        System.out.println();
-
-        // Print grid rows
-        for (int r = 0; r < size; r++) {
-            System.out.print((char) ('A' + r)); // Print row label (A, B, C...)
-            System.out.print(" ");
-            for (int c = 0; c < size; c++) {
-                Cell cell = grid.getCell(new Coordinates(r, c));
-                String displayChar = getCellDisplayCharacter(cell);
-                System.out.printf(" %s", displayChar); // Use printf for consistent spacing
-            }
-            System.out.println();
-        }
-        System.out.println(); // Add a blank line after the grid
+    public void displayBoardConfiguration(GameConfiguration config) {
+        printLine(String.format("Board %dx%d with %d mines, seed %d.", config.gridSize(), config.gridSize(),
+                config.mineCount(), config.seed()));
     }
 
-    private String getCellDisplayCharacter(Cell cell) {
-        if (!cell.isRevealed()) {
-            return HIDDEN_CELL;
-        } else {
-            if (cell.isMine()) {
-                return MINE_CELL;
-            } else {
-                return String.valueOf(cell.getAdjacentMineCount());
-            }
-        }
+    /**
+     * Prints the grid with one bulk write of a frame formatted by {@link GridFrameRenderer}.
+     */
+    @Override
+    public void displayGrid(Grid grid) {
+        System.out.print(renderer.render(grid));
     }
 
     @Override
     public void displayPromptForMove() {
-        System.out.print("Select a square to reveal (e.g. A1): ");
+        printPrompt("Select a square to reveal (e.g. A1): ");
     }
 
     @Override
     public void displayMineHitMessage() {
-        System.out.println("Oh no, you detonated a mine! Game over.");
+        printLine("Oh no, you detonated a mine! Game over.");
     }
 
     @Override
     public void displayWinMessage() {
-        System.out.println("Congratulations, you have won the game!");
+        printLine("Congratulations, you have won the game!");
     }
 
     @Override
     public void displayAdjacentMineCount(int count) {
-        System.out.println("This square contains " + count + " adjacent mines.");
+        printLine("This square contains " + count + " adjacent mines.");
     }
 
     @Override
     public void displayInvalidInputMessage(String input, String reason) {
-        System.out.printf("Invalid input: '%s'. %s%n", input, reason);
+        printLine(String.format("Invalid input: '%s'. %s", input, reason));
+    }
+
+    @Override
+    public void displayAlreadyRevealedMessage() { printLine("(Already revealed)"); }
+
+    @Override
+    public void displayHint(Coordinates coordinates, double mineProbability) {
+        String square = RowLabels.of(coordinates.row()) + (coordinates.column() + 1);
+        if (mineProbability == 0.0) {
+            printLine(String.format("Hint: %s is safe.", square));
+        } else {
+            printLine(String.format(
+                    "Hint: no square is certainly safe; %s has the lowest chance of a mine (%.1f%%).",
+                    square, mineProbability * 100));
+        }
     }
 
     @Override
-    public void displayAlreadyRevealedMessage() { System.out.println("(Already revealed)"); }
+    public void displayHintLatency(long hintCount, double medianMillis, double p99Millis) {
+        printLine(String.format("Hints: %d given, latency p50 %.2f ms, p99 %.2f ms.", hintCount, medianMillis,
+                p99Millis));
+    }
 
     @Override
     public void displayPromptPlayAgain() {
-        System.out.println("Press any key to play again...");
+        printLine("Press any key to play again...");
     }
 
     @Override
     public void displayGoodbyeMessage() {
-        System.out.println("Goodbye!");
+        printLine("Goodbye!");
+    }
+
+    /**
+     * Prints one line of a message. Every message goes through here, so subclasses can track what is
+     * written below the grid.
+     *
+     * @param line The text, without the line separator.
+     */
+    protected void printLine(String line) {
+        System.out.println(line);
+    }
+
+    /**
+     * Prints a prompt. The player's answer and the Enter key that ends it take one more line.
+     *
+     * @param prompt The prompt, as it is printed.
+     */
+    protected void printPrompt(String prompt) {
+        System.out.print(prompt);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.minesweeper.io.console;
+
+import com.minesweeper.domain.Grid;
+
+/**
+ * Formats a whole grid into one reusable character frame, so the console can print it with a single
+ * bulk write instead of one formatted write per cell.
+ * <p>
+ * Only the cell glyphs change from one frame to the next: the header, the row labels, the spacing and
+ * the line separators depend on the grid size alone. They are written into the frame once per size,
+ * and each render only overwrites the glyph slots. The header is built with the same {@code " %d"}
+ * format as the per-cell output this replaces, so grids of up to 26 rows print identical bytes.
+ * Larger grids get {@link RowLabels multi-letter labels}, padded so the cells stay aligned.
+ */
+final class GridFrameRenderer {
+
+    static final char HIDDEN_CELL = '_';
+    static final char MINE_CELL = '*';
+
+    private char[] frame = new char[0];
+    private int frameSize = -1; // The grid size the frame template was built for
+    private int headerLength;
+    private int labelLength; // The padded label and a space
+    private int rowLength;
+
+    /**
+     * Renders the current state of a grid.
+     *
+     * @param grid The grid to render.
+     * @return The frame, which is overwritten by the next call; it is exactly as long as the output.
+     */
+    char[] render(Grid grid) {
+        int size = grid.getSize();
+        if (size != frameSize) {
+            buildTemplate(size);
+        }
+        for (int row = 0; row < size; row++) {
+            int position = headerLength + row * rowLength + labelLength + 1;
+            int index = row * size;
+            for (int column = 0; column < size; column++, index++, position += 2) {
+                frame[position] = glyphOf(grid, index);
+            }
+        }
+        return frame;
+    }
+
+    /**
+     * Gets the character a cell is shown as.
+     *
+     * @param grid  The grid holding the cell.
+     * @param index The flat index of the cell.
+     * @return The hidden, mine or count glyph.
+     */
+    static char glyphOf(Grid grid, int index) {
+        if (!grid.isRevealed(index)) {
+            return HIDDEN_CELL;
+        }
+        return grid.isMine(index) ? MINE_CELL : (char) ('0' + grid.getAdjacentMineCount(index));
+    }
+
+    /**
+     * Gets the screen column of the first cell glyph on each row.
+     *
+     * @param size The grid size.
+     * @return The one-based column: the padded label, a space, then a space before each glyph.
+     */
+    static int firstGlyphColumn(int size) {
+        return RowLabels.width(size) + 3;
+    }
+
+    /**
+     * Writes everything but the cell glyphs: the header, each row label and its spacing, the line
+     * separators and the blank line after the grid.
+     */
+    private void buildTemplate(int size) {
+        String lineSeparator = System.lineSeparator();
+        int labelWidth = RowLabels.width(size);
+        StringBuilder header = new StringBuilder();
+        header.append(" ".repeat(labelWidth + 1)); // Indent for row labels
+        for (int c = 0; c < size; c++) {
+            header.append(String.format(" %d", c + 1)); // Same formatting, and locale, as the old printf
+        }
+        header.append(lineSeparator);
+        headerLength = header.length();
+        labelLength = labelWidth + 1;
+        rowLength = labelLength + 2 * size + lineSeparator.length();
+        frame = new char[headerLength + size * rowLength + lineSeparator.length()];
+        header.getChars(0, headerLength, frame, 0);
+        int position = headerLength;
+        StringBuilder label = new StringBuilder(labelLength);
+        for (int r = 0; r < size; r++) {
+            label.setLength(0);
+            RowLabels.appendTo(label, r);
+            while (label.length() < labelLength) {
+                label.append(' ');
+            }
+            label.getChars(0, labelLength, frame, position);
+            position += labelLength;
+            for (int c = 0; c < size; c++) {
+                frame[position++] = ' ';
+                frame[position++] = HIDDEN_CELL;
+            }
+            lineSeparator.getChars(0, lineSeparator.length(), frame, position);
+            position += lineSeparator.length();
+        }
+        lineSeparator.getChars(0, lineSeparator.length(), frame, position);
+        frameSize = size;
+    }
+}
@@ -0,0 +1,117 @@
+package com.minesweeper.io.console;
+
+import com.minesweeper.domain.BoardSummary;
+import com.minesweeper.domain.Grid;
+
+/**
+ * Viewport output with an overview of the whole board above the window. Each character of the
+ * overview stands for a square block of cells and shows how much of it is revealed.
+ * <p>
+ * The block counts come from a {@link BoardSummary} kept for the displayed grid. It is brought up to
+ * date with the cells of each move, and each block costs one rectangle count, so the overview costs
+ * the same on any board size, like the window under it. Boards no larger than the overview are shown
+ * without it.
+ */
+public class MinimapOutputHandler extends ViewportOutputHandler {
+
+    /**
+     * Characters per side of the default overview.
+     */
+    public static final int DEFAULT_MINIMAP_SIZE = 32;
+
+    /**
+     * The block glyphs from untouched to fully revealed; a block showing a mine is drawn as a mine.
+     */
+    static final String DENSITY_GLYPHS = "_.:-=+#";
+
+    private final int minimapSize;
+    private final StringBuilder minimap = new StringBuilder();
+    private BoardSummary summary;
+
+    /**
+     * Constructs a MinimapOutputHandler with the default window and overview sizes.
+     */
+    public MinimapOutputHandler() {
+        this(DEFAULT_ROWS, DEFAULT_COLUMNS, DEFAULT_MINIMAP_SIZE);
+    }
+
+    /**
+     * Constructs a MinimapOutputHandler.
+     *
+     * @param viewRows    The number of grid rows in the window.
+     * @param viewColumns The number of grid columns in the window.
+     * @param minimapSize The largest number of characters per side of the overview.
+     * @throws IllegalArgumentException if any size is not positive.
+     */
+    public MinimapOutputHandler(int viewRows, int viewColumns, int minimapSize) {
+        super(viewRows, viewColumns);
+        if (minimapSize <= 0) {
+            throw new IllegalArgumentException("Minimap size must be positive, but was " + minimapSize);
+        }
+        this.minimapSize = minimapSize;
+    }
+
+    @Override
+    public void displayGrid(Grid grid) {
+        if (summary == null || summary.getGrid() != grid) {
+            summary = new BoardSummary(grid);
+        } else {
+            summary.update();
+        }
+        printMinimap();
+        super.displayGrid(grid);
+    }
+
+    /**
+     * Shows the overview again above the moved window.
+     */
+    @Override
+    public boolean pan(int rowDelta, int columnDelta) {
+        if (summary != null) {
+            printMinimap();
+        }
+        return super.pan(rowDelta, columnDelta);
+    }
+
+    private void printMinimap() {
+        int size = summary.getGrid().getSize();
+        if (size <= minimapSize) {
+            return;
+        }
+        int blockSize = (size + minimapSize - 1) / minimapSize;
+        String lineSeparator = System.lineSeparator();
+        minimap.setLength(0);
+        minimap.append("Overview, ").append(blockSize).append('x').append(blockSize)
+                .append(" squares per mark (_ untouched, # all revealed, * mine):").append(lineSeparator);
+        for (int row = 0; row < size; row += blockSize) {
+            for (int column = 0; column < size; column += blockSize) {
+                BoardSummary.Counts counts = summary.count(row, column,
+                        Math.min(row + blockSize, size), Math.min(column + blockSize, size));
+                minimap.append(glyphOf(counts));
+            }
+            minimap.append(lineSeparator);
+        }
+        minimap.append(lineSeparator);
+        System.out.print(minimap);
+    }
+
+    /**
+     * Gets the mark of a block: a mine if one is shown, otherwise a glyph for the share revealed.
+     *
+     * @param counts The counts of the block.
+     * @return One of {@link #DENSITY_GLYPHS}, or the mine glyph.
+     */
+    static char glyphOf(BoardSummary.Counts counts) {
+        if (counts.knownMines() > 0) {
+            return GridFrameRenderer.MINE_CELL;
+        }
+        if (counts.revealed() == 0) {
+            return DENSITY_GLYPHS.charAt(0);
+        }
+        if (counts.hidden() == 0) {
+            return DENSITY_GLYPHS.charAt(DENSITY_GLYPHS.length() - 1);
+        }
+        int partial = DENSITY_GLYPHS.length() - 2; // The glyphs between untouched and all revealed
+        return DENSITY_GLYPHS.charAt(1 + (int) ((long) counts.revealed() * partial / counts.area()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.minesweeper.io.console;
+
+/**
+ * Converts between row indices and the letter labels the console shows and accepts: A to Z for the
+ * first 26 rows, then AA, AB and so on, like spreadsheet columns.
+ */
+final class RowLabels {
+
+    private static final int LETTERS = 26;
+
+    private RowLabels() {
+    }
+
+    /**
+     * Gets the label of a row.
+     *
+     * @param row The zero-based row index.
+     * @return The label, such as "A" for row 0 or "AA" for row 26.
+     */
+    static String of(int row) {
+        StringBuilder label = new StringBuilder(4);
+        appendTo(label, row);
+        return label.toString();
+    }
+
+    /**
+     * Appends the label of a row without creating an intermediate string.
+     *
+     * @param target The builder to append to.
+     * @param row    The zero-based row index.
+     */
+    static void appendTo(StringBuilder target, int row) {
+        int start = target.length();
+        long remaining = row + 1L; // Bijective base 26: there is no zero digit
+        while (remaining > 0) {
+            remaining--;
+            target.insert(start, (char) ('A' + remaining % LETTERS));
+            remaining /= LETTERS;
+        }
+    }
+
+    /**
+     * Gets the length of the longest label among the first {@code rows} rows.
+     *
+     * @param rows The number of rows.
+     * @return The label width, at least 1.
+     */
+    static int width(int rows) {
+        int width = 1;
+        long labels = LETTERS; // Rows that have labels of at most this width
+        while (labels < rows) {
+            width++;
+            labels = labels * LETTERS + LETTERS;
+        }
+        return width;
+    }
+
+    /**
+     * Parses a label back into a row index.
+     *
+     * @param label Upper-case letters, such as "AB".
+     * @return The zero-based row index, or -1 if the label is empty, not upper-case letters, or too
+     *         large for an int.
+     */
+    static int parse(String label) {
+        if (label.isEmpty()) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < label.length(); i++) {
+            char letter = label.charAt(i);
+            if (letter < 'A' || letter > 'Z') {
+                return -1;
+            }
+            value = value * LETTERS + (letter - 'A' + 1);
+            if (value - 1 > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) (value - 1);
+    }
+}
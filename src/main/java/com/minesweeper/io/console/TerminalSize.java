@@ -0,0 +1,99 @@
+package com.minesweeper.io.console;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The size of a terminal in character cells. A size of 0 means that dimension is unknown.
+ *
+ * @param rows    The height of the terminal in lines.
+ * @param columns The width of the terminal in characters.
+ */
+record TerminalSize(int rows, int columns) {
+
+    /**
+     * The size of a terminal that could not be measured.
+     */
+    static final TerminalSize UNKNOWN = new TerminalSize(0, 0);
+
+    private static final File CONTROLLING_TERMINAL = new File("/dev/tty");
+
+    TerminalSize {
+        rows = Math.max(rows, 0);
+        columns = Math.max(columns, 0);
+    }
+
+    /**
+     * Checks whether both dimensions are known.
+     *
+     * @return true if the rows and the columns are both positive.
+     */
+    boolean isKnown() {
+        return rows > 0 && columns > 0;
+    }
+
+    /**
+     * Measures the terminal the program runs in. It asks {@code stty size} about the controlling
+     * terminal, so the answer follows resizes. If that fails, as when there is no terminal, it falls
+     * back to the {@code LINES} and {@code COLUMNS} environment variables.
+     *
+     * @return The current size, or {@link #UNKNOWN} if it cannot be found.
+     */
+    static TerminalSize query() {
+        TerminalSize size = fromStty();
+        return size.isKnown() ? size : fromEnvironment();
+    }
+
+    private static TerminalSize fromStty() {
+        if (!CONTROLLING_TERMINAL.canRead()) {
+            return UNKNOWN;
+        }
+        try {
+            Process process = new ProcessBuilder("stty", "size")
+                    .redirectInput(CONTROLLING_TERMINAL)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            String reply;
+            try (InputStream in = process.getInputStream()) {
+                reply = new String(in.readAllBytes(), StandardCharsets.US_ASCII).trim();
+            }
+            if (process.waitFor() != 0) {
+                return UNKNOWN;
+            }
+            return parse(reply);
+        } catch (IOException e) {
+            return UNKNOWN;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNKNOWN;
+        }
+    }
+
+    private static TerminalSize fromEnvironment() {
+        return new TerminalSize(parseSize(System.getenv("LINES")), parseSize(System.getenv("COLUMNS")));
+    }
+
+    /**
+     * Parses the {@code "rows columns"} reply of {@code stty size}.
+     *
+     * @param reply The reply, without the line break.
+     * @return The size it describes, or {@link #UNKNOWN} if it is malformed.
+     */
+    static TerminalSize parse(String reply) {
+        String[] parts = reply.trim().split("\\s+");
+        if (parts.length != 2) {
+            return UNKNOWN;
+        }
+        return new TerminalSize(parseSize(parts[0]), parseSize(parts[1]));
+    }
+
+    private static int parseSize(String value) {
+        try {
+            return value == null ? 0 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
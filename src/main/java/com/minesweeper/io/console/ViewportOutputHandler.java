@@ -0,0 +1,179 @@
+package com.minesweeper.io.console;
+
+import com.minesweeper.domain.Grid;
+
+/**
+ * Console OutputHandler that shows only a window of the grid, for boards too large to print whole.
+ * <p>
+ * The window starts at the middle of a new board and can be moved with {@link #pan(int, int)}. After
+ * a move the window recenters on the square that was played if it is outside the window, so the
+ * result of the move is always on screen. Columns are as wide as the largest visible column number,
+ * and rows carry their {@link RowLabels letter labels}, so the header lines up with the cells past
+ * column 9. A line under the grid tells which part of the board is shown.
+ * <p>
+ * A frame is built from the visible cells only, so its cost depends on the window size and not on the
+ * board size. Boards that fit in the window are printed whole, exactly like {@link ConsoleOutputHandler}.
+ */
+public class ViewportOutputHandler extends ConsoleOutputHandler {
+
+    /**
+     * Rows shown by the default window, which fits a common 24-line terminal with room for messages.
+     */
+    public static final int DEFAULT_ROWS = 16;
+
+    /**
+     * Columns shown by the default window; with three-digit column numbers this is 4 characters each.
+     */
+    public static final int DEFAULT_COLUMNS = 18;
+
+    private final int viewRows;
+    private final int viewColumns;
+    private final StringBuilder frame = new StringBuilder();
+    private Grid grid; // The grid last displayed, redrawn on pan
+    private int top;
+    private int left;
+    private long followedHash; // The position hash when the window last followed a move
+
+    /**
+     * Constructs a ViewportOutputHandler with the default window size.
+     */
+    public ViewportOutputHandler() {
+        this(DEFAULT_ROWS, DEFAULT_COLUMNS);
+    }
+
+    /**
+     * Constructs a ViewportOutputHandler.
+     *
+     * @param viewRows    The number of grid rows to show.
+     * @param viewColumns The number of grid columns to show.
+     * @throws IllegalArgumentException if either size is not positive.
+     */
+    public ViewportOutputHandler(int viewRows, int viewColumns) {
+        if (viewRows <= 0 || viewColumns <= 0) {
+            throw new IllegalArgumentException("Viewport size must be positive: " + viewRows + "x" + viewColumns);
+        }
+        this.viewRows = viewRows;
+        this.viewColumns = viewColumns;
+    }
+
+    @Override
+    public void displayGrid(Grid grid) {
+        if (grid != this.grid) {
+            this.grid = grid;
+            centerOn(grid.getSize() / 2, grid.getSize() / 2);
+            followLastMove();
+        } else if (grid.getPositionHash() != followedHash) {
+            followLastMove();
+        }
+        followedHash = grid.getPositionHash();
+        draw();
+    }
+
+    /**
+     * Moves the window, keeping it on the board, and displays the grid again.
+     */
+    @Override
+    public boolean pan(int rowDelta, int columnDelta) {
+        if (grid != null) {
+            top = clamp((long) top + rowDelta, grid.getSize() - viewRows);
+            left = clamp((long) left + columnDelta, grid.getSize() - viewColumns);
+            draw();
+        }
+        return true;
+    }
+
+    /**
+     * Gets the first row shown.
+     *
+     * @return The zero-based row index at the top of the window.
+     */
+    public int getFirstVisibleRow() {
+        return top;
+    }
+
+    /**
+     * Gets the first column shown.
+     *
+     * @return The zero-based column index at the left of the window.
+     */
+    public int getFirstVisibleColumn() {
+        return left;
+    }
+
+    /**
+     * Recenters on the square the last reveal asked for, if it is outside the window.
+     */
+    private void followLastMove() {
+        if (grid.getLastRevealCount() == 0) {
+            return; // Changed without a reveal, as when all mines are shown at game over
+        }
+        int move = grid.getLastRevealedCell(0);
+        int row = grid.rowOf(move);
+        int column = grid.columnOf(move);
+        if (row < top || row >= top + viewRows || column < left || column >= left + viewColumns) {
+            centerOn(row, column);
+        }
+    }
+
+    private void centerOn(int row, int column) {
+        top = clamp(row - viewRows / 2, grid.getSize() - viewRows);
+        left = clamp(column - viewColumns / 2, grid.getSize() - viewColumns);
+    }
+
+    private static int clamp(long value, int max) {
+        return (int) Math.max(0, Math.min(value, Math.max(max, 0)));
+    }
+
+    private void draw() {
+        int size = grid.getSize();
+        if (size <= viewRows && size <= viewColumns) {
+            super.displayGrid(grid); // The whole board fits: print it like the plain console
+            return;
+        }
+        int bottom = Math.min(top + viewRows, size);
+        int right = Math.min(left + viewColumns, size);
+        int labelWidth = RowLabels.of(bottom - 1).length(); // Labels never get shorter further down
+        int cellWidth = Integer.toString(right).length() + 1; // A space, then the widest column number
+        String lineSeparator = System.lineSeparator();
+
+        frame.setLength(0);
+        pad(labelWidth + 1);
+        for (int column = left; column < right; column++) {
+            pad(cellWidth - digits(column + 1));
+            frame.append(column + 1);
+        }
+        frame.append(lineSeparator);
+        for (int row = top; row < bottom; row++) {
+            int labelStart = frame.length();
+            RowLabels.appendTo(frame, row);
+            pad(labelWidth + 1 - (frame.length() - labelStart));
+            int index = grid.indexOf(row, left);
+            for (int column = left; column < right; column++, index++) {
+                pad(cellWidth - 1);
+                frame.append(GridFrameRenderer.glyphOf(grid, index));
+            }
+            frame.append(lineSeparator);
+        }
+        frame.append(lineSeparator);
+        frame.append("Showing rows ").append(RowLabels.of(top)).append('-').append(RowLabels.of(bottom - 1))
+                .append(" and columns ").append(left + 1).append('-').append(right)
+                .append(" of ").append(size).append(". Pan with up, down, left or right.")
+                .append(lineSeparator);
+        System.out.print(frame);
+    }
+
+    private void pad(int spaces) {
+        for (int i = 0; i < spaces; i++) {
+            frame.append(' ');
+        }
+    }
+
+    private static int digits(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
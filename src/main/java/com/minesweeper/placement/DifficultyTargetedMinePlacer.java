@@ -0,0 +1,369 @@
+package com.minesweeper.placement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.MinePlacer;
+import com.minesweeper.solver.DeductionEngine;
+
+/**
+ * Implements the MinePlacer interface with boards chosen to meet a {@link Target}: a 3BV range, a
+ * "solvable without guessing" constraint, or both.
+ * <p>
+ * Candidates are {@link SeededMinePlacer} layouts, so a candidate is fully described by its seed.
+ * Every worker thread generates and scores candidates on its own scratch grid until one qualifies;
+ * the first qualifying seed wins, the other workers are interrupted, and the winning layout is
+ * regenerated onto the grid passed in. If nothing qualifies within the time limit, the candidate
+ * that came closest is used instead, so the board always returns through
+ * {@link Grid#initialize(MinePlacer, int)} with the requested mine count.
+ * <p>
+ * A no-guess candidate must be cleared completely by the {@link DeductionEngine} after opening its
+ * first zero cell in row-major order, so {@link #startingCell(Grid)} tells the game to open it there.
+ * <p>
+ * The placer owns a pool of worker threads and is safe to share between threads, for example with a
+ * {@link com.minesweeper.game.BoardPrefetcher}.
+ */
+public class DifficultyTargetedMinePlacer implements MinePlacer, AutoCloseable {
+
+    private final Target target;
+    private final int workers;
+    private final long timeLimitNanos;
+    private final ExecutorService executor;
+    private final SplittableRandom seeds;
+
+    private final AtomicLong boardsPlaced = new AtomicLong();
+    private final AtomicLong candidatesTried = new AtomicLong();
+    private final AtomicLong candidatesAccepted = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong generationNanos = new AtomicLong();
+
+    /**
+     * Constructs a DifficultyTargetedMinePlacer with one worker per available processor.
+     *
+     * @param target    The condition a board must meet.
+     * @param timeLimit The longest time to search before settling for the closest candidate.
+     * @param seed      The seed from which candidate seeds are drawn.
+     * @throws IllegalArgumentException if the time limit is not positive.
+     */
+    public DifficultyTargetedMinePlacer(Target target, Duration timeLimit, long seed) {
+        this(target, Runtime.getRuntime().availableProcessors(), timeLimit, seed);
+    }
+
+    /**
+     * Constructs a DifficultyTargetedMinePlacer.
+     *
+     * @param target    The condition a board must meet.
+     * @param workers   The number of threads that search for candidates in parallel.
+     * @param timeLimit The longest time to search before settling for the closest candidate.
+     * @param seed      The seed from which candidate seeds are drawn.
+     * @throws IllegalArgumentException if workers or the time limit is not positive.
+     */
+    public DifficultyTargetedMinePlacer(Target target, int workers, Duration timeLimit, long seed) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive, but was " + workers);
+        }
+        if (timeLimit.isNegative() || timeLimit.isZero()) {
+            throw new IllegalArgumentException("Time limit must be positive, but was " + timeLimit);
+        }
+        this.target = target;
+        this.workers = workers;
+        this.timeLimitNanos = timeLimit.toNanos();
+        this.seeds = new SplittableRandom(seed);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "board-search-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Places mines so that the board meets the target, or comes as close to it as the time limit allows.
+     * The grid is expected to contain no mines yet.
+     *
+     * @param grid      The Grid object to place mines on.
+     * @param mineCount The total number of mines to place.
+     * @throws IllegalArgumentException if mineCount is negative or exceeds the total number of cells in the grid.
+     */
+    @Override
+    public void placeMines(Grid grid, int mineCount) {
+        int totalCells = grid.getCellCount();
+        if (mineCount < 0) {
+            throw new IllegalArgumentException("Mine count cannot be negative: " + mineCount);
+        }
+        if (mineCount > totalCells) {
+            throw new IllegalArgumentException("Mine count (" + mineCount +
+                    ") cannot exceed the total number of cells (" + totalCells + ")");
+        }
+        long start = System.nanoTime();
+        long baseSeed;
+        synchronized (seeds) {
+            baseSeed = seeds.nextLong();
+        }
+        Search search = new Search(grid.getSize(), mineCount, baseSeed, start + timeLimitNanos);
+        List<Callable<Long>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(search::run);
+        }
+        long seed;
+        try {
+            seed = executor.invokeAny(tasks, timeLimitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            timeouts.incrementAndGet();
+            seed = search.closestSeed();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            seed = search.closestSeed();
+        }
+        new SeededMinePlacer(seed).placeMines(grid, mineCount);
+        generationNanos.addAndGet(System.nanoTime() - start);
+        boardsPlaced.incrementAndGet();
+    }
+
+    /**
+     * Gets the opening cell of a no-guess board, since the board is only guaranteed to be solvable from
+     * there. Boards that only target a 3BV range can be opened anywhere.
+     *
+     * @param grid A grid initialized by this placer.
+     * @return The flat index of the opening cell, or -1 if the target does not require one.
+     */
+    @Override
+    public int startingCell(Grid grid) {
+        return target.guessFree() ? openingCell(grid) : -1;
+    }
+
+    /**
+     * Gets the condition boards are generated to meet.
+     *
+     * @return The target.
+     */
+    public Target getTarget() {
+        return target;
+    }
+
+    /**
+     * Gets a snapshot of the acceptance-rate and generation-time counters.
+     *
+     * @return The current metrics.
+     */
+    public Metrics getMetrics() {
+        return new Metrics(boardsPlaced.get(), candidatesTried.get(), candidatesAccepted.get(), timeouts.get(),
+                generationNanos.get());
+    }
+
+    /**
+     * Stops the worker threads. Placing mines afterwards is not supported.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Finds the flat index of the cell a no-guess board is opened at: its first zero cell in row-major order.
+     *
+     * @param grid An initialized grid.
+     * @return The flat index of the opening cell, or -1 if the board has no zero cell.
+     */
+    public static int openingCell(Grid grid) {
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (!grid.isMine(index) && grid.getAdjacentMineCount(index) == 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Opens a board at its opening cell and reveals every cell the DeductionEngine
+     * proves safe, for as long as it finds one.
+     *
+     * @param grid An initialized grid with nothing revealed; it is revealed in place.
+     * @return The number of safe cells left hidden, 0 if the board was solved without guessing.
+     */
+    static int solveWithoutGuessing(Grid grid) {
+        int opening = openingCell(grid);
+        if (opening < 0) {
+            return grid.getHiddenSafeCellCount();
+        }
+        GuessFreeSolver.solveFromOpening(grid, opening);
+        return grid.getHiddenSafeCellCount();
+    }
+
+    /**
+     * The shared state of one {@link #placeMines(Grid, int)} call: the next candidate number and the
+     * closest candidate seen so far.
+     */
+    private final class Search {
+
+        private final int size;
+        private final int mineCount;
+        private final long baseSeed;
+        private final long deadline;
+        private final AtomicLong nextCandidate = new AtomicLong();
+        private long closestSeed;
+        private long closestShortfall = Long.MAX_VALUE;
+
+        Search(int size, int mineCount, long baseSeed, long deadline) {
+            this.size = size;
+            this.mineCount = mineCount;
+            this.baseSeed = baseSeed;
+            this.deadline = deadline;
+            this.closestSeed = SeededMinePlacer.seedForBoard(baseSeed, 0);
+        }
+
+        /**
+         * Scores candidates until one qualifies, the worker is interrupted or time runs out.
+         *
+         * @return The seed of a qualifying candidate.
+         * @throws TimeoutException if the search stopped without finding one.
+         */
+        Long run() throws TimeoutException {
+            while (!Thread.currentThread().isInterrupted() && System.nanoTime() - deadline < 0) {
+                long seed = SeededMinePlacer.seedForBoard(baseSeed, nextCandidate.getAndIncrement());
+                Grid candidate = new Grid(size);
+                candidate.initialize(new SeededMinePlacer(seed), mineCount);
+                long shortfall = target.shortfall(candidate);
+                candidatesTried.incrementAndGet();
+                if (shortfall == 0) {
+                    candidatesAccepted.incrementAndGet();
+                    return seed;
+                }
+                offer(seed, shortfall);
+            }
+            throw new TimeoutException("No candidate met " + target);
+        }
+
+        private synchronized void offer(long seed, long shortfall) {
+            if (shortfall < closestShortfall) {
+                closestShortfall = shortfall;
+                closestSeed = seed;
+            }
+        }
+
+        synchronized long closestSeed() {
+            return closestSeed;
+        }
+    }
+
+    /**
+     * The condition a generated board must meet.
+     *
+     * @param minThreeBv The smallest acceptable 3BV.
+     * @param maxThreeBv The largest acceptable 3BV.
+     * @param guessFree  Whether the board must be solvable from its opening cell without guessing.
+     */
+    public record Target(int minThreeBv, int maxThreeBv, boolean guessFree) {
+
+        /**
+         * Validates the 3BV range.
+         *
+         * @throws IllegalArgumentException if the 3BV range is empty or negative.
+         */
+        public Target {
+            if (minThreeBv < 0 || minThreeBv > maxThreeBv) {
+                throw new IllegalArgumentException("Invalid 3BV range: " + minThreeBv + " to " + maxThreeBv);
+            }
+        }
+
+        /**
+         * Creates a target that accepts boards whose 3BV lies in a range.
+         *
+         * @param min The smallest acceptable 3BV.
+         * @param max The largest acceptable 3BV.
+         * @return The target.
+         */
+        public static Target threeBv(int min, int max) {
+            return new Target(min, max, false);
+        }
+
+        /**
+         * Creates a target that accepts boards solvable from their opening cell without guessing.
+         *
+         * @return The target.
+         */
+        public static Target noGuess() {
+            return new Target(0, Integer.MAX_VALUE, true);
+        }
+
+        /**
+         * Creates a target with the same 3BV range that also requires solving without guessing.
+         *
+         * @return The target.
+         */
+        public Target withNoGuess() {
+            return new Target(minThreeBv, maxThreeBv, true);
+        }
+
+        /**
+         * Measures how far a board is from meeting the target: the distance of its 3BV from the range,
+         * plus, for no-guess targets, the safe cells deduction leaves hidden.
+         *
+         * @param grid An initialized grid with nothing revealed. No-guess targets reveal it in place.
+         * @return 0 if the board meets the target, otherwise a positive distance.
+         */
+        long shortfall(Grid grid) {
+            int threeBv = grid.getThreeBv();
+            long shortfall = Math.max(0, minThreeBv - threeBv) + Math.max(0, (long) threeBv - maxThreeBv);
+            if (guessFree) {
+                shortfall += solveWithoutGuessing(grid);
+            }
+            return shortfall;
+        }
+
+        @Override
+        public String toString() {
+            String range = maxThreeBv == Integer.MAX_VALUE ? "3BV >= " + minThreeBv
+                    : "3BV " + minThreeBv + "-" + maxThreeBv;
+            return guessFree ? range + ", no guessing" : range;
+        }
+    }
+
+    /**
+     * A snapshot of generation counters.
+     *
+     * @param boardsPlaced       The number of boards placed.
+     * @param candidatesTried    The number of candidate layouts scored on any worker.
+     * @param candidatesAccepted The number of those that met the target.
+     * @param timeouts           The number of boards placed from the closest candidate after the time limit.
+     * @param generationNanos    The total time spent placing boards, in nanoseconds.
+     */
+    public record Metrics(long boardsPlaced, long candidatesTried, long candidatesAccepted, long timeouts,
+                          long generationNanos) {
+
+        /**
+         * Gets the fraction of scored candidates that met the target.
+         *
+         * @return The acceptance rate between 0 and 1, or 0 if no candidates were scored.
+         */
+        public double acceptanceRate() {
+            return candidatesTried == 0 ? 0.0 : (double) candidatesAccepted / candidatesTried;
+        }
+
+        /**
+         * Gets the average time to place one board.
+         *
+         * @return The average generation time in milliseconds, or 0 if no boards were placed.
+         */
+        public double averageGenerationMillis() {
+            return boardsPlaced == 0 ? 0.0 : generationNanos / 1e6 / boardsPlaced;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Targeted boards: %d placed, %d candidates (%.1f%% accepted), %d timeouts, %.2f ms average",
+                    boardsPlaced, candidatesTried, acceptanceRate() * 100, timeouts, averageGenerationMillis());
+        }
+    }
+}
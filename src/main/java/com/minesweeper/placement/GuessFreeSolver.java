@@ -0,0 +1,48 @@
+package com.minesweeper.placement;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.solver.DeductionEngine;
+
+/**
+ * Plays a layout the way a player who never guesses would: from an opening, it reveals every cell
+ * the {@link DeductionEngine} proves safe until the board is clear or the engine is stuck. The
+ * placers use it to check that their boards need no guess.
+ */
+final class GuessFreeSolver {
+
+    private GuessFreeSolver() {
+    }
+
+    /**
+     * Plays a layout from its opening with a new DeductionEngine.
+     *
+     * @param grid         An initialized grid with nothing revealed; it is revealed in place.
+     * @param openingIndex The flat index of the first cell revealed.
+     * @return The engine, left where it got stuck or where the board was cleared.
+     */
+    static DeductionEngine solveFromOpening(Grid grid, int openingIndex) {
+        grid.revealCell(openingIndex);
+        DeductionEngine engine = new DeductionEngine(grid);
+        advance(grid, engine, () -> { });
+        return engine;
+    }
+
+    /**
+     * Reveals deduced safe cells until the board is clear or the engine finds none, reporting the
+     * cells each reveal uncovers to the engine.
+     *
+     * @param grid        The grid the engine plays.
+     * @param engine      The engine, up to date with every cell revealed so far.
+     * @param afterReveal Runs after each reveal, while the grid's reveal log still describes it.
+     */
+    static void advance(Grid grid, DeductionEngine engine, Runnable afterReveal) {
+        int safeCell;
+        while (grid.getHiddenSafeCellCount() > 0 && (safeCell = engine.findSafeCell()) >= 0) {
+            grid.revealCell(safeCell);
+            for (int i = 0; i < grid.getLastRevealCount(); i++) {
+                engine.cellRevealed(grid.getLastRevealedCell(i));
+            }
+            afterReveal.run();
+        }
+    }
+}
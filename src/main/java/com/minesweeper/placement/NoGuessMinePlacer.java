@@ -0,0 +1,593 @@
+package com.minesweeper.placement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.MinePlacer;
+import com.minesweeper.solver.DeductionEngine;
+
+/**
+ * Implements the MinePlacer interface with boards that can be cleared without guessing from the
+ * player's first move.
+ * <p>
+ * Mines are placed once the opening is known, outside the opening cell and its neighbors, so the
+ * first move always reveals a zero. The layout is then played with the {@link DeductionEngine}:
+ * starting at the opening, every cell it proves safe is revealed until the board is clear or the
+ * engine is stuck. When it is stuck, the layout is repaired locally instead of regenerated: a mine
+ * the engine could not place on the edge of the revealed area is moved to a hidden cell away from
+ * it, and solving continues from the same revealed cells and the same engine, which only revisits
+ * the numbers around the two changed cells. Both cells are picked from sets of edge mines and hidden
+ * safe cells that are kept up to date as cells are revealed, so a repair does not scan the board.
+ * Moves never touch a cell the engine has determined, so its knowledge stays true, but an earlier
+ * deduction may have relied on a number a repair has since changed. A repaired layout is therefore
+ * verified by solving it again from the opening with a fresh grid and engine, and that solve
+ * becomes the new starting point if it gets stuck. Unlike a repair, a verification costs time in
+ * proportion to the board: it builds a new grid, engine and cell sets, reusing only the set arrays.
+ * A layout that needs too many repairs is abandoned for a fresh one.
+ * <p>
+ * Every worker thread repairs its own layouts; the first verified layout wins and the other workers
+ * are interrupted. If no layout is verified within the time limit, the layout that came closest is
+ * used, so the board always returns through {@link Grid#initialize(MinePlacer, int, int)}.
+ */
+public class NoGuessMinePlacer implements MinePlacer, AutoCloseable {
+
+    /**
+     * The default cap on generation time, after which the closest layout is used.
+     */
+    public static final Duration DEFAULT_TIME_LIMIT = Duration.ofSeconds(2);
+
+    private static final int LATENCY_SAMPLES = 1024; // The most recent boards kept for percentiles
+    private static final int REPAIRS_PER_MINE = 2;
+
+    private final int workers;
+    private final long timeLimitNanos;
+    private final ExecutorService executor;
+    private final SplittableRandom seeds;
+
+    private final AtomicLong layoutsGenerated = new AtomicLong();
+    private final AtomicLong repairs = new AtomicLong();
+    private final AtomicLong verifications = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private long boardsPlaced; // Guarded by latencies
+    private long generationNanos; // Guarded by latencies
+
+    /**
+     * Constructs a NoGuessMinePlacer with one worker per available processor and the default time limit.
+     */
+    public NoGuessMinePlacer() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_TIME_LIMIT, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a NoGuessMinePlacer.
+     *
+     * @param workers   The number of threads that repair layouts in parallel.
+     * @param timeLimit The longest time to search before settling for the closest layout.
+     * @param seed      The seed from which layout seeds are drawn.
+     * @throws IllegalArgumentException if workers or the time limit is not positive.
+     */
+    public NoGuessMinePlacer(int workers, Duration timeLimit, long seed) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive, but was " + workers);
+        }
+        if (timeLimit.isNegative() || timeLimit.isZero()) {
+            throw new IllegalArgumentException("Time limit must be positive, but was " + timeLimit);
+        }
+        this.workers = workers;
+        this.timeLimitNanos = timeLimit.toNanos();
+        this.seeds = new SplittableRandom(seed);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "no-guess-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Places mines for an opening in the middle of the board.
+     *
+     * @param grid      The Grid object to place mines on.
+     * @param mineCount The total number of mines to place.
+     * @throws IllegalArgumentException if mineCount is negative or leaves no safe cell.
+     */
+    @Override
+    public void placeMines(Grid grid, int mineCount) {
+        int middle = grid.getSize() / 2;
+        placeMines(grid, mineCount, grid.indexOf(middle, middle));
+    }
+
+    /**
+     * Places mines so that the board can be cleared from the opening without guessing, or comes as
+     * close to it as the time limit allows. The grid is expected to contain no mines yet.
+     *
+     * @param grid         The Grid object to place mines on.
+     * @param mineCount    The total number of mines to place.
+     * @param openingIndex The flat index of the first cell the player reveals.
+     * @throws IllegalArgumentException if mineCount is negative or leaves no safe cell.
+     */
+    @Override
+    public void placeMines(Grid grid, int mineCount, int openingIndex) {
+        int totalCells = grid.getCellCount();
+        if (mineCount < 0) {
+            throw new IllegalArgumentException("Mine count cannot be negative: " + mineCount);
+        }
+        if (mineCount >= totalCells) {
+            throw new IllegalArgumentException("Mine count (" + mineCount +
+                    ") must leave at least one safe cell of " + totalCells);
+        }
+        long start = System.nanoTime();
+        long baseSeed;
+        synchronized (seeds) {
+            baseSeed = seeds.nextLong();
+        }
+        Search search = new Search(grid.getSize(), mineCount, openingIndex, baseSeed, start + timeLimitNanos);
+        List<Callable<int[]>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            tasks.add(search::run);
+        }
+        int[] mines;
+        try {
+            mines = executor.invokeAny(tasks, timeLimitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            timeouts.incrementAndGet();
+            mines = search.closestLayout();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            mines = search.closestLayout();
+        }
+        for (int mine : mines) {
+            grid.placeMine(mine);
+        }
+        recordLatency(System.nanoTime() - start);
+    }
+
+    /**
+     * Reports that this placer waits for the first move.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean needsOpening() {
+        return true;
+    }
+
+    /**
+     * Gets a snapshot of the generation counters.
+     *
+     * @return The current metrics.
+     */
+    public Metrics getMetrics() {
+        synchronized (latencies) {
+            return new Metrics(boardsPlaced, layoutsGenerated.get(), repairs.get(), verifications.get(),
+                    timeouts.get(), generationNanos);
+        }
+    }
+
+    /**
+     * Gets a percentile of the generation latency of the most recent boards, by the nearest-rank method.
+     *
+     * @param percentile The percentile, between 0 (exclusive) and 100 (inclusive).
+     * @return The latency in nanoseconds.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     * @throws IllegalStateException    if no board has been placed yet.
+     */
+    public long latencyPercentileNanos(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100], but was " + percentile);
+        }
+        long[] sorted;
+        synchronized (latencies) {
+            if (boardsPlaced == 0) {
+                throw new IllegalStateException("No board has been placed yet");
+            }
+            sorted = Arrays.copyOf(latencies, (int) Math.min(boardsPlaced, LATENCY_SAMPLES));
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Stops the worker threads. Placing mines afterwards is not supported.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void recordLatency(long nanos) {
+        synchronized (latencies) {
+            latencies[(int) (boardsPlaced % LATENCY_SAMPLES)] = nanos;
+            boardsPlaced++;
+            generationNanos += nanos;
+        }
+    }
+
+    /**
+     * The shared state of one {@link #placeMines(Grid, int, int)} call: the next layout number and
+     * the closest layout seen so far.
+     */
+    private final class Search {
+
+        private final int size;
+        private final int mineCount;
+        private final int openingIndex;
+        private final long baseSeed;
+        private final long deadline;
+        private final AtomicLong nextLayout = new AtomicLong();
+        private int[] closestLayout;
+        private int closestHiddenCells = Integer.MAX_VALUE;
+
+        Search(int size, int mineCount, int openingIndex, long baseSeed, long deadline) {
+            this.size = size;
+            this.mineCount = mineCount;
+            this.openingIndex = openingIndex;
+            this.baseSeed = baseSeed;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Generates and repairs layouts until one is verified, the worker is interrupted or time runs out.
+         *
+         * @return The mine indices of a verified layout.
+         * @throws TimeoutException if the search stopped without finding one.
+         */
+        int[] run() throws TimeoutException {
+            while (!stopped()) {
+                long seed = SeededMinePlacer.seedForBoard(baseSeed, nextLayout.getAndIncrement());
+                Attempt attempt = new Attempt(size, mineCount, openingIndex, new SplittableRandom(seed));
+                layoutsGenerated.incrementAndGet();
+                if (attempt.repair(this)) {
+                    return attempt.mines();
+                }
+                offer(attempt);
+            }
+            throw new TimeoutException("No layout could be cleared without guessing");
+        }
+
+        boolean stopped() {
+            return Thread.currentThread().isInterrupted() || System.nanoTime() - deadline >= 0;
+        }
+
+        private synchronized void offer(Attempt attempt) {
+            if (attempt.grid.getHiddenSafeCellCount() < closestHiddenCells) {
+                closestHiddenCells = attempt.grid.getHiddenSafeCellCount();
+                closestLayout = attempt.mines();
+            }
+        }
+
+        synchronized int[] closestLayout() {
+            if (closestLayout == null) { // Time ran out before any layout was played
+                closestLayout = new Attempt(size, mineCount, openingIndex, new SplittableRandom(baseSeed)).mines();
+            }
+            return closestLayout;
+        }
+    }
+
+    /**
+     * One layout being played and repaired, with the grid and engine that carry over between repairs.
+     * <p>
+     * Hidden cells are sorted as they are revealed around: undetermined mines on the edge of the
+     * revealed area, safe cells on the edge, and safe cells away from it. A cell joins the edge when
+     * a neighbor is revealed and leaves its set when it is revealed or moved, so each reveal costs
+     * its neighborhood. Mines the engine has since determined are dropped from the edge set when a
+     * repair draws them.
+     */
+    private final class Attempt {
+
+        private final int openingIndex;
+        private final int mineCount;
+        private final SplittableRandom random;
+        private final int[] neighbors = new int[Grid.MAX_NEIGHBORS];
+        private final int[] revealedNeighbors = new int[Grid.MAX_NEIGHBORS];
+        private Grid grid;
+        private DeductionEngine engine;
+        private BitSet edge; // Hidden cells next to a revealed cell
+        private CellSet edgeMines; // Edge mines not yet drawn as determined
+        private CellSet edgeSafeCells; // Edge safe cells outside the opening area
+        private CellSet interiorSafeCells; // Hidden safe cells away from the edge
+
+        Attempt(int size, int mineCount, int openingIndex, SplittableRandom random) {
+            this.openingIndex = openingIndex;
+            this.mineCount = mineCount;
+            this.random = random;
+            Grid layout = new Grid(size);
+            layout.initialize((g, count) -> {
+                for (int mine : randomLayout(g, count)) {
+                    g.placeMine(mine);
+                }
+            }, mineCount);
+            solveFromOpening(layout);
+        }
+
+        /**
+         * Repairs the layout until a fresh solve from the opening clears it.
+         *
+         * @return true if the layout was verified, false if it needed too many repairs or time ran out.
+         */
+        boolean repair(Search search) {
+            boolean verified = true; // The current state comes from a solve without repairs
+            int repairsLeft = Math.max(mineCount * REPAIRS_PER_MINE, 1);
+            while (true) {
+                if (grid.getHiddenSafeCellCount() == 0) {
+                    if (verified) {
+                        return true;
+                    }
+                    verifications.incrementAndGet();
+                    restart();
+                    verified = true;
+                    continue;
+                }
+                if (repairsLeft-- == 0 || search.stopped() || !moveStuckMine()) {
+                    return false;
+                }
+                repairs.incrementAndGet();
+                verified = false;
+                advance();
+            }
+        }
+
+        /**
+         * Moves a mine the engine could not determine, next to the revealed area, to a hidden cell
+         * away from it, or else to a safe cell on the edge, and tells the engine which numbers changed.
+         *
+         * @return false if there is no such mine or nowhere to put it.
+         */
+        private boolean moveStuckMine() {
+            int from = drawUndetermined(edgeMines);
+            CellSet destinations = interiorSafeCells.size() > 0 ? interiorSafeCells : edgeSafeCells;
+            int to = drawUndetermined(destinations);
+            if (from < 0 || to < 0) {
+                return false;
+            }
+            grid.moveMine(from, to);
+            engine.cellRevealed(from); // Requeues the numbers around both cells
+            engine.cellRevealed(to);
+            edgeMines.remove(from);
+            if (!isOpeningArea(from)) {
+                edgeSafeCells.add(from);
+            }
+            destinations.remove(to);
+            if (edge.get(to)) {
+                edgeMines.add(to);
+            } // A mine away from the edge joins the edge set when a neighbor is revealed
+            return true;
+        }
+
+        /**
+         * Draws a random cell the engine has not determined, dropping determined ones as they are drawn;
+         * a determined cell stays determined, so each is dropped once.
+         *
+         * @return The cell, or -1 if the set has none.
+         */
+        private int drawUndetermined(CellSet cells) {
+            while (cells.size() > 0) {
+                int cell = cells.get(random.nextInt(cells.size()));
+                if (!engine.isKnownMine(cell) && !engine.isKnownSafe(cell)) {
+                    return cell;
+                }
+                cells.remove(cell);
+            }
+            return -1;
+        }
+
+        /**
+         * Plays the current layout again from the opening with a fresh grid and engine. This scans
+         * the board, so it runs once per verification, not once per repair.
+         */
+        private void restart() {
+            int[] mines = mines();
+            Grid layout = new Grid(grid.getSize());
+            layout.initialize((g, count) -> {
+                for (int mine : mines) {
+                    g.placeMine(mine);
+                }
+            }, mines.length);
+            solveFromOpening(layout);
+        }
+
+        /**
+         * Opens a layout, sorting its hidden cells as the opening reveals them, and solves as far as
+         * the engine can.
+         */
+        private void solveFromOpening(Grid layout) {
+            int cellCount = layout.getCellCount();
+            grid = layout;
+            if (edge == null) {
+                edge = new BitSet(cellCount);
+                edgeMines = new CellSet(cellCount);
+                edgeSafeCells = new CellSet(cellCount);
+                interiorSafeCells = new CellSet(cellCount);
+            } else { // Verifying a repaired layout on the same board
+                edge.clear();
+                edgeMines.clear();
+                edgeSafeCells.clear();
+                interiorSafeCells.clear();
+            }
+            for (int index = 0; index < cellCount; index++) {
+                if (!grid.isMine(index)) {
+                    interiorSafeCells.add(index);
+                }
+            }
+            grid.revealCell(openingIndex);
+            engine = new DeductionEngine(grid);
+            sortLastReveal();
+            advance();
+        }
+
+        /**
+         * Reveals deduced safe cells until the board is clear or the engine finds none.
+         */
+        private void advance() {
+            GuessFreeSolver.advance(grid, engine, this::sortLastReveal);
+        }
+
+        /**
+         * Takes the cells of the grid's last reveal out of the hidden sets and moves their hidden
+         * neighbors onto the edge.
+         */
+        private void sortLastReveal() {
+            for (int i = 0; i < grid.getLastRevealCount(); i++) {
+                int cell = grid.getLastRevealedCell(i);
+                interiorSafeCells.remove(cell);
+                edgeSafeCells.remove(cell);
+                int neighborCount = grid.getNeighbors(cell, revealedNeighbors);
+                for (int n = 0; n < neighborCount; n++) {
+                    int neighbor = revealedNeighbors[n];
+                    if (grid.isRevealed(neighbor) || edge.get(neighbor)) {
+                        continue;
+                    }
+                    edge.set(neighbor);
+                    if (grid.isMine(neighbor)) {
+                        edgeMines.add(neighbor);
+                    } else {
+                        interiorSafeCells.remove(neighbor);
+                        if (!isOpeningArea(neighbor)) {
+                            edgeSafeCells.add(neighbor);
+                        }
+                    }
+                }
+            }
+        }
+
+        int[] mines() {
+            int[] mines = new int[mineCount];
+            int count = 0;
+            for (int index = 0; index < grid.getCellCount(); index++) {
+                if (grid.isMine(index)) {
+                    mines[count++] = index;
+                }
+            }
+            return mines;
+        }
+
+        /**
+         * Picks mine cells uniformly outside the opening area, or outside just the opening cell when
+         * the area leaves too little room.
+         */
+        private int[] randomLayout(Grid grid, int count) {
+            int cellCount = grid.getCellCount();
+            boolean keepAreaClear = count <= cellCount - openingArea(grid);
+            int[] candidates = new int[cellCount];
+            int candidateCount = 0;
+            for (int index = 0; index < cellCount; index++) {
+                if (keepAreaClear ? !isOpeningArea(grid, index) : index != openingIndex) {
+                    candidates[candidateCount++] = index;
+                }
+            }
+            for (int i = 0; i < count; i++) { // Partial Fisher-Yates shuffle
+                int j = i + random.nextInt(candidateCount - i);
+                int swap = candidates[i];
+                candidates[i] = candidates[j];
+                candidates[j] = swap;
+            }
+            return Arrays.copyOf(candidates, count);
+        }
+
+        private int openingArea(Grid grid) {
+            return grid.getNeighbors(openingIndex, neighbors) + 1;
+        }
+
+        private boolean isOpeningArea(int index) {
+            return isOpeningArea(grid, index);
+        }
+
+        private boolean isOpeningArea(Grid grid, int index) {
+            return Math.abs(grid.rowOf(index) - grid.rowOf(openingIndex)) <= 1
+                    && Math.abs(grid.columnOf(index) - grid.columnOf(openingIndex)) <= 1;
+        }
+    }
+
+    /**
+     * A set of cells that supports adding, removing and picking an element by position in constant time.
+     */
+    private static final class CellSet {
+
+        private final int[] cells;
+        private final int[] positions; // Position of each cell in cells, or -1 when absent
+        private int size;
+
+        CellSet(int cellCount) {
+            cells = new int[cellCount];
+            positions = new int[cellCount];
+            Arrays.fill(positions, -1);
+        }
+
+        int size() {
+            return size;
+        }
+
+        int get(int position) {
+            return cells[position];
+        }
+
+        void add(int cell) {
+            if (positions[cell] < 0) {
+                positions[cell] = size;
+                cells[size++] = cell;
+            }
+        }
+
+        void clear() {
+            for (int position = 0; position < size; position++) {
+                positions[cells[position]] = -1;
+            }
+            size = 0;
+        }
+
+        void remove(int cell) {
+            int position = positions[cell];
+            if (position >= 0) {
+                int last = cells[--size];
+                cells[position] = last;
+                positions[last] = position;
+                positions[cell] = -1;
+            }
+        }
+    }
+
+    /**
+     * A snapshot of generation counters.
+     *
+     * @param boardsPlaced     The number of boards placed.
+     * @param layoutsGenerated The number of fresh layouts tried on any worker.
+     * @param repairs          The number of mines moved to get layouts unstuck.
+     * @param verifications    The number of repaired layouts solved again from the opening.
+     * @param timeouts         The number of boards placed from the closest layout after the time limit.
+     * @param generationNanos  The total time spent placing boards, in nanoseconds.
+     */
+    public record Metrics(long boardsPlaced, long layoutsGenerated, long repairs, long verifications, long timeouts,
+                          long generationNanos) {
+
+        /**
+         * Gets the average time to place one board.
+         *
+         * @return The average generation time in milliseconds, or 0 if no boards were placed.
+         */
+        public double averageGenerationMillis() {
+            return boardsPlaced == 0 ? 0.0 : generationNanos / 1e6 / boardsPlaced;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("No-guess boards: %d placed, %d layouts, %d repairs, %d verifications, "
+                    + "%d timeouts, %.2f ms average", boardsPlaced, layoutsGenerated, repairs, verifications,
+                    timeouts, averageGenerationMillis());
+        }
+    }
+}
@@ -1,19 +1,22 @@
 package com.minesweeper.placement;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
-import com.minesweeper.domain.Cell;
-import com.minesweeper.domain.Coordinates;
 import com.minesweeper.domain.Grid;
 import com.minesweeper.handler.MinePlacer;
 
 /**
  * Implements the MinePlacer interface using random placement.
  * Ensures that the specified number of mines are placed in unique, random cells.
+ * <p>
+ * Uses Robert Floyd's sampling algorithm over flat cell indices, so exactly {@code mineCount}
+ * random numbers are drawn whatever the mine density, and the grid itself serves as the
+ * membership set. The layout is deterministic for a given random sequence.
  */
 public class RandomMinePlacer implements MinePlacer {
 
-    private final Random random;
+    private final RandomGenerator random;
 
     /**
      * Constructs a RandomMinePlacer using a default Random instance.
@@ -23,27 +26,29 @@ public class RandomMinePlacer implements MinePlacer {
     }
 
     /**
-     * Constructs a RandomMinePlacer using the provided Random instance.
+     * Constructs a RandomMinePlacer using the provided random generator, such as a {@link Random}
+     * or a per-thread {@link java.util.SplittableRandom}.
      * Useful for testing with predictable random sequences.
      *
-     * @param random The Random instance to use for generating coordinates.
+     * @param random The random generator to use for generating coordinates.
      */
-    public RandomMinePlacer(Random random) {
+    public RandomMinePlacer(RandomGenerator random) {
         this.random = random;
     }
 
     /**
      * Places the specified number of mines randomly onto the grid.
-     * It ensures mines are placed in unique locations.
+     * It ensures mines are placed in unique locations. The grid must contain no mines yet, since it
+     * serves as the set of cells already picked.
      *
      * @param grid The Grid object to place mines on.
      * @param mineCount The total number of mines to place.
-     * @throws IllegalArgumentException if mineCount is negative or exceeds the total number of cells in the grid.
+     * @throws IllegalArgumentException if mineCount is negative or exceeds the total number of cells in the grid,
+     *                                  or if the grid already contains mines.
      */
     @Override
     public void placeMines(Grid grid, int mineCount) {
-        int size = grid.getSize();
-        int totalCells = size * size;
+        int totalCells = grid.getCellCount();
         if (mineCount < 0) {
             throw new IllegalArgumentException("Mine count cannot be negative: " + mineCount);
         }
@@ -51,16 +56,17 @@ public class RandomMinePlacer implements MinePlacer {
             throw new IllegalArgumentException("Mine count (" + mineCount +
                     ") cannot exceed the total number of cells (" + totalCells + ")");
         }
-        int minesPlaced = 0;
-        while (minesPlaced < mineCount) {
-            int r = random.nextInt(size);
-            int c = random.nextInt(size);
-            Coordinates coordinates = new Coordinates(r, c);
-            Cell cell = grid.getCell(coordinates);
-            if (!cell.isMine()) {
-                cell.placeMine();
-                minesPlaced++;
+        if (grid.getMineCount() != 0) {
+            throw new IllegalArgumentException("Grid already contains " + grid.getMineCount() + " mines");
+        }
+        // Floyd's algorithm: for each j in [N - m, N), pick t in [0, j]; if t is taken, take j instead.
+        // j itself can never be taken yet, because every earlier pick was below j.
+        for (int j = totalCells - mineCount; j < totalCells; j++) {
+            int index = random.nextInt(j + 1);
+            if (grid.isMine(index)) {
+                index = j;
             }
+            grid.placeMine(index);
         }
     }
 } 
\ No newline at end of file
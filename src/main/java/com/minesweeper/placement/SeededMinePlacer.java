@@ -0,0 +1,296 @@
+package com.minesweeper.placement;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.MinePlacer;
+
+/**
+ * Implements the MinePlacer interface with a layout that is a pure function of a 64-bit seed.
+ * <p>
+ * Every cell gets a random key from a counter-based generator: the key of cell {@code i} is the
+ * {@code (i + 1)}-th value a {@link java.util.SplittableRandom} seeded with {@code seed} would return,
+ * computed directly from the index. The mines are the {@code mineCount} cells with the smallest keys
+ * (ties broken by index), which is a uniformly random subset. Because a cell's key does not depend on
+ * any other cell, disjoint regions of the board are generated independently: large boards are split
+ * into bands on a ForkJoinPool, and the layout is the same whatever the split or thread count.
+ * <p>
+ * The selection needs two passes: a histogram of the top key bits finds the bucket holding the
+ * {@code mineCount}-th smallest key, then a second pass places every mine below that bucket and
+ * collects the few candidates inside it, which are sorted to settle the boundary.
+ */
+public class SeededMinePlacer implements MinePlacer {
+
+    /**
+     * Boards with fewer cells than this are generated on the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    private static final int BAND_CELLS = 1 << 16;
+    private static final int BUCKET_BITS = 12;
+    private static final int BUCKET_SHIFT = Long.SIZE - BUCKET_BITS;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+
+    /**
+     * Constructs a SeededMinePlacer with a freshly drawn random seed.
+     */
+    public SeededMinePlacer() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a SeededMinePlacer for the given seed.
+     *
+     * @param seed The seed that determines the mine layout.
+     */
+    public SeededMinePlacer(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Creates and initializes the board described by a configuration.
+     * Calling this twice with the same configuration yields identical boards.
+     *
+     * @param config The grid size, mine count and seed of the board.
+     * @return A new, initialized Grid.
+     */
+    public static Grid generate(GameConfiguration config) {
+        Grid grid = new Grid(config.gridSize());
+        grid.initialize(new SeededMinePlacer(config.seed()), config.mineCount());
+        return grid;
+    }
+
+    /**
+     * Gets the seed this placer generates layouts from.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public boolean isSeeded() {
+        return true;
+    }
+
+    @Override
+    public MinePlacer withSeed(long seed) {
+        return new SeededMinePlacer(seed);
+    }
+
+    /**
+     * Places the specified number of mines onto the grid, determined entirely by the seed.
+     * The grid must contain no mines yet, or the layout would not be the one the seed regenerates.
+     *
+     * @param grid The Grid object to place mines on.
+     * @param mineCount The total number of mines to place.
+     * @throws IllegalArgumentException if mineCount is negative or exceeds the total number of cells in the grid,
+     *                                  or if the grid already contains mines.
+     */
+    @Override
+    public void placeMines(Grid grid, int mineCount) {
+        placeMines(grid, mineCount, grid.getCellCount() >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Places mines, optionally splitting the work across the common ForkJoinPool.
+     * Both modes produce the same layout.
+     */
+    void placeMines(Grid grid, int mineCount, boolean parallel) {
+        int totalCells = grid.getCellCount();
+        if (mineCount < 0) {
+            throw new IllegalArgumentException("Mine count cannot be negative: " + mineCount);
+        }
+        if (mineCount > totalCells) {
+            throw new IllegalArgumentException("Mine count (" + mineCount +
+                    ") cannot exceed the total number of cells (" + totalCells + ")");
+        }
+        if (grid.getMineCount() != 0) {
+            throw new IllegalArgumentException("Grid already contains " + grid.getMineCount() + " mines");
+        }
+        if (mineCount == 0) {
+            return;
+        }
+
+        // Pass 1: find the bucket containing the mineCount-th smallest key
+        int[] histogram = run(new HistogramTask(seed, 0, totalCells), parallel);
+        int bucket = 0;
+        int keysBelowBucket = 0;
+        while (keysBelowBucket + histogram[bucket] < mineCount) {
+            keysBelowBucket += histogram[bucket++];
+        }
+        int neededFromBucket = mineCount - keysBelowBucket;
+
+        // Pass 2: collect the mines below the bucket and the candidates inside it, band by band
+        Band band = run(new SelectionTask(seed, 0, totalCells, bucket), parallel);
+        for (int i = 0; i < band.mineCount; i++) {
+            grid.placeMine(band.mines[i]);
+        }
+
+        // Candidates share their top bits, so signed order equals unsigned order among them
+        long[] sortedKeys = Arrays.copyOf(band.candidateKeys, band.candidateCount);
+        Arrays.sort(sortedKeys);
+        long thresholdKey = sortedKeys[neededFromBucket - 1];
+        int tiesToTake = neededFromBucket;
+        for (long key : sortedKeys) {
+            if (key < thresholdKey) {
+                tiesToTake--;
+            }
+        }
+        // Candidates are in index order, so ties on the threshold key go to the lowest indices
+        for (int i = 0; i < band.candidateCount; i++) {
+            long key = band.candidateKeys[i];
+            if (key < thresholdKey || (key == thresholdKey && tiesToTake-- > 0)) {
+                grid.placeMine(band.candidateIndices[i]);
+            }
+        }
+    }
+
+    private static <T> T run(RecursiveTask<T> task, boolean parallel) {
+        return parallel ? ForkJoinPool.commonPool().invoke(task) : task.invoke();
+    }
+
+    /**
+     * Derives the seed of one board in a numbered series, such as a generated dataset.
+     * Each board's seed depends only on the base seed and its position, so any board of the
+     * series can be regenerated on its own.
+     *
+     * @param baseSeed   The seed of the whole series.
+     * @param boardIndex The zero-based position of the board in the series.
+     * @return The seed for that board.
+     */
+    public static long seedForBoard(long baseSeed, long boardIndex) {
+        return keyOf(~baseSeed, boardIndex); // Inverted so board seeds differ from the base seed's own cell keys
+    }
+
+    /**
+     * Computes the random key of a cell: the SplitMix64 output for counter value index + 1.
+     */
+    static long keyOf(long seed, long index) {
+        long z = seed + (index + 1L) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Counts keys per top-bits bucket over a range of cells.
+     */
+    private static final class HistogramTask extends RecursiveTask<int[]> {
+
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        HistogramTask(long seed, int from, int to) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= BAND_CELLS) {
+                int[] histogram = new int[1 << BUCKET_BITS];
+                for (int index = from; index < to; index++) {
+                    histogram[(int) (keyOf(seed, index) >>> BUCKET_SHIFT)]++;
+                }
+                return histogram;
+            }
+            int middle = (from + to) >>> 1;
+            HistogramTask left = new HistogramTask(seed, from, middle);
+            left.fork();
+            int[] histogram = new HistogramTask(seed, middle, to).compute();
+            int[] leftHistogram = left.join();
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += leftHistogram[i];
+            }
+            return histogram;
+        }
+    }
+
+    /**
+     * Selects the mines below the threshold bucket and the candidates inside it over a range of cells.
+     */
+    private static final class SelectionTask extends RecursiveTask<Band> {
+
+        private final long seed;
+        private final int from;
+        private final int to;
+        private final int bucket;
+
+        SelectionTask(long seed, int from, int to, int bucket) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+            this.bucket = bucket;
+        }
+
+        @Override
+        protected Band compute() {
+            if (to - from <= BAND_CELLS) {
+                Band band = new Band();
+                for (int index = from; index < to; index++) {
+                    long key = keyOf(seed, index);
+                    int keyBucket = (int) (key >>> BUCKET_SHIFT);
+                    if (keyBucket < bucket) {
+                        band.addMine(index);
+                    } else if (keyBucket == bucket) {
+                        band.addCandidate(index, key);
+                    }
+                }
+                return band;
+            }
+            int middle = (from + to) >>> 1;
+            SelectionTask left = new SelectionTask(seed, from, middle, bucket);
+            left.fork();
+            Band right = new SelectionTask(seed, middle, to, bucket).compute();
+            return left.join().append(right);
+        }
+    }
+
+    /**
+     * The selection result for a range of cells, with indices kept in ascending order.
+     */
+    private static final class Band {
+
+        int[] mines = new int[16];
+        int mineCount;
+        long[] candidateKeys = new long[4];
+        int[] candidateIndices = new int[4];
+        int candidateCount;
+
+        void addMine(int index) {
+            if (mineCount == mines.length) {
+                mines = Arrays.copyOf(mines, mineCount * 2);
+            }
+            mines[mineCount++] = index;
+        }
+
+        void addCandidate(int index, long key) {
+            if (candidateCount == candidateKeys.length) {
+                candidateKeys = Arrays.copyOf(candidateKeys, candidateCount * 2);
+                candidateIndices = Arrays.copyOf(candidateIndices, candidateCount * 2);
+            }
+            candidateKeys[candidateCount] = key;
+            candidateIndices[candidateCount++] = index;
+        }
+
+        Band append(Band next) {
+            for (int i = 0; i < next.mineCount; i++) {
+                addMine(next.mines[i]);
+            }
+            for (int i = 0; i < next.candidateCount; i++) {
+                addCandidate(next.candidateIndices[i], next.candidateKeys[i]);
+            }
+            return this;
+        }
+    }
+}
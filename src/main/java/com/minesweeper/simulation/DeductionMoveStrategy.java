@@ -0,0 +1,40 @@
+package com.minesweeper.simulation;
+
+import java.util.SplittableRandom;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.MoveStrategy;
+import com.minesweeper.solver.DeductionEngine;
+
+/**
+ * Implements the MoveStrategy interface by revealing cells the DeductionEngine proves safe, and
+ * guessing uniformly among the hidden cells not known to be mines when it proves nothing.
+ * The engine is kept for the whole game and fed the cells each move reveals.
+ */
+public class DeductionMoveStrategy implements MoveStrategy {
+
+    private DeductionEngine engine;
+
+    @Override
+    public void startGame(Grid grid) {
+        engine = new DeductionEngine(grid);
+    }
+
+    @Override
+    public int nextMove(Grid grid, SplittableRandom random) {
+        for (int i = 0; i < grid.getLastRevealCount(); i++) {
+            engine.cellRevealed(grid.getLastRevealedCell(i));
+        }
+        int safe = engine.findSafeCell();
+        if (safe >= 0) {
+            return safe;
+        }
+        int cellCount = grid.getCellCount();
+        while (true) {
+            int index = random.nextInt(cellCount);
+            if (!grid.isRevealed(index) && !engine.isKnownMine(index)) {
+                return index;
+            }
+        }
+    }
+}
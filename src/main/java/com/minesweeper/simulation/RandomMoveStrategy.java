@@ -0,0 +1,24 @@
+package com.minesweeper.simulation;
+
+import java.util.SplittableRandom;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.MoveStrategy;
+
+/**
+ * Implements the MoveStrategy interface by revealing hidden cells uniformly at random.
+ * Useful as a baseline for other strategies.
+ */
+public class RandomMoveStrategy implements MoveStrategy {
+
+    @Override
+    public int nextMove(Grid grid, SplittableRandom random) {
+        int cellCount = grid.getCellCount();
+        while (true) {
+            int index = random.nextInt(cellCount);
+            if (!grid.isRevealed(index)) {
+                return index;
+            }
+        }
+    }
+}
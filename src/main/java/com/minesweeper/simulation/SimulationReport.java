@@ -0,0 +1,100 @@
+package com.minesweeper.simulation;
+
+import com.minesweeper.config.GameConfiguration;
+
+/**
+ * The aggregated outcome of simulating many games of one configuration.
+ *
+ * @param configuration    The grid size, mine count and root seed that were simulated.
+ * @param games            The number of games played.
+ * @param wins             The number of games won.
+ * @param moves            The total number of moves over all games, including the losing ones.
+ * @param cascadeHistogram Entry {@code b} counts the safe moves that revealed between
+ *                         {@code 2^b} and {@code 2^(b+1) - 1} cells.
+ * @param elapsedNanos     The wall-clock time of the simulation, in nanoseconds.
+ */
+public record SimulationReport(GameConfiguration configuration, long games, long wins, long moves,
+                               long[] cascadeHistogram, long elapsedNanos) {
+
+    private static final double Z_95 = 1.959964; // Two-sided 95% normal quantile
+
+    /**
+     * Gets the fraction of games won.
+     *
+     * @return The win rate, or 0 if no games were played.
+     */
+    public double winRate() {
+        return games == 0 ? 0.0 : (double) wins / games;
+    }
+
+    /**
+     * Gets the lower end of the 95% Wilson score interval for the win rate.
+     *
+     * @return The lower bound.
+     */
+    public double winRateLowerBound() {
+        return wilsonCenter() - wilsonHalfWidth();
+    }
+
+    /**
+     * Gets the upper end of the 95% Wilson score interval for the win rate.
+     *
+     * @return The upper bound.
+     */
+    public double winRateUpperBound() {
+        return wilsonCenter() + wilsonHalfWidth();
+    }
+
+    private double wilsonCenter() {
+        if (games == 0) {
+            return 0.5;
+        }
+        double z2 = Z_95 * Z_95;
+        return (winRate() + z2 / (2 * games)) / (1 + z2 / games);
+    }
+
+    private double wilsonHalfWidth() {
+        if (games == 0) {
+            return 0.5;
+        }
+        double p = winRate();
+        double z2 = Z_95 * Z_95;
+        return Z_95 * Math.sqrt(p * (1 - p) / games + z2 / (4.0 * games * games)) / (1 + z2 / games);
+    }
+
+    /**
+     * Gets the average number of moves per game.
+     *
+     * @return The average, or 0 if no games were played.
+     */
+    public double averageMoves() {
+        return games == 0 ? 0.0 : (double) moves / games;
+    }
+
+    /**
+     * Gets the simulation throughput.
+     *
+     * @return Games played per second, or 0 if no time has elapsed.
+     */
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%dx%d, %d mines: %d games, win rate %.4f (95%% CI %.4f-%.4f),"
+                        + " %.1f moves/game, %.0f games/s%n",
+                configuration.gridSize(), configuration.gridSize(), configuration.mineCount(), games,
+                winRate(), winRateLowerBound(), winRateUpperBound(), averageMoves(), gamesPerSecond()));
+        text.append("  cells revealed per safe move:");
+        for (int bucket = 0; bucket < cascadeHistogram.length; bucket++) {
+            if (cascadeHistogram[bucket] > 0) {
+                long low = 1L << bucket;
+                String range = bucket == 0 ? "1" : low + "-" + (2 * low - 1);
+                text.append(String.format(" %s: %d", range, cascadeHistogram[bucket]));
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,148 @@
+package com.minesweeper.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.MoveStrategy;
+import com.minesweeper.placement.RandomMinePlacer;
+
+/**
+ * Plays complete games headlessly to measure how well a MoveStrategy does on a configuration.
+ * <p>
+ * Games are split evenly across worker threads. Each worker owns a {@link SplittableRandom} split
+ * from the configuration's seed, its own MoveStrategy, and its own statistics, which are only merged
+ * once every worker is done, so workers share nothing while they play. For a fixed seed and thread
+ * count the results are reproducible. Games follow the rules of the interactive game: revealing a mine
+ * loses, including on the first move.
+ */
+public class Simulator {
+
+    private static final int HISTOGRAM_BUCKETS = Integer.SIZE;
+
+    private final int threads;
+
+    /**
+     * Constructs a Simulator.
+     *
+     * @param threads The number of worker threads.
+     * @throws IllegalArgumentException if threads is not positive.
+     */
+    public Simulator(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive, but was " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Plays the given number of games.
+     *
+     * @param config          The grid size and mine count of every game; its seed is the root of all
+     *                        random streams.
+     * @param games           The number of games to play.
+     * @param strategyFactory Creates one MoveStrategy per worker thread.
+     * @return The aggregated results.
+     * @throws IllegalStateException if a strategy chooses a cell that is already revealed.
+     */
+    public SimulationReport run(GameConfiguration config, long games, Supplier<MoveStrategy> strategyFactory) {
+        long startNanos = System.nanoTime();
+        SplittableRandom root = new SplittableRandom(config.seed());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "simulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<Statistics>> workers = new ArrayList<>(threads);
+        try {
+            for (int worker = 0; worker < threads; worker++) {
+                long share = games / threads + (worker < games % threads ? 1 : 0);
+                SplittableRandom random = root.split();
+                MoveStrategy strategy = strategyFactory.get();
+                workers.add(executor.submit(() -> play(config, share, strategy, random)));
+            }
+            Statistics total = new Statistics();
+            for (Future<Statistics> worker : workers) {
+                total.merge(await(worker));
+            }
+            return new SimulationReport(config, total.games, total.wins, total.moves, total.cascadeHistogram,
+                    System.nanoTime() - startNanos);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Statistics play(GameConfiguration config, long games, MoveStrategy strategy,
+                                   SplittableRandom random) {
+        Statistics statistics = new Statistics();
+        RandomMinePlacer minePlacer = new RandomMinePlacer(random);
+        for (long game = 0; game < games; game++) {
+            Grid grid = new Grid(config.gridSize());
+            grid.initialize(minePlacer, config.mineCount());
+            strategy.startGame(grid);
+            int moves = 0;
+            boolean won = false;
+            while (true) {
+                int move = strategy.nextMove(grid, random);
+                moves++;
+                if (grid.isMine(move)) {
+                    break;
+                }
+                int revealed = grid.revealCell(move);
+                if (revealed == 0) {
+                    throw new IllegalStateException("Strategy chose an already revealed cell: " + move);
+                }
+                statistics.cascadeHistogram[HISTOGRAM_BUCKETS - 1 - Integer.numberOfLeadingZeros(revealed)]++;
+                if (grid.areAllNonMinesRevealed()) {
+                    won = true;
+                    break;
+                }
+            }
+            statistics.games++;
+            statistics.moves += moves;
+            statistics.wins += won ? 1 : 0;
+        }
+        return statistics;
+    }
+
+    private static Statistics await(Future<Statistics> worker) {
+        try {
+            return worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+    }
+
+    /**
+     * The counters of one worker; only its own thread touches them until they are merged.
+     */
+    private static final class Statistics {
+
+        long games;
+        long wins;
+        long moves;
+        final long[] cascadeHistogram = new long[HISTOGRAM_BUCKETS];
+
+        void merge(Statistics other) {
+            games += other.games;
+            wins += other.wins;
+            moves += other.moves;
+            for (int i = 0; i < cascadeHistogram.length; i++) {
+                cascadeHistogram[i] += other.cascadeHistogram[i];
+            }
+        }
+    }
+}
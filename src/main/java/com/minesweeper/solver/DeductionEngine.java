@@ -0,0 +1,399 @@
+package com.minesweeper.solver;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.minesweeper.domain.Grid;
+
+/**
+ * A deterministic constraint-propagation solver that finds hidden cells which are certainly safe
+ * or certainly mines, using only what a player can see: which cells are revealed, and the
+ * adjacent mine counts of revealed cells.
+ * <p>
+ * Each revealed number is a constraint: its hidden, undetermined neighbors contain exactly
+ * {@code count - knownMines} mines. Three rules are applied, cheapest first:
+ * <ul>
+ *   <li><b>Single cell:</b> if no mines remain, every undetermined neighbor is safe; if as many mines
+ *   remain as there are undetermined neighbors, they are all mines.</li>
+ *   <li><b>Pattern table:</b> the constraint and each orthogonally adjacent number are encoded as a
+ *   window and looked up in a precomputed {@link PatternTable}, which holds everything such a pair
+ *   forces on its own.</li>
+ *   <li><b>Subset/superset:</b> if one constraint's undetermined cells are a subset of a nearby
+ *   constraint's, the difference holds exactly the difference of their remaining mines, which can
+ *   settle every cell in the difference the same way.</li>
+ * </ul>
+ * Rules fire from a worklist of changed constraint cells rather than by rescanning the board: the
+ * board is scanned once on the first {@link #solve()}, after which only constraints next to a newly
+ * determined or newly revealed cell are revisited. The engine keeps its state between calls, so
+ * callers that reveal cells should report them through {@link #cellRevealed(int)} and solve again.
+ */
+public class DeductionEngine {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte SAFE = 1;
+    private static final byte MINE = 2;
+    private static final int SUBSET_RADIUS = 2; // Constraints sharing a cell are at most two cells apart
+
+    private final Grid grid;
+    private final byte[] knowledge; // Deduced state of hidden cells
+    private final BitSet safeCells = new BitSet(); // Deduced safe and still hidden
+    private final BitSet mineCells = new BitSet();
+    private final BitSet queued = new BitSet();
+    private int[] worklist = new int[64];
+    private int worklistSize;
+    private boolean seeded;
+    private final PatternTable patterns = PatternTable.get();
+    private long patternLookups;
+    private long patternHits;
+
+    // Scratch buffers reused by every rule application
+    private final int[] neighbors = new int[Grid.MAX_NEIGHBORS];
+    private final int[] unknown = new int[Grid.MAX_NEIGHBORS];
+    private final int[] otherUnknown = new int[Grid.MAX_NEIGHBORS];
+    private final int[] window = new int[PatternTable.WINDOW_CELLS];
+
+    /**
+     * Constructs a DeductionEngine for a grid. The engine only reads the grid.
+     *
+     * @param grid The grid whose revealed state is analysed.
+     */
+    public DeductionEngine(Grid grid) {
+        this.grid = grid;
+        this.knowledge = new byte[grid.getCellCount()];
+    }
+
+    /**
+     * Applies the rules until no constraint on the worklist yields anything new.
+     *
+     * @return Every hidden cell deduced to be safe or a mine so far.
+     */
+    public Deductions solve() {
+        propagate();
+        return new Deductions((BitSet) safeCells.clone(), (BitSet) mineCells.clone());
+    }
+
+    /**
+     * Applies the rules like {@link #solve()}, but only returns one safe cell, without copying the
+     * deductions. Between moves this costs time proportional to what the last reveal changed.
+     *
+     * @return The flat index of a hidden cell deduced to be safe, or -1 if none is known.
+     */
+    public int findSafeCell() {
+        propagate();
+        return nextSafeCell();
+    }
+
+    /**
+     * Records that a cell has been revealed since the last solve, so that it and the constraints
+     * around it are revisited on the next {@link #solve()}.
+     *
+     * @param index The flat index of the revealed cell.
+     */
+    public void cellRevealed(int index) {
+        safeCells.clear(index);
+        mineCells.clear(index);
+        enqueue(index);
+        int neighborCount = grid.getNeighbors(index, neighbors);
+        for (int i = 0; i < neighborCount; i++) {
+            enqueue(neighbors[i]);
+        }
+    }
+
+    /**
+     * Checks if a hidden cell has been deduced to be safe.
+     *
+     * @param index The flat index of the cell.
+     * @return true if the cell is known to be safe and is still hidden.
+     */
+    public boolean isKnownSafe(int index) {
+        return safeCells.get(index);
+    }
+
+    /**
+     * Checks if a hidden cell has been deduced to be a mine.
+     *
+     * @param index The flat index of the cell.
+     * @return true if the cell is known to be a mine.
+     */
+    public boolean isKnownMine(int index) {
+        return mineCells.get(index);
+    }
+
+    /**
+     * Gets the number of pattern table lookups made so far.
+     *
+     * @return The lookup count.
+     */
+    public long getPatternLookups() {
+        return patternLookups;
+    }
+
+    /**
+     * Gets the number of pattern table lookups that determined at least one cell.
+     *
+     * @return The hit count.
+     */
+    public long getPatternHits() {
+        return patternHits;
+    }
+
+    /**
+     * Gets any hidden cell currently known to be safe.
+     *
+     * @return The flat index of a safe cell, or -1 if none is known.
+     */
+    public int nextSafeCell() {
+        return safeCells.nextSetBit(0);
+    }
+
+    private void propagate() {
+        if (!seeded) {
+            seedWorklist();
+            seeded = true;
+        }
+        while (worklistSize > 0) {
+            int constraint = worklist[--worklistSize];
+            queued.clear(constraint);
+            applyRules(constraint);
+        }
+    }
+
+    private void seedWorklist() {
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            enqueue(index);
+        }
+    }
+
+    private void enqueue(int index) {
+        if (!isConstraint(index) || queued.get(index)) {
+            return;
+        }
+        queued.set(index);
+        if (worklistSize == worklist.length) {
+            worklist = Arrays.copyOf(worklist, worklistSize * 2);
+        }
+        worklist[worklistSize++] = index;
+    }
+
+    private boolean isConstraint(int index) {
+        return grid.isRevealed(index) && !grid.isMine(index);
+    }
+
+    private void applyRules(int constraint) {
+        int unknownCount = collectUnknown(constraint, unknown);
+        if (unknownCount == 0) {
+            return;
+        }
+        int remaining = remainingMines(constraint);
+        if (remaining == 0) {
+            markAll(unknown, unknownCount, SAFE);
+            return;
+        }
+        if (remaining == unknownCount) {
+            markAll(unknown, unknownCount, MINE);
+            return;
+        }
+        if (applyPatterns(constraint) || applySubsetRule(constraint, unknownCount, remaining)) {
+            enqueue(constraint); // Its other pairs are still worth checking with the new knowledge
+        }
+    }
+
+    /**
+     * Looks up the constraint paired with each orthogonally adjacent number.
+     *
+     * @return true if any cell was determined.
+     */
+    private boolean applyPatterns(int constraint) {
+        int row = grid.rowOf(constraint);
+        int column = grid.columnOf(constraint);
+        int last = grid.getSize() - 1;
+        boolean determined = false;
+        if (column < last) {
+            determined |= applyPattern(constraint, row, column, false);
+        }
+        if (column > 0) {
+            determined |= applyPattern(grid.indexOf(row, column - 1), row, column - 1, false);
+        }
+        if (row < last) {
+            determined |= applyPattern(constraint, row, column, true);
+        }
+        if (row > 0) {
+            determined |= applyPattern(grid.indexOf(row - 1, column), row - 1, column, true);
+        }
+        return determined;
+    }
+
+    /**
+     * Looks up the pair formed by {@code first} and the cell to its right, or below it when
+     * {@code vertical}, and settles the cells the table forces.
+     *
+     * @return true if any cell was determined.
+     */
+    private boolean applyPattern(int first, int row, int column, boolean vertical) {
+        int second = vertical ? grid.indexOf(row + 1, column) : grid.indexOf(row, column + 1);
+        if (!isConstraint(first) || !isConstraint(second)) {
+            return false;
+        }
+        int firstRemaining = grid.getAdjacentMineCount(first);
+        int secondRemaining = grid.getAdjacentMineCount(second);
+        int undetermined = 0;
+        int size = grid.getSize();
+        for (int cell = 0; cell < PatternTable.WINDOW_CELLS; cell++) {
+            // A vertical pair reads the window transposed
+            int r = row + (vertical ? PatternTable.COLUMN_OFFSETS[cell] : PatternTable.ROW_OFFSETS[cell]);
+            int c = column + (vertical ? PatternTable.ROW_OFFSETS[cell] : PatternTable.COLUMN_OFFSETS[cell]);
+            if (r < 0 || r >= size || c < 0 || c >= size) {
+                window[cell] = -1;
+                continue;
+            }
+            int index = grid.indexOf(r, c);
+            window[cell] = index;
+            boolean revealed = grid.isRevealed(index);
+            if (revealed ? grid.isMine(index) : knowledge[index] == MINE) {
+                firstRemaining -= PatternTable.touches(0, cell) ? 1 : 0;
+                secondRemaining -= PatternTable.touches(1, cell) ? 1 : 0;
+            } else if (!revealed && knowledge[index] == UNKNOWN) {
+                undetermined |= 1 << cell;
+            }
+        }
+        if (undetermined == 0 || firstRemaining < 0 || secondRemaining < 0) {
+            return false;
+        }
+        patternLookups++;
+        int entry = patterns.lookup(PatternTable.key(undetermined, firstRemaining, secondRemaining));
+        if (entry == 0) {
+            return false;
+        }
+        patternHits++;
+        for (int cell = 0; cell < PatternTable.WINDOW_CELLS; cell++) {
+            if ((entry >>> cell & 1) != 0) {
+                mark(window[cell], SAFE);
+            } else if ((entry >>> (cell + PatternTable.WINDOW_CELLS) & 1) != 0) {
+                mark(window[cell], MINE);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares a constraint with every constraint close enough to share undetermined cells.
+     *
+     * @return true if any cell was determined.
+     */
+    private boolean applySubsetRule(int constraint, int unknownCount, int remaining) {
+        int row = grid.rowOf(constraint);
+        int column = grid.columnOf(constraint);
+        int last = grid.getSize() - 1;
+        for (int r = Math.max(row - SUBSET_RADIUS, 0); r <= Math.min(row + SUBSET_RADIUS, last); r++) {
+            for (int c = Math.max(column - SUBSET_RADIUS, 0); c <= Math.min(column + SUBSET_RADIUS, last); c++) {
+                int other = grid.indexOf(r, c);
+                if (other == constraint || !isConstraint(other)) {
+                    continue;
+                }
+                int otherCount = collectUnknown(other, otherUnknown);
+                if (otherCount == 0 || otherCount == unknownCount) {
+                    continue;
+                }
+                int otherRemaining = remainingMines(other);
+                boolean determined;
+                if (otherCount > unknownCount && isSubset(unknown, unknownCount, otherUnknown, otherCount)) {
+                    determined = settleDifference(otherUnknown, otherCount, unknown, unknownCount,
+                            otherRemaining - remaining);
+                } else if (otherCount < unknownCount && isSubset(otherUnknown, otherCount, unknown, unknownCount)) {
+                    determined = settleDifference(unknown, unknownCount, otherUnknown, otherCount,
+                            remaining - otherRemaining);
+                } else {
+                    continue;
+                }
+                if (determined) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Settles the cells of {@code superset} that are not in {@code subset}, which together hold
+     * {@code differenceMines} mines, when that count is 0 or covers every such cell.
+     *
+     * @return true if the cells were determined.
+     */
+    private boolean settleDifference(int[] superset, int supersetCount, int[] subset, int subsetCount,
+                                     int differenceMines) {
+        int differenceSize = supersetCount - subsetCount;
+        if (differenceMines != 0 && differenceMines != differenceSize) {
+            return false;
+        }
+        byte state = differenceMines == 0 ? SAFE : MINE;
+        for (int i = 0; i < supersetCount; i++) {
+            if (!contains(subset, subsetCount, superset[i])) {
+                mark(superset[i], state);
+            }
+        }
+        return true;
+    }
+
+    private int collectUnknown(int constraint, int[] buffer) {
+        int neighborCount = grid.getNeighbors(constraint, neighbors);
+        int count = 0;
+        for (int i = 0; i < neighborCount; i++) {
+            int neighbor = neighbors[i];
+            if (!grid.isRevealed(neighbor) && knowledge[neighbor] == UNKNOWN) {
+                buffer[count++] = neighbor;
+            }
+        }
+        return count;
+    }
+
+    private int remainingMines(int constraint) {
+        int neighborCount = grid.getNeighbors(constraint, neighbors);
+        int knownMines = 0;
+        for (int i = 0; i < neighborCount; i++) {
+            int neighbor = neighbors[i];
+            boolean mine = grid.isRevealed(neighbor) ? grid.isMine(neighbor) : knowledge[neighbor] == MINE;
+            if (mine) {
+                knownMines++;
+            }
+        }
+        return grid.getAdjacentMineCount(constraint) - knownMines;
+    }
+
+    private void markAll(int[] cells, int count, byte state) {
+        // Copy first: marking re-enqueues neighbors, which reuses the shared scratch buffers
+        int[] toMark = Arrays.copyOf(cells, count);
+        for (int cell : toMark) {
+            mark(cell, state);
+        }
+    }
+
+    private void mark(int cell, byte state) {
+        if (knowledge[cell] != UNKNOWN) {
+            return;
+        }
+        knowledge[cell] = state;
+        (state == SAFE ? safeCells : mineCells).set(cell);
+        int neighborCount = grid.getNeighbors(cell, neighbors);
+        for (int i = 0; i < neighborCount; i++) {
+            enqueue(neighbors[i]);
+        }
+    }
+
+    private static boolean isSubset(int[] small, int smallCount, int[] large, int largeCount) {
+        for (int i = 0; i < smallCount; i++) {
+            if (!contains(large, largeCount, small[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(int[] cells, int count, int cell) {
+        for (int i = 0; i < count; i++) {
+            if (cells[i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package com.minesweeper.solver;
+
+import java.util.BitSet;
+
+/**
+ * The certain conclusions a solver has reached about hidden cells, as sets of flat cell indices.
+ *
+ * @param safeCells Hidden cells that cannot contain a mine.
+ * @param mineCells Hidden cells that must contain a mine.
+ */
+public record Deductions(BitSet safeCells, BitSet mineCells) {
+
+    /**
+     * Checks if no conclusions were reached.
+     *
+     * @return true if there are neither safe nor mine deductions.
+     */
+    public boolean isEmpty() {
+        return safeCells.isEmpty() && mineCells.isEmpty();
+    }
+}
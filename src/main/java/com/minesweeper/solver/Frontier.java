@@ -0,0 +1,277 @@
+package com.minesweeper.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.domain.Zobrist;
+
+/**
+ * The frontier of a position: the hidden cells next to a revealed number, split into independent
+ * components. Two frontier cells belong to the same component when some number touches both.
+ * Revealed mines are already subtracted from the numbers.
+ */
+final class Frontier {
+
+    final int[] cells;
+    final List<Component> components;
+    final int remainingMines;
+    final int otherCells;
+
+    private Frontier(int[] cells, List<Component> components, int remainingMines, int otherCells) {
+        this.cells = cells;
+        this.components = components;
+        this.remainingMines = remainingMines;
+        this.otherCells = otherCells;
+    }
+
+    /**
+     * Finds the frontier of a grid by scanning every cell.
+     */
+    static Frontier of(Grid grid) {
+        int cellCount = grid.getCellCount();
+        int[] neighbors = new int[Grid.MAX_NEIGHBORS];
+        int[] constraints = new int[16];
+        int constraintCount = 0;
+        int hiddenCells = 0;
+        int revealedMines = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (!grid.isRevealed(index)) {
+                hiddenCells++;
+                continue;
+            }
+            if (grid.isMine(index)) {
+                revealedMines++;
+                continue;
+            }
+            int neighborCount = grid.getNeighbors(index, neighbors);
+            for (int i = 0; i < neighborCount; i++) {
+                if (!grid.isRevealed(neighbors[i])) {
+                    if (constraintCount == constraints.length) {
+                        constraints = Arrays.copyOf(constraints, constraintCount * 2);
+                    }
+                    constraints[constraintCount++] = index;
+                    break;
+                }
+            }
+        }
+        return build(grid, Arrays.copyOf(constraints, constraintCount), grid.getMineCount() - revealedMines,
+                hiddenCells);
+    }
+
+    /**
+     * Builds the frontier from a known set of numbers, without scanning the board. The set must hold
+     * exactly the revealed safe cells that have hidden neighbors, and no mine may be revealed, which
+     * holds for any game still in progress.
+     *
+     * @param constraintCells The flat indices of the numbers that touch hidden cells.
+     */
+    static Frontier of(Grid grid, BitSet constraintCells) {
+        int hiddenCells = grid.getHiddenSafeCellCount() + grid.getMineCount();
+        return build(grid, constraintCells.stream().toArray(), grid.getMineCount(), hiddenCells);
+    }
+
+    /**
+     * Splits the hidden neighbors of the given numbers into components. Work is proportional to the
+     * number of constraints, not to the size of the board.
+     *
+     * @param constraints The numbers, in ascending index order.
+     */
+    private static Frontier build(Grid grid, int[] constraints, int remainingMines, int hiddenCells) {
+        int[] neighbors = new int[Grid.MAX_NEIGHBORS];
+        int[][] hiddenOf = new int[constraints.length][];
+        int[] targets = new int[constraints.length];
+        int candidateCount = 0;
+        for (int j = 0; j < constraints.length; j++) {
+            int neighborCount = grid.getNeighbors(constraints[j], neighbors);
+            int target = grid.getAdjacentMineCount(constraints[j]);
+            int[] hidden = new int[neighborCount];
+            int hiddenCount = 0;
+            for (int n = 0; n < neighborCount; n++) {
+                int neighbor = neighbors[n];
+                if (!grid.isRevealed(neighbor)) {
+                    hidden[hiddenCount++] = neighbor;
+                } else if (grid.isMine(neighbor)) {
+                    target--;
+                }
+            }
+            hiddenOf[j] = Arrays.copyOf(hidden, hiddenCount);
+            targets[j] = target;
+            candidateCount += hiddenCount;
+        }
+
+        // The frontier cells, sorted and without duplicates
+        int[] candidates = new int[candidateCount];
+        int filled = 0;
+        for (int[] hidden : hiddenOf) {
+            System.arraycopy(hidden, 0, candidates, filled, hidden.length);
+            filled += hidden.length;
+        }
+        Arrays.sort(candidates);
+        int cellCount = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            if (i == 0 || candidates[i] != candidates[i - 1]) {
+                candidates[cellCount++] = candidates[i];
+            }
+        }
+        int[] cells = Arrays.copyOf(candidates, cellCount);
+
+        // Union-find over frontier positions: cells sharing a number share a component
+        int[] parent = new int[cells.length];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        int[][] positionsOf = new int[constraints.length][];
+        for (int j = 0; j < constraints.length; j++) {
+            int[] positions = new int[hiddenOf[j].length];
+            for (int n = 0; n < positions.length; n++) {
+                positions[n] = Arrays.binarySearch(cells, hiddenOf[j][n]);
+                if (n > 0) {
+                    union(parent, positions[0], positions[n]);
+                }
+            }
+            positionsOf[j] = positions;
+        }
+
+        // Number the components and list their cells, which stay in ascending order
+        int[] componentOfRoot = new int[cells.length];
+        Arrays.fill(componentOfRoot, -1);
+        int[] componentOf = new int[cells.length];
+        int[] localIndex = new int[cells.length];
+        int[] componentSizes = new int[cells.length];
+        int componentCount = 0;
+        for (int i = 0; i < cells.length; i++) {
+            int root = find(parent, i);
+            if (componentOfRoot[root] < 0) {
+                componentOfRoot[root] = componentCount++;
+            }
+            int component = componentOfRoot[root];
+            componentOf[i] = component;
+            localIndex[i] = componentSizes[component]++;
+        }
+        int[][] componentCells = new int[componentCount][];
+        int[][] frontierPositions = new int[componentCount][];
+        for (int c = 0; c < componentCount; c++) {
+            componentCells[c] = new int[componentSizes[c]];
+            frontierPositions[c] = new int[componentSizes[c]];
+        }
+        for (int i = 0; i < cells.length; i++) {
+            componentCells[componentOf[i]][localIndex[i]] = cells[i];
+            frontierPositions[componentOf[i]][localIndex[i]] = i;
+        }
+
+        // Attach each number to the component of its hidden neighbors
+        List<List<int[]>> componentVars = new ArrayList<>(componentCount);
+        List<List<Integer>> componentTargets = new ArrayList<>(componentCount);
+        for (int c = 0; c < componentCount; c++) {
+            componentVars.add(new ArrayList<>());
+            componentTargets.add(new ArrayList<>());
+        }
+        for (int j = 0; j < constraints.length; j++) {
+            int[] positions = positionsOf[j];
+            int c = componentOf[positions[0]];
+            int[] vars = new int[positions.length];
+            for (int n = 0; n < positions.length; n++) {
+                vars[n] = localIndex[positions[n]];
+            }
+            componentVars.get(c).add(vars);
+            componentTargets.get(c).add(targets[j]);
+        }
+
+        List<Component> components = new ArrayList<>(componentCount);
+        for (int c = 0; c < componentCount; c++) {
+            int[] componentTargetArray = componentTargets.get(c).stream().mapToInt(Integer::intValue).toArray();
+            components.add(new Component(componentCells[c], frontierPositions[c],
+                    componentVars.get(c).toArray(new int[0][]), componentTargetArray));
+        }
+        return new Frontier(cells, components, remainingMines, hiddenCells - cells.length);
+    }
+
+    private static int find(int[] parent, int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]]; // Path halving
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    /**
+     * An independent set of frontier cells with the numbers that constrain them. Cells are local
+     * variables numbered in ascending grid index order.
+     */
+    static final class Component {
+
+        final int[] cells;
+        final int[] frontierPositions;
+        final int[][] constraintVars;
+        final int[] targets;
+        final int[][] constraintsOfVar;
+
+        Component(int[] cells, int[] frontierPositions, int[][] constraintVars, int[] targets) {
+            this.cells = cells;
+            this.frontierPositions = frontierPositions;
+            this.constraintVars = constraintVars;
+            this.targets = targets;
+            int[] counts = new int[cells.length];
+            for (int[] vars : constraintVars) {
+                for (int var : vars) {
+                    counts[var]++;
+                }
+            }
+            constraintsOfVar = new int[cells.length][];
+            for (int v = 0; v < cells.length; v++) {
+                constraintsOfVar[v] = new int[counts[v]];
+                counts[v] = 0;
+            }
+            for (int j = 0; j < constraintVars.length; j++) {
+                for (int var : constraintVars[j]) {
+                    constraintsOfVar[var][counts[var]++] = j;
+                }
+            }
+        }
+
+        /**
+         * Builds a signature that identifies the component up to translation: numbers are listed in grid
+         * order with their targets and local variables, which is all the enumeration depends on.
+         */
+        int[] signature(int maxMines) {
+            int length = 2 + constraintVars.length * 2;
+            for (int[] vars : constraintVars) {
+                length += vars.length;
+            }
+            int[] signature = new int[length];
+            int i = 0;
+            signature[i++] = cells.length;
+            signature[i++] = maxMines;
+            for (int j = 0; j < constraintVars.length; j++) {
+                signature[i++] = targets[j];
+                signature[i++] = constraintVars[j].length;
+                for (int var : constraintVars[j]) {
+                    signature[i++] = var;
+                }
+            }
+            return signature;
+        }
+
+        /**
+         * Hashes a signature the Zobrist way, as the XOR of one key per position and value.
+         */
+        static long hash(int[] signature) {
+            long hash = 0;
+            for (int i = 0; i < signature.length; i++) {
+                hash ^= Zobrist.key(i, signature[i]);
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.minesweeper.solver;
+
+/**
+ * A suggested cell to reveal next.
+ *
+ * @param index           The flat index of the suggested hidden cell.
+ * @param mineProbability The chance that the cell is a mine; 0 when the cell is proven safe.
+ */
+public record Hint(int index, double mineProbability) {
+
+    /**
+     * Checks if the suggested cell is proven safe rather than merely the least likely mine.
+     *
+     * @return true if the cell cannot contain a mine.
+     */
+    public boolean isCertain() {
+        return mineProbability == 0.0;
+    }
+}
@@ -0,0 +1,239 @@
+package com.minesweeper.solver;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import com.minesweeper.domain.Grid;
+
+/**
+ * Suggests the next cell to reveal in a game in progress, keeping its solver state between moves.
+ * <p>
+ * After each move, {@link #update()} feeds the cells the last reveal uncovered to a long-lived
+ * {@link DeductionEngine} and updates the set of numbers that touch hidden cells around them, so that
+ * work is proportional to what the move changed. A hint is a cell the engine proves safe when there is
+ * one; otherwise the {@link ProbabilityEngine} runs on the frontier of those numbers and the hidden cell
+ * least likely to be a mine is suggested. The probability engine caches solved components by shape,
+ * so the components a move did not touch are not enumerated again.
+ * <p>
+ * If the probability engine has to sample a component and finds no layout, the hint falls back to a
+ * cell off the frontier, with the overall mine density as its estimated chance of a mine.
+ * <p>
+ * Cells off the frontier are all alike, so one is picked at random. Hidden cells are counted in a
+ * Fenwick tree over flat indices, so the k-th hidden cell off the frontier is found in a few
+ * O(log size) steps, however few such cells a large board has left.
+ * <p>
+ * The service also records how long each hint took, for {@link #latencyPercentileNanos(double)}.
+ */
+public class HintService {
+
+    private static final int LATENCY_SAMPLES = 1024; // The most recent hints kept for percentiles
+
+    private final Grid grid;
+    private final DeductionEngine deductionEngine;
+    private final ProbabilityEngine probabilityEngine;
+    private final BitSet constraintCells = new BitSet(); // Revealed numbers with a hidden neighbor
+    private final int[] neighbors = new int[Grid.MAX_NEIGHBORS];
+    private final int[] innerNeighbors = new int[Grid.MAX_NEIGHBORS];
+    private final int[] hiddenTree; // 1-based Fenwick tree counting the hidden cells at flat indices
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private long hintCount;
+    private Hint cachedHint; // Valid until the next update
+
+    /**
+     * Constructs a HintService with a default ProbabilityEngine.
+     *
+     * @param grid The grid of the game; it must not have a revealed mine.
+     */
+    public HintService(Grid grid) {
+        this(grid, new ProbabilityEngine());
+    }
+
+    /**
+     * Constructs a HintService. The grid is scanned once here; later updates only visit the cells
+     * each move reveals.
+     *
+     * @param grid              The grid of the game; it must not have a revealed mine.
+     * @param probabilityEngine The engine used when no cell is proven safe.
+     */
+    public HintService(Grid grid, ProbabilityEngine probabilityEngine) {
+        this.grid = grid;
+        this.deductionEngine = new DeductionEngine(grid);
+        this.probabilityEngine = probabilityEngine;
+        this.hiddenTree = new int[grid.getCellCount() + 1];
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (isConstraint(index)) {
+                constraintCells.set(index);
+            }
+            if (!grid.isRevealed(index)) {
+                hiddenTree[index + 1] = 1;
+            }
+        }
+        for (int node = 1; node < hiddenTree.length; node++) { // Each node passes its count to its parent
+            int parent = node + (node & -node);
+            if (parent < hiddenTree.length) {
+                hiddenTree[parent] += hiddenTree[node];
+            }
+        }
+    }
+
+    /**
+     * Takes in the cells revealed by the grid's last {@link Grid#revealCell(int)}. Call it once after
+     * every move.
+     */
+    public void update() {
+        cachedHint = null;
+        for (int i = 0; i < grid.getLastRevealCount(); i++) {
+            int cell = grid.getLastRevealedCell(i);
+            deductionEngine.cellRevealed(cell);
+            for (int node = cell + 1; node < hiddenTree.length; node += node & -node) {
+                hiddenTree[node]--;
+            }
+            constraintCells.set(cell, isConstraint(cell));
+            int neighborCount = grid.getNeighbors(cell, neighbors);
+            for (int n = 0; n < neighborCount; n++) {
+                constraintCells.set(neighbors[n], isConstraint(neighbors[n]));
+            }
+        }
+    }
+
+    /**
+     * Suggests the next cell to reveal.
+     *
+     * @return A cell proven safe if there is one, otherwise the hidden cell least likely to be a mine.
+     * @throws IllegalStateException if every safe cell is already revealed.
+     */
+    public Hint hint() {
+        long start = System.nanoTime();
+        if (cachedHint == null) {
+            cachedHint = computeHint();
+        }
+        latencies[(int) (hintCount % LATENCY_SAMPLES)] = System.nanoTime() - start;
+        hintCount++;
+        return cachedHint;
+    }
+
+    /**
+     * Gets the number of hints given so far.
+     *
+     * @return The hint count.
+     */
+    public long getHintCount() {
+        return hintCount;
+    }
+
+    /**
+     * Gets a percentile of the latency of the most recent hints, by the nearest-rank method.
+     *
+     * @param percentile The percentile, between 0 (exclusive) and 100 (inclusive).
+     * @return The latency in nanoseconds.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     * @throws IllegalStateException    if no hint has been given yet.
+     */
+    public long latencyPercentileNanos(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100], but was " + percentile);
+        }
+        if (hintCount == 0) {
+            throw new IllegalStateException("No hint has been given yet");
+        }
+        long[] sorted = Arrays.copyOf(latencies, (int) Math.min(hintCount, LATENCY_SAMPLES));
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private Hint computeHint() {
+        if (grid.getHiddenSafeCellCount() == 0) {
+            throw new IllegalStateException("Every safe cell is already revealed");
+        }
+        int safe = deductionEngine.findSafeCell();
+        if (safe >= 0) {
+            return new Hint(safe, 0.0);
+        }
+        Frontier frontier = Frontier.of(grid, constraintCells);
+        MineProbabilities probabilities;
+        try {
+            probabilities = probabilityEngine.compute(frontier);
+        } catch (IllegalStateException e) {
+            // Sampling a huge component can miss every layout; guess by mine density instead
+            double density = (double) frontier.remainingMines / (frontier.cells.length + frontier.otherCells);
+            return new Hint(frontier.otherCells > 0 ? randomOtherCell(frontier.cells, frontier.otherCells)
+                    : unknownFrontierCell(frontier), density);
+        }
+        int[] frontierCells = probabilities.frontierCells();
+        double[] frontierProbabilities = probabilities.frontierProbabilities();
+        int best = -1;
+        double bestProbability = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < frontierCells.length; i++) {
+            if (frontierProbabilities[i] < bestProbability) {
+                best = frontierCells[i];
+                bestProbability = frontierProbabilities[i];
+            }
+        }
+        int otherCells = grid.getHiddenSafeCellCount() + grid.getMineCount() - frontierCells.length;
+        if (otherCells > 0 && probabilities.otherCellProbability() < bestProbability) {
+            best = randomOtherCell(frontierCells, otherCells);
+            bestProbability = probabilities.otherCellProbability();
+        }
+        return new Hint(best, bestProbability);
+    }
+
+    /**
+     * Picks a hidden cell off the frontier; such cells are all alike. The choice is seeded with the
+     * position hash, so the same position always gets the same hint.
+     * <p>
+     * The k-th such cell in index order is the {@code (k + s)}-th hidden cell, where s is the number of
+     * frontier cells before it. Starting from s = 0, s is raised to the frontier cells up to the
+     * candidate until it stops changing; it never passes the answer's count, so the loop ends there.
+     */
+    private int randomOtherCell(int[] frontierCells, int otherCells) {
+        int k = new SplittableRandom(grid.getPositionHash()).nextInt(otherCells);
+        int skipped = 0;
+        while (true) {
+            int cell = hiddenCell(k + skipped);
+            int position = Arrays.binarySearch(frontierCells, cell);
+            int frontierUpToCell = position >= 0 ? position + 1 : -position - 1;
+            if (frontierUpToCell == skipped) {
+                return cell;
+            }
+            skipped = frontierUpToCell;
+        }
+    }
+
+    /**
+     * Finds the hidden cell with the given rank in index order, by descending the Fenwick tree.
+     */
+    private int hiddenCell(int rank) {
+        int node = 0;
+        for (int step = Integer.highestOneBit(hiddenTree.length - 1); step > 0; step >>= 1) {
+            if (node + step < hiddenTree.length && hiddenTree[node + step] <= rank) {
+                node += step;
+                rank -= hiddenTree[node];
+            }
+        }
+        return node; // The first node positions hold rank hidden cells, so the next one, flat index node, is it
+    }
+
+    private int unknownFrontierCell(Frontier frontier) {
+        for (int cell : frontier.cells) {
+            if (!deductionEngine.isKnownMine(cell)) {
+                return cell;
+            }
+        }
+        throw new IllegalStateException("Every hidden cell is a known mine");
+    }
+
+    private boolean isConstraint(int index) {
+        if (!grid.isRevealed(index) || grid.isMine(index)) {
+            return false;
+        }
+        int neighborCount = grid.getNeighbors(index, innerNeighbors);
+        for (int n = 0; n < neighborCount; n++) {
+            if (!grid.isRevealed(innerNeighbors[n])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,354 @@
+package com.minesweeper.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import com.minesweeper.domain.Grid;
+
+/**
+ * Finds certain-safe and certain-mine frontier cells by treating the revealed numbers as a linear
+ * system over the integers and reducing it with Gaussian elimination.
+ * <p>
+ * Every number next to hidden cells is the equation {@code sum(x_i) = count - knownMines} over 0/1
+ * variables. Each frontier component is reduced separately. Rows keep coefficients in {-1, 0, 1} as a
+ * pair of bitsets (positive and negative columns), so a row operation is a handful of word-wide
+ * boolean operations. An elimination step that would produce a coefficient of 2 is skipped, which keeps
+ * that representation exact at the cost of leaving some columns uneliminated.
+ * <p>
+ * After reduction, bound reasoning settles cells: a row whose right-hand side equals the number of
+ * positive columns forces all of them to be mines and all negative columns to be safe, and the mirror
+ * case forces the opposite. Settled cells are substituted back into every row, and the system is
+ * reduced again until nothing new is found. This finds deductions that combine three or more numbers.
+ * <p>
+ * Skipped elimination steps can hide a plain subset relation between two numbers, so the system starts
+ * from the result of the {@link DeductionEngine}, which is cheap next to elimination. The result
+ * therefore always contains everything the subset rules find.
+ * <p>
+ * Variables are numbered in row-major order and rows only ever mix numbers within a few grid rows of
+ * each other, so each row is stored over the span of words it actually touches and elimination only
+ * visits the rows whose span covers the current column. Cost grows with the frontier length times its
+ * band width rather than with its square, which keeps boards with tens of thousands of frontier cells
+ * tractable.
+ */
+public class LinearSolver {
+
+    /**
+     * Deduces what can be deduced from the revealed numbers of a grid.
+     *
+     * @param grid The grid whose revealed state is analysed. The grid is only read.
+     * @return The hidden cells that are certainly safe or certainly mines.
+     */
+    public Deductions solve(Grid grid) {
+        Deductions known = new DeductionEngine(grid).solve();
+        BitSet safeCells = new BitSet();
+        BitSet mineCells = new BitSet();
+        for (Frontier.Component component : Frontier.of(grid).components) {
+            ComponentSystem system = new ComponentSystem(component);
+            system.assume(known);
+            system.solve(safeCells, mineCells);
+        }
+        return new Deductions(safeCells, mineCells);
+    }
+
+    /**
+     * The equations of one frontier component and the variables settled so far.
+     */
+    private static final class ComponentSystem {
+
+        private final Frontier.Component component;
+        private final List<Row> rows;
+        private final long[] knownMines;
+        private final long[] knownSafe;
+
+        ComponentSystem(Frontier.Component component) {
+            this.component = component;
+            int words = wordCount(component.cells.length);
+            this.knownMines = new long[words];
+            this.knownSafe = new long[words];
+            this.rows = new ArrayList<>(component.targets.length);
+            for (int j = 0; j < component.targets.length; j++) {
+                rows.add(Row.of(component.constraintVars[j], component.targets[j]));
+            }
+        }
+
+        /**
+         * Settles the variables of cells that earlier deductions already decided.
+         */
+        void assume(Deductions known) {
+            for (int v = 0; v < component.cells.length; v++) {
+                if (known.mineCells().get(component.cells[v])) {
+                    knownMines[v >>> 6] |= 1L << v;
+                } else if (known.safeCells().get(component.cells[v])) {
+                    knownSafe[v >>> 6] |= 1L << v;
+                }
+            }
+        }
+
+        void solve(BitSet safeCells, BitSet mineCells) {
+            while (true) {
+                boolean forward = true;
+                while (applyBounds(forward)) {
+                    forward = !forward; // Alternate sweeps so chains in either direction settle quickly
+                }
+                eliminate();
+                if (!applyBounds(true)) {
+                    break;
+                }
+            }
+            for (int v = 0; v < component.cells.length; v++) {
+                long bit = 1L << v;
+                if ((knownMines[v >>> 6] & bit) != 0) {
+                    mineCells.set(component.cells[v]);
+                } else if ((knownSafe[v >>> 6] & bit) != 0) {
+                    safeCells.set(component.cells[v]);
+                }
+            }
+        }
+
+        /**
+         * Substitutes the settled variables into every row and applies bound reasoning to it.
+         *
+         * @return true if any variable was newly settled.
+         */
+        private boolean applyBounds(boolean forward) {
+            boolean progress = false;
+            int count = rows.size();
+            for (int i = 0; i < count; i++) {
+                Row row = rows.get(forward ? i : count - 1 - i);
+                row.substitute(knownMines, knownSafe);
+                int positives = row.positiveCount();
+                int negatives = row.negativeCount();
+                if (positives + negatives == 0) {
+                    continue;
+                }
+                if (row.rhs == positives) {
+                    progress |= row.settle(knownMines, knownSafe);
+                } else if (row.rhs == -negatives) {
+                    progress |= row.settle(knownSafe, knownMines);
+                } else {
+                    continue;
+                }
+                row.substitute(knownMines, knownSafe);
+            }
+            return progress;
+        }
+
+        /**
+         * Reduces the rows column by column, sweeping a window of rows whose spans cover the column.
+         */
+        private void eliminate() {
+            rows.removeIf(row -> {
+                row.trim();
+                row.pivot = false;
+                return row.isEmpty();
+            });
+            rows.sort(Comparator.comparingInt(row -> row.start));
+            List<Row> active = new ArrayList<>();
+            int nextRow = 0;
+            int currentWord = -1;
+            for (int column = 0; column < component.cells.length; column++) {
+                int word = column >>> 6;
+                if (word != currentWord) {
+                    currentWord = word;
+                    while (nextRow < rows.size() && rows.get(nextRow).start <= word) {
+                        active.add(rows.get(nextRow++));
+                    }
+                    active.removeIf(row -> row.end() <= word); // Such rows can never touch a later column
+                }
+                // The sparsest candidate makes the fewest ±2 conflicts and keeps subset relations intact
+                Row pivot = null;
+                int pivotSize = Integer.MAX_VALUE;
+                for (Row row : active) {
+                    if (!row.pivot && row.coefficient(column) != 0) {
+                        int size = row.positiveCount() + row.negativeCount();
+                        if (size < pivotSize) {
+                            pivot = row;
+                            pivotSize = size;
+                        }
+                    }
+                }
+                if (pivot == null) {
+                    continue;
+                }
+                if (pivot.coefficient(column) < 0) {
+                    pivot.negate();
+                }
+                pivot.pivot = true;
+                for (Row row : active) {
+                    int coefficient = row.coefficient(column);
+                    if (row != pivot && coefficient != 0) {
+                        row.subtract(pivot, coefficient);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * One equation {@code sum(positive columns) - sum(negative columns) = rhs}, stored as two bitsets
+     * over the words {@code start} to {@code end() - 1}.
+     */
+    private static final class Row {
+
+        int start;
+        long[] positive;
+        long[] negative;
+        int rhs;
+        boolean pivot;
+
+        private Row(int start, long[] positive, long[] negative, int rhs) {
+            this.start = start;
+            this.positive = positive;
+            this.negative = negative;
+            this.rhs = rhs;
+        }
+
+        static Row of(int[] vars, int rhs) {
+            int start = vars[0] >>> 6;
+            int end = (vars[vars.length - 1] >>> 6) + 1; // Variables are in ascending order
+            long[] positive = new long[end - start];
+            for (int var : vars) {
+                positive[(var >>> 6) - start] |= 1L << var;
+            }
+            return new Row(start, positive, new long[end - start], rhs);
+        }
+
+        int end() {
+            return start + positive.length;
+        }
+
+        boolean isEmpty() {
+            return positive.length == 0;
+        }
+
+        int coefficient(int column) {
+            int word = (column >>> 6) - start;
+            if (word < 0 || word >= positive.length) {
+                return 0;
+            }
+            long bit = 1L << column;
+            if ((positive[word] & bit) != 0) {
+                return 1;
+            }
+            return (negative[word] & bit) != 0 ? -1 : 0;
+        }
+
+        int positiveCount() {
+            return bitCount(positive);
+        }
+
+        int negativeCount() {
+            return bitCount(negative);
+        }
+
+        void negate() {
+            long[] swap = positive;
+            positive = negative;
+            negative = swap;
+            rhs = -rhs;
+        }
+
+        /**
+         * Removes settled variables from the row, moving their contribution to the right-hand side.
+         */
+        void substitute(long[] knownMines, long[] knownSafe) {
+            for (int i = 0; i < positive.length; i++) {
+                long mines = knownMines[start + i];
+                long known = mines | knownSafe[start + i];
+                rhs -= Long.bitCount(positive[i] & mines) - Long.bitCount(negative[i] & mines);
+                positive[i] &= ~known;
+                negative[i] &= ~known;
+            }
+        }
+
+        /**
+         * Settles every positive column into {@code positiveTarget} and every negative column into
+         * {@code negativeTarget}.
+         *
+         * @return true if any variable was not settled before.
+         */
+        boolean settle(long[] positiveTarget, long[] negativeTarget) {
+            boolean progress = false;
+            for (int i = 0; i < positive.length; i++) {
+                progress |= (positiveTarget[start + i] & positive[i]) != positive[i]
+                        || (negativeTarget[start + i] & negative[i]) != negative[i];
+                positiveTarget[start + i] |= positive[i];
+                negativeTarget[start + i] |= negative[i];
+            }
+            return progress;
+        }
+
+        /**
+         * Subtracts {@code factor} (1 or -1) times the pivot row, unless that would create a
+         * coefficient of 2 somewhere, in which case the row is left unchanged.
+         */
+        void subtract(Row pivot, int factor) {
+            long[] pivotPositive = factor > 0 ? pivot.positive : pivot.negative;
+            long[] pivotNegative = factor > 0 ? pivot.negative : pivot.positive;
+            int overlapStart = Math.max(start, pivot.start);
+            int overlapEnd = Math.min(end(), pivot.end());
+            for (int word = overlapStart; word < overlapEnd; word++) {
+                int i = word - start;
+                int p = word - pivot.start;
+                if (((positive[i] & pivotNegative[p]) | (negative[i] & pivotPositive[p])) != 0) {
+                    return;
+                }
+            }
+            int newStart = Math.min(start, pivot.start);
+            int newEnd = Math.max(end(), pivot.end());
+            long[] newPositive = new long[newEnd - newStart];
+            long[] newNegative = new long[newEnd - newStart];
+            for (int word = newStart; word < newEnd; word++) {
+                long rowPositive = wordAt(positive, start, word);
+                long rowNegative = wordAt(negative, start, word);
+                long subtractPositive = wordAt(pivotPositive, pivot.start, word);
+                long subtractNegative = wordAt(pivotNegative, pivot.start, word);
+                newPositive[word - newStart] = (rowPositive & ~subtractPositive) | (subtractNegative & ~rowNegative);
+                newNegative[word - newStart] = (rowNegative & ~subtractNegative) | (subtractPositive & ~rowPositive);
+            }
+            start = newStart;
+            positive = newPositive;
+            negative = newNegative;
+            rhs -= factor * pivot.rhs;
+        }
+
+        /**
+         * Drops all-zero words from both ends of the span.
+         */
+        void trim() {
+            int first = 0;
+            int last = positive.length;
+            while (first < last && (positive[first] | negative[first]) == 0) {
+                first++;
+            }
+            while (last > first && (positive[last - 1] | negative[last - 1]) == 0) {
+                last--;
+            }
+            if (first > 0 || last < positive.length) {
+                positive = Arrays.copyOfRange(positive, first, last);
+                negative = Arrays.copyOfRange(negative, first, last);
+                start += first;
+            }
+        }
+
+        private static long wordAt(long[] words, int wordsStart, int word) {
+            int i = word - wordsStart;
+            return i >= 0 && i < words.length ? words[i] : 0L;
+        }
+
+        private static int bitCount(long[] words) {
+            int count = 0;
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+    }
+
+    private static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+}
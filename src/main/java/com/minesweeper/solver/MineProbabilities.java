@@ -0,0 +1,30 @@
+package com.minesweeper.solver;
+
+import java.util.Arrays;
+
+/**
+ * The mine probability of every hidden cell in a position.
+ * <p>
+ * Frontier cells (hidden cells next to a revealed number) each have their own probability; all other
+ * hidden cells are indistinguishable and share {@code otherCellProbability}.
+ *
+ * @param frontierCells         The flat indices of the frontier cells, in ascending order.
+ * @param frontierProbabilities The mine probability of each frontier cell, in the same order.
+ * @param otherCellProbability  The mine probability of every hidden cell off the frontier.
+ * @param approximate           true if some component exceeded its budget and was sampled rather than
+ *                              enumerated, so the probabilities are estimates.
+ */
+public record MineProbabilities(int[] frontierCells, double[] frontierProbabilities,
+                                double otherCellProbability, boolean approximate) {
+
+    /**
+     * Gets the mine probability of a hidden cell.
+     *
+     * @param index The flat index of a hidden cell.
+     * @return The probability that the cell is a mine.
+     */
+    public double probabilityAt(int index) {
+        int position = Arrays.binarySearch(frontierCells, index);
+        return position >= 0 ? frontierProbabilities[position] : otherCellProbability;
+    }
+}
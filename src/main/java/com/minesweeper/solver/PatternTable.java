@@ -0,0 +1,220 @@
+package com.minesweeper.solver;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A precomputed table of what two orthogonally adjacent numbers force on their own, which covers the
+ * local patterns players learn by sight, such as 1-2 against a wall or 1-1 at an edge.
+ * <p>
+ * The window is the 3x4 block around a horizontal pair of numbers (a vertical pair uses it
+ * transposed), without the two numbers themselves. The key packs a bit per window cell that is hidden
+ * and undetermined, plus the mines each number still needs among them:
+ * <pre>
+ *   bits 0-9   undetermined window cells, in {@link #ROW_OFFSETS}/{@link #COLUMN_OFFSETS} order
+ *   bits 10-13 mines remaining around the first number
+ *   bits 14-17 mines remaining around the second number
+ * </pre>
+ * The entry holds the window cells that are safe in every consistent layout in bits 0-9, and those
+ * that are mines in every one in bits 10-19; it is 0 when the pair forces nothing or is inconsistent.
+ * <p>
+ * The table is built by exhaustive enumeration in {@link #generate()}, run offline by
+ * {@link PatternTableGenerator}, and shipped as a gzipped list of the non-zero entries.
+ */
+final class PatternTable {
+
+    static final String RESOURCE = "pair-patterns.bin.gz";
+    static final int WINDOW_CELLS = 10;
+    static final int WINDOW_MASK = (1 << WINDOW_CELLS) - 1;
+
+    // Window cells relative to the first number of a horizontal pair, the second being at (0, 1)
+    static final int[] ROW_OFFSETS = {-1, -1, -1, -1, 0, 0, 1, 1, 1, 1};
+    static final int[] COLUMN_OFFSETS = {-1, 0, 1, 2, -1, 2, -1, 0, 1, 2};
+
+    private static final int FIRST_NEIGHBORHOOD = neighborhood(0);
+    private static final int SECOND_NEIGHBORHOOD = neighborhood(1);
+    private static final int RESIDUAL_BITS = 4;
+    private static final int KEY_COUNT = 1 << (WINDOW_CELLS + 2 * RESIDUAL_BITS);
+    private static final int MAGIC = 0x50415452; // "PATR"
+
+    private final int[] entries;
+
+    private PatternTable(int[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Gets the table shipped with the solver, loading it on first use.
+     *
+     * @throws UncheckedIOException if the resource is missing or corrupt.
+     */
+    static PatternTable get() {
+        return Holder.TABLE;
+    }
+
+    /**
+     * Builds the key of a window.
+     *
+     * @param undetermined    The undetermined window cells as a bit mask.
+     * @param firstRemaining  The mines the first number still needs, from 0 to 15.
+     * @param secondRemaining The mines the second number still needs, from 0 to 15.
+     */
+    static int key(int undetermined, int firstRemaining, int secondRemaining) {
+        return undetermined | firstRemaining << WINDOW_CELLS | secondRemaining << (WINDOW_CELLS + RESIDUAL_BITS);
+    }
+
+    /**
+     * Looks up a window.
+     *
+     * @return The forced safe cells in bits 0-9 and forced mines in bits 10-19, or 0 if none.
+     */
+    int lookup(int key) {
+        return entries[key];
+    }
+
+    /**
+     * Whether a window cell touches the first (0) or second (1) number of the pair.
+     */
+    static boolean touches(int number, int cell) {
+        return ((number == 0 ? FIRST_NEIGHBORHOOD : SECOND_NEIGHBORHOOD) & 1 << cell) != 0;
+    }
+
+    /**
+     * Enumerates every layout of every window and keeps the cells that come out the same in all of them.
+     */
+    static PatternTable generate() {
+        int[] entries = new int[KEY_COUNT];
+        int maxRemaining = (1 << RESIDUAL_BITS) - 1;
+        for (int undetermined = 0; undetermined <= WINDOW_MASK; undetermined++) {
+            int firstCells = Integer.bitCount(undetermined & FIRST_NEIGHBORHOOD);
+            int secondCells = Integer.bitCount(undetermined & SECOND_NEIGHBORHOOD);
+            for (int first = 0; first <= Math.min(firstCells, maxRemaining); first++) {
+                for (int second = 0; second <= Math.min(secondCells, maxRemaining); second++) {
+                    entries[key(undetermined, first, second)] = solve(undetermined, first, second);
+                }
+            }
+        }
+        return new PatternTable(entries);
+    }
+
+    private static int solve(int undetermined, int first, int second) {
+        int alwaysMine = WINDOW_MASK;
+        int alwaysSafe = WINDOW_MASK;
+        boolean consistent = false;
+        // Walk every subset of the undetermined cells as the set of mines
+        for (int mines = undetermined; ; mines = (mines - 1) & undetermined) {
+            if (Integer.bitCount(mines & FIRST_NEIGHBORHOOD) == first
+                    && Integer.bitCount(mines & SECOND_NEIGHBORHOOD) == second) {
+                consistent = true;
+                alwaysMine &= mines;
+                alwaysSafe &= ~mines;
+            }
+            if (mines == 0) {
+                break;
+            }
+        }
+        if (!consistent) {
+            return 0;
+        }
+        return (alwaysSafe & undetermined) | (alwaysMine & undetermined) << WINDOW_CELLS;
+    }
+
+    /**
+     * Writes the non-zero entries, gzipped.
+     */
+    void write(OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        DataOutputStream data = new DataOutputStream(gzip);
+        int count = 0;
+        for (int entry : entries) {
+            if (entry != 0) {
+                count++;
+            }
+        }
+        data.writeInt(MAGIC);
+        data.writeInt(count);
+        for (int key = 0; key < entries.length; key++) {
+            if (entries[key] != 0) {
+                data.writeInt(key);
+                data.writeInt(entries[key]);
+            }
+        }
+        data.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Reads a table written by {@link #write(OutputStream)}.
+     *
+     * @throws IOException if the stream cannot be read or does not hold a table.
+     */
+    static PatternTable read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new GZIPInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a pattern table");
+        }
+        int count = data.readInt();
+        int[] entries = new int[KEY_COUNT];
+        for (int i = 0; i < count; i++) {
+            int key = data.readInt();
+            if (key < 0 || key >= KEY_COUNT) {
+                throw new IOException("Pattern key out of range: " + key);
+            }
+            entries[key] = data.readInt();
+        }
+        return new PatternTable(entries);
+    }
+
+    /**
+     * Counts the windows that force at least one cell.
+     */
+    int size() {
+        int count = 0;
+        for (int entry : entries) {
+            if (entry != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if two tables hold the same entries.
+     */
+    boolean sameEntries(PatternTable other) {
+        return Arrays.equals(entries, other.entries);
+    }
+
+    private static int neighborhood(int numberColumn) {
+        int mask = 0;
+        for (int cell = 0; cell < WINDOW_CELLS; cell++) {
+            if (Math.abs(COLUMN_OFFSETS[cell] - numberColumn) <= 1) {
+                mask |= 1 << cell;
+            }
+        }
+        return mask;
+    }
+
+    private static final class Holder {
+
+        static final PatternTable TABLE = load();
+
+        private static PatternTable load() {
+            try (InputStream in = PatternTable.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IOException("Missing resource " + RESOURCE);
+                }
+                return read(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot load the pattern table", e);
+            }
+        }
+    }
+}
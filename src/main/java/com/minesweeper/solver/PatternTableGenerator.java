@@ -0,0 +1,41 @@
+package com.minesweeper.solver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line entry point that regenerates the pattern table resource used by the DeductionEngine.
+ * <p>
+ * Usage: {@code java -cp target/classes com.minesweeper.solver.PatternTableGenerator [output-file]}.
+ * The default output is the resource in the source tree, so the table is rebuilt from a checkout with:
+ * <pre>
+ *   mvn -q compile
+ *   java -cp target/classes com.minesweeper.solver.PatternTableGenerator
+ * </pre>
+ */
+public final class PatternTableGenerator {
+
+    private static final Path DEFAULT_OUTPUT =
+            Path.of("src", "main", "resources", "com", "minesweeper", "solver", PatternTable.RESOURCE);
+
+    private PatternTableGenerator() {
+    }
+
+    public static void main(String[] args) {
+        Path output = args.length > 0 ? Path.of(args[0]) : DEFAULT_OUTPUT;
+        try {
+            long start = System.nanoTime();
+            PatternTable table = PatternTable.generate();
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(output)) {
+                table.write(out);
+            }
+            System.out.printf("Wrote %,d patterns to %s (%,d bytes) in %d ms%n", table.size(), output,
+                    Files.size(output), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            System.err.println("Pattern table generation failed: " + e.getMessage());
+        }
+    }
+}
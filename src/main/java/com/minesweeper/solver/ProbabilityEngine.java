@@ -0,0 +1,474 @@
+package com.minesweeper.solver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.minesweeper.domain.Grid;
+
+/**
+ * Computes the mine probability of every hidden cell from the revealed state of a Grid and its
+ * total mine count.
+ * <p>
+ * Hidden cells next to a revealed number form the frontier. Two frontier cells that share a number
+ * belong to the same component, and components do not constrain each other except through the total
+ * number of mines, so each component is enumerated on its own: an iterative backtracking search over
+ * its cells that prunes as soon as a number can no longer be satisfied, and records, for every number
+ * of mines {@code k} the component can hold, how many layouts hold {@code k} mines and how many of those
+ * mine each cell. Components are enumerated in parallel on a ForkJoinPool, and exact results are kept
+ * in a {@link TranspositionCache} keyed by a hash of the component's shape, so identical patterns
+ * anywhere on the board, in a later call, or in another game sharing the cache, are only enumerated
+ * once.
+ * <p>
+ * The components are then combined: a layout that puts {@code s} mines on the frontier leaves
+ * {@code C(otherCells, remainingMines - s)} ways to place the rest, so each combination is weighted by
+ * that binomial, computed in the log domain so that large boards do not overflow.
+ * <p>
+ * Enumeration is exponential in the worst case. A component that exceeds the node budget, or is still
+ * running when the time budget is spent, is sampled instead with Knuth's estimator: random walks through
+ * the same pruned search tree, each weighted by the number of choices it skipped. The estimates are
+ * unbiased, and the result is flagged as {@link MineProbabilities#approximate()}. Estimates are cached
+ * like exact results, so a component too large to enumerate is not retried against the budget on every
+ * call.
+ */
+public class ProbabilityEngine {
+
+    static final long DEFAULT_NODE_BUDGET = 1_000_000L;
+    static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(1);
+    static final int DEFAULT_SAMPLE_COUNT = 10_000;
+
+    private static final long DEADLINE_CHECK_MASK = 0xFFF; // Read the clock every 4096 nodes
+
+    private final ForkJoinPool pool;
+    private final long nodeBudget;
+    private final long timeBudgetNanos;
+    private final int sampleCount;
+    private final TranspositionCache cache;
+
+    /**
+     * Constructs a ProbabilityEngine on the common ForkJoinPool with the default budgets.
+     */
+    public ProbabilityEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_NODE_BUDGET, DEFAULT_TIME_BUDGET, DEFAULT_SAMPLE_COUNT);
+    }
+
+    /**
+     * Constructs a ProbabilityEngine on the common ForkJoinPool with the default budgets, sharing a cache
+     * of solved components with other engines.
+     *
+     * @param cache The cache of solved components.
+     */
+    public ProbabilityEngine(TranspositionCache cache) {
+        this(ForkJoinPool.commonPool(), DEFAULT_NODE_BUDGET, DEFAULT_TIME_BUDGET, DEFAULT_SAMPLE_COUNT, cache);
+    }
+
+    /**
+     * Constructs a ProbabilityEngine.
+     *
+     * @param pool        The pool components are enumerated on.
+     * @param nodeBudget  The maximum number of search nodes spent enumerating one component.
+     * @param timeBudget  The time after which components still being enumerated are sampled instead.
+     * @param sampleCount The number of random walks used to estimate a component that exceeds a budget.
+     * @throws IllegalArgumentException if a budget or the sample count is not positive.
+     */
+    public ProbabilityEngine(ForkJoinPool pool, long nodeBudget, Duration timeBudget, int sampleCount) {
+        this(pool, nodeBudget, timeBudget, sampleCount, new TranspositionCache(TranspositionCache.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Constructs a ProbabilityEngine that shares a cache of solved components.
+     *
+     * @param pool        The pool components are enumerated on.
+     * @param nodeBudget  The maximum number of search nodes spent enumerating one component.
+     * @param timeBudget  The time after which components still being enumerated are sampled instead.
+     * @param sampleCount The number of random walks used to estimate a component that exceeds a budget.
+     * @param cache       The cache of solved components.
+     * @throws IllegalArgumentException if a budget or the sample count is not positive.
+     */
+    public ProbabilityEngine(ForkJoinPool pool, long nodeBudget, Duration timeBudget, int sampleCount,
+                             TranspositionCache cache) {
+        if (nodeBudget <= 0) {
+            throw new IllegalArgumentException("Node budget must be positive, but was " + nodeBudget);
+        }
+        if (timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("Time budget must be positive, but was " + timeBudget);
+        }
+        if (sampleCount <= 0) {
+            throw new IllegalArgumentException("Sample count must be positive, but was " + sampleCount);
+        }
+        this.pool = pool;
+        this.nodeBudget = nodeBudget;
+        this.timeBudgetNanos = timeBudget.toNanos();
+        this.sampleCount = sampleCount;
+        this.cache = cache;
+    }
+
+    /**
+     * Gets the cache of solved components this engine uses.
+     *
+     * @return The cache.
+     */
+    public TranspositionCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Computes the mine probabilities of the hidden cells of a grid.
+     *
+     * @param grid The grid, whose revealed cells and total mine count are used.
+     * @return The probability of every hidden cell.
+     * @throws IllegalStateException if no mine layout is consistent with the revealed numbers.
+     */
+    public MineProbabilities compute(Grid grid) {
+        return compute(Frontier.of(grid));
+    }
+
+    /**
+     * Computes the mine probabilities over a frontier that has already been found.
+     */
+    MineProbabilities compute(Frontier frontier) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        int remainingMines = frontier.remainingMines;
+        int otherCells = frontier.otherCells;
+
+        List<ComponentTask> tasks = new ArrayList<>(frontier.components.size());
+        for (Frontier.Component component : frontier.components) {
+            tasks.add(new ComponentTask(component, Math.min(remainingMines, component.cells.length), deadline));
+        }
+        if (tasks.size() == 1) {
+            tasks.get(0).invoke();
+        } else {
+            tasks.forEach(pool::execute);
+        }
+        List<ComponentResult> results = new ArrayList<>(tasks.size());
+        boolean approximate = false;
+        for (ComponentTask task : tasks) {
+            ComponentResult result = task.join();
+            results.add(result);
+            approximate |= result.approximate;
+        }
+
+        // Mine-count distributions of the components before and after each one
+        int componentCount = results.size();
+        double[][] prefix = new double[componentCount + 1][];
+        double[][] suffix = new double[componentCount + 1][];
+        prefix[0] = new double[] {1.0};
+        suffix[componentCount] = new double[] {1.0};
+        for (int c = 0; c < componentCount; c++) {
+            prefix[c + 1] = convolve(prefix[c], results.get(c).ways, remainingMines);
+        }
+        for (int c = componentCount - 1; c >= 0; c--) {
+            suffix[c] = convolve(results.get(c).ways, suffix[c + 1], remainingMines);
+        }
+        double[] restWeights = restWeights(otherCells, remainingMines);
+
+        double[] frontierProbabilities = new double[frontier.cells.length];
+        for (int c = 0; c < componentCount; c++) {
+            Frontier.Component component = frontier.components.get(c);
+            ComponentResult result = results.get(c);
+            double[] others = convolve(prefix[c], suffix[c + 1], remainingMines);
+            double[] weights = new double[result.ways.length]; // Weight of one layout of this component with k mines
+            double total = 0.0;
+            for (int k = 0; k < weights.length; k++) {
+                for (int s = 0; s < others.length && k + s <= remainingMines; s++) {
+                    weights[k] += others[s] * restWeights[k + s];
+                }
+                total += result.ways[k] * weights[k];
+            }
+            if (!(total > 0.0)) {
+                throw new IllegalStateException("No mine layout is consistent with the revealed cells");
+            }
+            for (int v = 0; v < component.cells.length; v++) {
+                double mined = 0.0;
+                for (int k = 0; k < weights.length; k++) {
+                    if (result.cellWays[k] != null) {
+                        mined += result.cellWays[k][v] * weights[k];
+                    }
+                }
+                frontierProbabilities[component.frontierPositions[v]] = mined / total;
+            }
+        }
+
+        double otherProbability = 0.0;
+        if (otherCells > 0) {
+            double[] frontierMines = prefix[componentCount];
+            double total = 0.0;
+            double expectedMines = 0.0;
+            for (int s = 0; s < frontierMines.length; s++) {
+                double weight = frontierMines[s] * restWeights[s];
+                total += weight;
+                expectedMines += weight * (remainingMines - s);
+            }
+            if (!(total > 0.0)) {
+                throw new IllegalStateException("No mine layout is consistent with the revealed cells");
+            }
+            otherProbability = expectedMines / total / otherCells;
+        }
+        return new MineProbabilities(frontier.cells, frontierProbabilities, otherProbability, approximate);
+    }
+
+    /**
+     * Convolves two mine-count distributions, dropping counts above {@code maxMines}. The result is
+     * rescaled so its largest entry is 1: callers only compare weights that share a scale.
+     */
+    private static double[] convolve(double[] a, double[] b, int maxMines) {
+        double[] result = new double[Math.min(a.length + b.length - 1, maxMines + 1)];
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0.0) {
+                continue;
+            }
+            for (int j = 0; j < b.length && i + j < result.length; j++) {
+                result[i + j] += a[i] * b[j];
+            }
+        }
+        double max = 0.0;
+        for (double value : result) {
+            max = Math.max(max, value);
+        }
+        if (max > 0.0) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] /= max;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes, for every number {@code s} of mines on the frontier, a weight proportional to
+     * {@code C(otherCells, remainingMines - s)}. Binomials are accumulated as log ratios from the
+     * smallest feasible one, so only their relative sizes are ever exponentiated.
+     */
+    private static double[] restWeights(int otherCells, int remainingMines) {
+        double[] logWeights = new double[remainingMines + 1];
+        Arrays.fill(logWeights, Double.NEGATIVE_INFINITY);
+        int lowest = Math.max(0, remainingMines - otherCells); // Fewest frontier mines that fit
+        double log = 0.0;
+        double max = 0.0;
+        for (int s = remainingMines; s >= lowest; s--) {
+            int rest = remainingMines - s;
+            if (rest > 0) {
+                log += Math.log(otherCells - rest + 1) - Math.log(rest); // C(n, r) = C(n, r-1) * (n-r+1) / r
+            }
+            logWeights[s] = log;
+            max = Math.max(max, log);
+        }
+        double[] weights = new double[remainingMines + 1];
+        for (int s = lowest; s <= remainingMines; s++) {
+            weights[s] = Math.exp(logWeights[s] - max);
+        }
+        return weights;
+    }
+
+    /**
+     * Enumerates one component, falling back to sampling when a budget runs out.
+     */
+    private final class ComponentTask extends RecursiveTask<ComponentResult> {
+
+        private final Frontier.Component component;
+        private final int maxMines;
+        private final long deadline;
+
+        ComponentTask(Frontier.Component component, int maxMines, long deadline) {
+            this.component = component;
+            this.maxMines = maxMines;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected ComponentResult compute() {
+            int[] signature = component.signature(maxMines);
+            long hash = Frontier.Component.hash(signature);
+            ComponentResult cached = cache.get(hash, signature);
+            if (cached != null) {
+                return cached;
+            }
+            Search search = new Search(component, maxMines);
+            ComponentResult result = search.enumerate(nodeBudget, deadline);
+            if (result == null) {
+                // Seeded by the shape, so sampling the same component again would give the same estimate
+                result = new Search(component, maxMines).sample(sampleCount, new SplittableRandom(hash));
+            }
+            cache.put(hash, signature, result);
+            return result;
+        }
+    }
+
+    /**
+     * The layout counts of one component, indexed by the number of mines {@code k} it holds.
+     * {@code cellWays[k]} is null when no layout holds {@code k} mines.
+     */
+    record ComponentResult(double[] ways, double[][] cellWays, boolean approximate) {
+    }
+
+    /**
+     * The mutable state of a search over one component's layouts.
+     */
+    private static final class Search {
+
+        private final Frontier.Component component;
+        private final int maxMines;
+        private final int[] mines;      // Mines assigned so far around each number
+        private final int[] unassigned; // Variables still unassigned around each number
+        private final int[] values;
+        private int assignedMines;
+
+        Search(Frontier.Component component, int maxMines) {
+            this.component = component;
+            this.maxMines = maxMines;
+            this.mines = new int[component.targets.length];
+            this.unassigned = new int[component.targets.length];
+            for (int j = 0; j < unassigned.length; j++) {
+                unassigned[j] = component.constraintVars[j].length;
+            }
+            this.values = new int[component.cells.length];
+            Arrays.fill(values, -1);
+        }
+
+        /**
+         * Counts every layout by backtracking.
+         *
+         * @return The exact counts, or null if a budget ran out first.
+         */
+        ComponentResult enumerate(long nodeBudget, long deadline) {
+            int n = values.length;
+            double[] ways = new double[maxMines + 1];
+            double[][] cellWays = new double[maxMines + 1][];
+            long nodes = 0;
+            int depth = 0;
+            while (depth >= 0) {
+                if (depth == n) {
+                    record(ways, cellWays, 1.0);
+                    depth--;
+                    continue;
+                }
+                int next = values[depth] + 1;
+                if (values[depth] >= 0) {
+                    unassign(depth, values[depth]);
+                }
+                while (next <= 1 && !assign(depth, next)) {
+                    next++;
+                }
+                if (next > 1) {
+                    values[depth--] = -1;
+                    continue;
+                }
+                values[depth] = next;
+                nodes++;
+                if (nodes > nodeBudget || ((nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() - deadline > 0)) {
+                    return null;
+                }
+                depth++;
+            }
+            return new ComponentResult(ways, cellWays, false);
+        }
+
+        /**
+         * Estimates the counts with random walks through the pruned search tree. A walk that reaches a
+         * complete layout is weighted by 2 to the number of free choices it made, which makes the sums
+         * unbiased estimates of the counts. Weights are kept relative to the largest seen so far.
+         */
+        ComponentResult sample(int samples, SplittableRandom random) {
+            int n = values.length;
+            double[] ways = new double[maxMines + 1];
+            double[][] cellWays = new double[maxMines + 1][];
+            int scale = 0; // Sums are stored divided by 2^scale
+            for (int sample = 0; sample < samples; sample++) {
+                int exponent = 0;
+                int depth = 0;
+                for (; depth < n; depth++) {
+                    boolean canBeSafe = tryValue(depth, 0);
+                    boolean canBeMine = tryValue(depth, 1);
+                    if (!canBeSafe && !canBeMine) {
+                        break;
+                    }
+                    int value = canBeMine ? 1 : 0;
+                    if (canBeSafe && canBeMine) {
+                        exponent++;
+                        value = random.nextInt(2);
+                    }
+                    assign(depth, value);
+                    values[depth] = value;
+                }
+                if (depth == n) {
+                    if (exponent > scale) {
+                        rescale(ways, cellWays, Math.scalb(1.0, scale - exponent));
+                        scale = exponent;
+                    }
+                    record(ways, cellWays, Math.scalb(1.0, exponent - scale));
+                }
+                while (--depth >= 0) {
+                    unassign(depth, values[depth]);
+                    values[depth] = -1;
+                }
+            }
+            return new ComponentResult(ways, cellWays, true);
+        }
+
+        private boolean tryValue(int var, int value) {
+            if (!assign(var, value)) {
+                return false;
+            }
+            unassign(var, value);
+            return true;
+        }
+
+        /**
+         * Assigns a value to a variable if every number around it can still be satisfied.
+         *
+         * @return true if the value was assigned, false if it was rejected and nothing changed.
+         */
+        private boolean assign(int var, int value) {
+            int[] constraints = component.constraintsOfVar[var];
+            assignedMines += value;
+            boolean consistent = assignedMines <= maxMines;
+            for (int j : constraints) {
+                mines[j] += value;
+                unassigned[j]--;
+                int target = component.targets[j];
+                if (mines[j] > target || mines[j] + unassigned[j] < target) {
+                    consistent = false;
+                }
+            }
+            if (!consistent) {
+                unassign(var, value);
+            }
+            return consistent;
+        }
+
+        private void unassign(int var, int value) {
+            assignedMines -= value;
+            for (int j : component.constraintsOfVar[var]) {
+                mines[j] -= value;
+                unassigned[j]++;
+            }
+        }
+
+        private void record(double[] ways, double[][] cellWays, double weight) {
+            ways[assignedMines] += weight;
+            double[] row = cellWays[assignedMines];
+            if (row == null) {
+                row = cellWays[assignedMines] = new double[values.length];
+            }
+            for (int v = 0; v < values.length; v++) {
+                if (values[v] == 1) {
+                    row[v] += weight;
+                }
+            }
+        }
+
+        private static void rescale(double[] ways, double[][] cellWays, double factor) {
+            for (int k = 0; k < ways.length; k++) {
+                ways[k] *= factor;
+                if (cellWays[k] != null) {
+                    for (int v = 0; v < cellWays[k].length; v++) {
+                        cellWays[k][v] *= factor;
+                    }
+                }
+            }
+        }
+    }
+}
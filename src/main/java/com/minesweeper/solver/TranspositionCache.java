@@ -0,0 +1,132 @@
+package com.minesweeper.solver;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least-recently-used cache of solved frontier components, keyed by a 64-bit hash of the
+ * component's shape.
+ * <p>
+ * The same component shapes come up again and again, within a board and across the games of a
+ * simulation, so one cache can be shared by every {@link ProbabilityEngine} of a run. Each entry keeps
+ * the full shape signature next to the result, and a lookup whose signature differs is a miss, so a
+ * hash collision can never return the wrong probabilities. All methods are synchronized; lookups are
+ * short next to the enumeration they save.
+ */
+public final class TranspositionCache {
+
+    /**
+     * The capacity of the cache a ProbabilityEngine creates for itself.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final int capacity;
+    private final Map<Long, Entry> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs an empty TranspositionCache.
+     *
+     * @param capacity The maximum number of components kept; the least recently used is evicted first.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public TranspositionCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, but was " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > TranspositionCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Looks up a solved component.
+     *
+     * @return The result, or null if the component is not cached.
+     */
+    synchronized ProbabilityEngine.ComponentResult get(long hash, int[] signature) {
+        Entry entry = entries.get(hash);
+        if (entry == null || !Arrays.equals(entry.signature, signature)) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.result;
+    }
+
+    /**
+     * Stores a solved component, replacing any entry with the same hash.
+     */
+    synchronized void put(long hash, int[] signature, ProbabilityEngine.ComponentResult result) {
+        entries.put(hash, new Entry(signature, result));
+    }
+
+    /**
+     * Gets the maximum number of components kept.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of components currently cached.
+     *
+     * @return The size.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of lookups that found their component.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that did not find their component.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of components evicted to stay within the capacity.
+     *
+     * @return The eviction count.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the fraction of lookups that found their component.
+     *
+     * @return The hit rate, or 0 if there were no lookups.
+     */
+    public synchronized double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    private record Entry(int[] signature, ProbabilityEngine.ComponentResult result) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.minesweeper;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.minesweeper.dataset.BoardDataset;
+import com.minesweeper.dataset.BoardDatasetWriter;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Unit tests for the BoardGenerator entry point.
+ */
+class BoardGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void main_withoutSeed_shouldResumeWithSeedOfExistingFile() throws IOException {
+        Path file = tempDir.resolve("boards.bin");
+        BoardGenerator.main(new String[] {"--size", "9", "--mines", "10", "--count", "20", "--out", file.toString(),
+                "--threads", "2"});
+        BoardDataset dataset = readHeader(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(BoardDataset.HEADER_BYTES + 7L * dataset.recordBytes() + 3); // Interrupted mid-record
+        }
+
+        BoardGenerator.main(new String[] {"--size", "9", "--mines", "10", "--count", "50", "--out", file.toString()});
+
+        Path expected = tempDir.resolve("expected.bin");
+        new BoardDatasetWriter(dataset, SeededMinePlacer::new, 1).write(expected, 50, report -> { });
+        assertEquals(dataset, readHeader(file));
+        assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(file));
+    }
+
+    private static BoardDataset readHeader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return BoardDataset.readHeader(channel);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.minesweeper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the CommandLineOptions class.
+ */
+class CommandLineOptionsTest {
+
+    @Test
+    void parse_shouldReadNameValuePairs() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[] {"--size", "16", "--seed", "-42"});
+
+        assertTrue(options.has("size"));
+        assertFalse(options.has("mines"));
+        assertEquals(16, options.requiredInt("size"));
+        assertEquals(-42L, options.requiredLong("seed"));
+        assertEquals(8, options.getInt("threads", 8));
+        assertEquals("deduction", options.get("strategy", "deduction"));
+    }
+
+    @Test
+    void parse_shouldRejectValueWithoutName() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> CommandLineOptions.parse(new String[] {"16"}));
+        assertEquals("Invalid argument: 16", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> CommandLineOptions.parse(new String[] {"--size"}));
+    }
+
+    @Test
+    void required_shouldNameMissingOption() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[0]);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> options.requiredInt("size"));
+        assertEquals("Missing required option --size", e.getMessage());
+    }
+
+    @Test
+    void numbers_shouldNameOptionThatIsNotANumber() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[] {"--games", "many"});
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> options.getLong("games", 1));
+        assertEquals("Option --games must be a whole number, but was many", e.getMessage());
+    }
+}
@@ -0,0 +1,73 @@
+package com.minesweeper.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.io.console.AnsiConsoleOutputHandler;
+import com.minesweeper.io.console.ConsoleOutputHandler;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Compares the output per move of the full-frame console renderer with the ANSI diff renderer, over
+ * games where random safe cells are revealed until the board is clear.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class AnsiRenderBenchmark {
+
+    public static void main(String[] args) {
+        PrintStream console = System.out;
+        for (int size : new int[] {9, 30, 100, 500}) {
+            CountingStream fullCount = new CountingStream();
+            CountingStream ansiCount = new CountingStream();
+            long fullNanos = play(size, new ConsoleOutputHandler(), fullCount);
+            AnsiConsoleOutputHandler ansi = new AnsiConsoleOutputHandler(size + 10, 4 * size + 10); // Large enough for the board
+            long ansiNanos = play(size, ansi, ansiCount);
+            System.setOut(console);
+            long moves = ansi.getMetrics().frames();
+            System.out.printf("%4dx%-4d %,7d moves: full %,12.0f bytes/move %9.1f us/move, ANSI %,8.1f bytes/move %7.1f us/move%n",
+                    size, size, moves, (double) fullCount.bytes / moves, fullNanos / 1e3 / moves,
+                    (double) ansiCount.bytes / moves, ansiNanos / 1e3 / moves);
+        }
+    }
+
+    /**
+     * Reveals random safe cells of a seeded board until it is clear, displaying the grid after each move.
+     *
+     * @return The time spent displaying grids, in nanoseconds.
+     */
+    private static long play(int size, ConsoleOutputHandler handler, CountingStream sink) {
+        System.setOut(new PrintStream(sink, true));
+        Grid grid = new Grid(size);
+        grid.initialize(new SeededMinePlacer(size), size * size / 6);
+        SplittableRandom random = new SplittableRandom(size);
+        long nanos = 0;
+        while (!grid.areAllNonMinesRevealed()) {
+            int index = random.nextInt(grid.getCellCount());
+            if (grid.isMine(index) || grid.isRevealed(index)) {
+                continue;
+            }
+            grid.revealCell(index);
+            long start = System.nanoTime();
+            handler.displayGrid(grid);
+            nanos += System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    private static final class CountingStream extends OutputStream {
+
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.minesweeper.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.OutputHandler;
+import com.minesweeper.io.AsyncOutputHandler;
+import com.minesweeper.io.console.ConsoleOutputHandler;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Measures how fast the game loop can process scripted moves when the terminal is slow, writing
+ * directly with {@link ConsoleOutputHandler} and through {@link AsyncOutputHandler}. Each move does
+ * what {@code MinesweeperGame} does: display the grid, prompt, reveal a cell and report its count.
+ * The terminal is simulated by a stream that accepts about 10 MB/s. Not a unit test; run it from the
+ * IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class AsyncRenderBenchmark {
+
+    private static final int MOVES = 300;
+    private static final long NANOS_PER_KILOBYTE = 100_000; // About 10 MB/s
+
+    public static void main(String[] args) {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(new ThrottledStream(), true));
+        try (AsyncOutputHandler warmUp = new AsyncOutputHandler(new ConsoleOutputHandler())) {
+            movesPerSecond(50, warmUp, warmUp); // Compile the copy and drain paths before measuring
+            movesPerSecond(50, new ConsoleOutputHandler(), null);
+        }
+        String[] results = new String[3];
+        int line = 0;
+        for (int size : new int[] {50, 100, 200}) {
+            double direct = movesPerSecond(size, new ConsoleOutputHandler(), null);
+            try (AsyncOutputHandler async = new AsyncOutputHandler(new ConsoleOutputHandler())) {
+                double engine = movesPerSecond(size, async, async);
+                results[line++] = String.format("%4dx%-4d direct %,9.1f moves/s, async %,9.1f moves/s (%.1fx); %s",
+                        size, size, direct, engine, engine / direct, async.getMetrics());
+            }
+        }
+        System.setOut(console);
+        for (String result : results) {
+            System.out.println(result);
+        }
+    }
+
+    /**
+     * Plays random safe moves and returns the rate at which the loop got through them, not counting the
+     * wait for the output to be written at the end.
+     */
+    private static double movesPerSecond(int size, OutputHandler output, AsyncOutputHandler async) {
+        Grid grid = new Grid(size);
+        grid.initialize(new SeededMinePlacer(size), size * size / 8);
+        Random random = new Random(size);
+        long start = System.nanoTime();
+        for (int move = 0; move < MOVES; move++) {
+            output.displayGrid(grid);
+            output.displayPromptForMove();
+            int index;
+            do {
+                index = random.nextInt(grid.getCellCount());
+            } while (grid.isMine(index));
+            grid.revealCell(index);
+            output.displayAdjacentMineCount(grid.getAdjacentMineCount(index));
+        }
+        long elapsed = System.nanoTime() - start;
+        if (async != null) {
+            async.flush();
+        }
+        return MOVES * 1e9 / elapsed;
+    }
+
+    /**
+     * Discards output after a delay in proportion to its length, like a terminal that has to draw it.
+     */
+    private static final class ThrottledStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+            LockSupport.parkNanos(NANOS_PER_KILOBYTE / 1024);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            LockSupport.parkNanos(length * NANOS_PER_KILOBYTE / 1024);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.minesweeper.benchmark;
+
+import java.util.Arrays;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.SeededMinePlacer;
+import com.minesweeper.solver.Hint;
+import com.minesweeper.solver.HintService;
+
+/**
+ * Measures hint latency while playing whole games by following the hints: once with one HintService
+ * kept up to date after every move, and once with a new HintService built for every hint.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class HintBenchmark {
+
+    public static void main(String[] args) {
+        run("Expert 22x22", 22, 99, 300);
+        run("Large 100x100", 100, 1_500, 20);
+    }
+
+    private static void run(String name, int size, int mineCount, int games) {
+        long[] incremental = play(size, mineCount, games, false);
+        long[] fresh = play(size, mineCount, games, true);
+        System.out.printf("%-14s %,7d hints: incremental p50 %8.3f ms p99 %8.3f ms | fresh p50 %8.3f ms p99 %8.3f ms%n",
+                name, incremental.length, percentile(incremental, 50), percentile(incremental, 99),
+                percentile(fresh, 50), percentile(fresh, 99));
+    }
+
+    /**
+     * Plays seeded games by always revealing the hinted cell, and returns the latency of every hint.
+     */
+    private static long[] play(int size, int mineCount, int games, boolean rebuild) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        for (long seed = 0; seed < games; seed++) {
+            Grid grid = new Grid(size);
+            grid.initialize(new SeededMinePlacer(seed), mineCount);
+            HintService service = new HintService(grid);
+            while (grid.getHiddenSafeCellCount() > 0) {
+                long start = System.nanoTime();
+                if (rebuild) {
+                    service = new HintService(grid);
+                }
+                Hint hint = service.hint();
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - start;
+                if (grid.isMine(hint.index())) {
+                    break;
+                }
+                grid.revealCell(hint.index());
+                service.update();
+            }
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static double percentile(long[] latencies, double percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+}
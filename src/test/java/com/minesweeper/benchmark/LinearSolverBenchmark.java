@@ -0,0 +1,106 @@
+package com.minesweeper.benchmark;
+
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.SeededMinePlacer;
+import com.minesweeper.solver.DeductionEngine;
+import com.minesweeper.solver.Deductions;
+import com.minesweeper.solver.LinearSolver;
+
+/**
+ * Compares the LinearSolver (which starts from the subset rules) with the subset rules of the
+ * DeductionEngine alone, on the same seeded positions.
+ * Large positions are opened in many places at once, so their frontier runs to tens of thousands of cells.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class LinearSolverBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        run("Expert 22x22", 22, 99, 22, 500);
+        run("Large 500x500", 500, 40_000, 25, 3);
+        run("Large 1000x1000", 1000, 160_000, 25, 3);
+    }
+
+    /**
+     * Solves {@code positions} boards, each opened at the first zero cell of every {@code block}-sized square.
+     */
+    private static void run(String name, int size, int mineCount, int block, int positions) {
+        Grid[] grids = new Grid[positions];
+        long frontier = 0;
+        for (int i = 0; i < positions; i++) {
+            grids[i] = openedBoard(size, mineCount, block, i);
+            frontier += frontierSize(grids[i]);
+        }
+        LinearSolver linearSolver = new LinearSolver();
+        long subsetNanos = Long.MAX_VALUE;
+        long linearNanos = Long.MAX_VALUE;
+        long subsetDeduced = 0;
+        long linearDeduced = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            subsetDeduced = 0;
+            linearDeduced = 0;
+            long start = System.nanoTime();
+            for (Grid grid : grids) {
+                subsetDeduced += count(new DeductionEngine(grid).solve());
+            }
+            subsetNanos = Math.min(subsetNanos, System.nanoTime() - start);
+            start = System.nanoTime();
+            for (Grid grid : grids) {
+                linearDeduced += count(linearSolver.solve(grid));
+            }
+            linearNanos = Math.min(linearNanos, System.nanoTime() - start);
+        }
+        System.out.printf("%-16s %,8d frontier cells/position%n", name, frontier / positions);
+        System.out.printf("  subset rules: %9.3f ms/position, %,9d cells deduced%n",
+                subsetNanos / 1e6 / positions, subsetDeduced);
+        System.out.printf("  linear:       %9.3f ms/position, %,9d cells deduced%n",
+                linearNanos / 1e6 / positions, linearDeduced);
+    }
+
+    private static Grid openedBoard(int size, int mineCount, int block, long seed) {
+        Grid grid = new Grid(size);
+        grid.initialize(new SeededMinePlacer(seed), mineCount);
+        for (int top = 0; top < size; top += block) {
+            for (int left = 0; left < size; left += block) {
+                openBlock(grid, top, left, block);
+            }
+        }
+        return grid;
+    }
+
+    private static void openBlock(Grid grid, int top, int left, int block) {
+        for (int row = top; row < Math.min(top + block, grid.getSize()); row++) {
+            for (int column = left; column < Math.min(left + block, grid.getSize()); column++) {
+                int index = grid.indexOf(row, column);
+                if (!grid.isMine(index) && grid.getAdjacentMineCount(index) == 0) {
+                    grid.revealCell(new Coordinates(row, column));
+                    return;
+                }
+            }
+        }
+    }
+
+    private static int frontierSize(Grid grid) {
+        int[] neighbors = new int[Grid.MAX_NEIGHBORS];
+        int frontier = 0;
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (grid.isRevealed(index)) {
+                continue;
+            }
+            int neighborCount = grid.getNeighbors(index, neighbors);
+            for (int i = 0; i < neighborCount; i++) {
+                if (grid.isRevealed(neighbors[i])) {
+                    frontier++;
+                    break;
+                }
+            }
+        }
+        return frontier;
+    }
+
+    private static long count(Deductions deductions) {
+        return deductions.safeCells().cardinality() + deductions.mineCells().cardinality();
+    }
+}
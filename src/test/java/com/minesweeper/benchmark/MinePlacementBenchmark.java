@@ -0,0 +1,40 @@
+package com.minesweeper.benchmark;
+
+import java.util.Random;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.RandomMinePlacer;
+
+/**
+ * Measures board generation time across mine densities.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class MinePlacementBenchmark {
+
+    private static final int SIZE = 1000;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) {
+        int[] densities = {1, 10, 25, 50, 75, 90, 99};
+        RandomMinePlacer placer = new RandomMinePlacer(new Random(1L));
+        for (int density : densities) {
+            best(placer, density); // Warm up at every density before anything is reported
+        }
+        System.out.printf("Board %dx%d, best of %d runs%n", SIZE, SIZE, ROUNDS);
+        for (int density : densities) {
+            System.out.printf("%3d%% mines: %6.1f ms%n", density, best(placer, density) / 1e6);
+        }
+    }
+
+    private static long best(RandomMinePlacer placer, int density) {
+        int mineCount = SIZE * SIZE / 100 * density;
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            Grid grid = new Grid(SIZE);
+            long start = System.nanoTime();
+            grid.initialize(placer, mineCount);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
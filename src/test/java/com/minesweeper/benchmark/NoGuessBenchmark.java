@@ -0,0 +1,39 @@
+package com.minesweeper.benchmark;
+
+import java.time.Duration;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.NoGuessMinePlacer;
+
+/**
+ * Measures no-guess board generation latency, with the opening in the middle of the board.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class NoGuessBenchmark {
+
+    private static final int WARMUP_BOARDS = 200;
+
+    public static void main(String[] args) {
+        int workers = Runtime.getRuntime().availableProcessors();
+        run("Intermediate 16x16/40", 16, 40, 1_000, workers);
+        run("Expert 22x22/99", 22, 99, 1_000, workers);
+        run("Large 50x50/500", 50, 500, 200, workers);
+        run("Huge 100x100/2000", 100, 2_000, 50, workers);
+    }
+
+    private static void run(String name, int size, int mineCount, int boards, int workers) {
+        try (NoGuessMinePlacer warmup = new NoGuessMinePlacer(workers, Duration.ofSeconds(5), 0L)) {
+            for (int i = 0; i < WARMUP_BOARDS; i++) {
+                new Grid(size).initialize(warmup, mineCount);
+            }
+        }
+        try (NoGuessMinePlacer placer = new NoGuessMinePlacer(workers, Duration.ofSeconds(5), 1L)) {
+            for (int i = 0; i < boards; i++) {
+                new Grid(size).initialize(placer, mineCount);
+            }
+            System.out.printf("%-22s p50 %6.2f ms, p99 %7.2f ms, %d workers%n  %s%n", name,
+                    placer.latencyPercentileNanos(50) / 1e6, placer.latencyPercentileNanos(99) / 1e6, workers,
+                    placer.getMetrics());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.minesweeper.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import com.minesweeper.domain.Cell;
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.io.console.ConsoleOutputHandler;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Measures grid redraws per second for the buffered renderer of {@link ConsoleOutputHandler} and for
+ * the per-cell printf renderer it replaced. Output goes to /dev/null through a stream set up like
+ * {@code System.out}: a 128-byte buffer with auto-flush, so every flush is a real write call.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class RenderBenchmark {
+
+    private static final long MIN_NANOS = 1_000_000_000L;
+
+    public static void main(String[] args) throws FileNotFoundException {
+        PrintStream console = System.out;
+        OutputStream sink = new File("/dev/null").exists() ? new FileOutputStream("/dev/null")
+                : OutputStream.nullOutputStream();
+        PrintStream target = new PrintStream(new BufferedOutputStream(sink, 128), true);
+        for (int size : new int[] {9, 50, 100, 500, 1000}) {
+            Grid grid = new Grid(size);
+            grid.initialize(new SeededMinePlacer(size), size * size / 6);
+            for (int index = 0; index < grid.getCellCount(); index += 2) {
+                if (!grid.isMine(index)) {
+                    grid.revealCell(index);
+                }
+            }
+            ConsoleOutputHandler handler = new ConsoleOutputHandler();
+            System.setOut(target);
+            double perCell = framesPerSecond(() -> printGridPerCell(grid));
+            double buffered = framesPerSecond(() -> handler.displayGrid(grid));
+            System.setOut(console);
+            System.out.printf("%4dx%-4d per-cell %,10.1f frames/s, buffered %,10.1f frames/s (%.1fx)%n",
+                    size, size, perCell, buffered, buffered / perCell);
+        }
+    }
+
+    private static double framesPerSecond(Runnable frame) {
+        for (int i = 0; i < 3; i++) {
+            frame.run();
+        }
+        long frames = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            frame.run();
+            frames++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MIN_NANOS);
+        return frames * 1e9 / elapsed;
+    }
+
+    // The renderer ConsoleOutputHandler used before, with one printf per cell
+    private static void printGridPerCell(Grid grid) {
+        int size = grid.getSize();
+        System.out.print("  ");
+        for (int c = 0; c < size; c++) {
+            System.out.printf(" %d", c + 1);
+        }
+        System.out.println();
+        for (int r = 0; r < size; r++) {
+            System.out.print((char) ('A' + r));
+            System.out.print(" ");
+            for (int c = 0; c < size; c++) {
+                Cell cell = grid.getCell(new Coordinates(r, c));
+                String displayChar = !cell.isRevealed() ? "_"
+                        : cell.isMine() ? "*" : String.valueOf(cell.getAdjacentMineCount());
+                System.out.printf(" %s", displayChar);
+            }
+            System.out.println();
+        }
+        System.out.println();
+    }
+}
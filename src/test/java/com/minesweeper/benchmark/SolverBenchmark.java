@@ -0,0 +1,63 @@
+package com.minesweeper.benchmark;
+
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.SeededMinePlacer;
+import com.minesweeper.solver.DeductionEngine;
+
+/**
+ * Measures how many opened positions the DeductionEngine solves per second.
+ * Grids are square, so the expert board (30x16, 99 mines) is approximated by 22x22 with 99 mines.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class SolverBenchmark {
+
+    private static final int POSITIONS = 2000;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) {
+        run("Beginner", 9, 10);
+        run("Intermediate", 16, 40);
+        run("Expert", 22, 99);
+    }
+
+    private static void run(String name, int size, int mineCount) {
+        Grid[] positions = new Grid[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+            positions[i] = openedBoard(size, mineCount, i);
+        }
+        long best = Long.MAX_VALUE;
+        long deduced = 0;
+        long lookups = 0;
+        long hits = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            deduced = 0;
+            lookups = 0;
+            hits = 0;
+            long start = System.nanoTime();
+            for (Grid grid : positions) {
+                DeductionEngine engine = new DeductionEngine(grid);
+                var deductions = engine.solve();
+                deduced += deductions.safeCells().cardinality() + deductions.mineCells().cardinality();
+                lookups += engine.getPatternLookups();
+                hits += engine.getPatternHits();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-12s %2dx%-2d %3d mines: %,10.0f positions/s, %.1f cells deduced per position, "
+                        + "pattern hit rate %.1f%% of %,d lookups%n", name, size, size, mineCount,
+                POSITIONS * 1e9 / best, (double) deduced / POSITIONS, 100.0 * hits / Math.max(lookups, 1), lookups);
+    }
+
+    private static Grid openedBoard(int size, int mineCount, long seed) {
+        Grid grid = new Grid(size);
+        grid.initialize(new SeededMinePlacer(seed), mineCount);
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (!grid.isMine(index) && grid.getAdjacentMineCount(index) == 0) {
+                grid.revealCell(new Coordinates(grid.rowOf(index), grid.columnOf(index)));
+                break;
+            }
+        }
+        return grid;
+    }
+}
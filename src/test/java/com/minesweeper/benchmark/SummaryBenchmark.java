@@ -0,0 +1,115 @@
+package com.minesweeper.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+import com.minesweeper.domain.BoardSummary;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.io.console.MinimapOutputHandler;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Measures {@link BoardSummary} as the board grows: the cost of keeping it up to date per revealed
+ * cell, a random rectangle count against counting the same cells one by one, and a
+ * {@link MinimapOutputHandler} frame with its default overview, written to /dev/null. Not a unit test;
+ * run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class SummaryBenchmark {
+
+    private static final long MIN_NANOS = 1_000_000_000L;
+
+    public static void main(String[] args) throws FileNotFoundException {
+        PrintStream console = System.out;
+        OutputStream sink = new File("/dev/null").exists() ? new FileOutputStream("/dev/null")
+                : OutputStream.nullOutputStream();
+        PrintStream target = new PrintStream(new BufferedOutputStream(sink, 128), true);
+        System.setOut(target);
+        run(200); // Warm up before anything is reported
+        System.setOut(console);
+        for (int size : new int[] {200, 1000, 5000, 10000}) {
+            System.setOut(target);
+            String line = run(size);
+            System.setOut(console);
+            System.out.println(line);
+        }
+    }
+
+    private static String run(int size) {
+        Grid grid = new Grid(size);
+        grid.initialize(new SeededMinePlacer(size), size * size / 5);
+        long buildStart = System.nanoTime();
+        BoardSummary summary = new BoardSummary(grid);
+        long buildNanos = System.nanoTime() - buildStart;
+
+        Random random = new Random(size);
+        long revealedCells = 0;
+        long updateNanos = 0;
+        for (int move = 0; move < 2000; move++) {
+            int index = random.nextInt(grid.getCellCount());
+            if (grid.isMine(index) || grid.isRevealed(index)) {
+                continue;
+            }
+            grid.revealCell(index);
+            long start = System.nanoTime();
+            summary.update();
+            updateNanos += System.nanoTime() - start;
+            revealedCells += grid.getLastRevealCount();
+        }
+
+        int[] rectangle = new int[4];
+        double summaryRate = perSecond(() -> {
+            randomRectangle(random, size, rectangle);
+            summary.count(rectangle[0], rectangle[1], rectangle[2], rectangle[3]);
+        });
+        double scanRate = perSecond(() -> {
+            randomRectangle(random, size, rectangle);
+            scan(grid, rectangle);
+        });
+
+        MinimapOutputHandler minimap = new MinimapOutputHandler();
+        minimap.displayGrid(grid);
+        double frameRate = perSecond(() -> minimap.displayGrid(grid));
+        return String.format("%5dx%-5d build %7.1f ms, update %6.2f us/cell, count %,10.0f/s vs scan %,10.1f/s, "
+                + "minimap frame %,8.0f/s", size, size, buildNanos / 1e6, updateNanos / 1e3 / revealedCells,
+                summaryRate, scanRate, frameRate);
+    }
+
+    private static void randomRectangle(Random random, int size, int[] rectangle) {
+        rectangle[0] = random.nextInt(size);
+        rectangle[1] = random.nextInt(size);
+        rectangle[2] = rectangle[0] + 1 + random.nextInt(size - rectangle[0]);
+        rectangle[3] = rectangle[1] + 1 + random.nextInt(size - rectangle[1]);
+    }
+
+    private static int scan(Grid grid, int[] rectangle) {
+        int revealed = 0;
+        for (int row = rectangle[0]; row < rectangle[2]; row++) {
+            for (int column = rectangle[1]; column < rectangle[3]; column++) {
+                if (grid.isRevealed(grid.indexOf(row, column))) {
+                    revealed++;
+                }
+            }
+        }
+        return revealed;
+    }
+
+    private static double perSecond(Runnable operation) {
+        for (int i = 0; i < 3; i++) {
+            operation.run();
+        }
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            operation.run();
+            operations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MIN_NANOS);
+        return operations * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,37 @@
+package com.minesweeper.benchmark;
+
+import java.time.Duration;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.DifficultyTargetedMinePlacer;
+import com.minesweeper.placement.DifficultyTargetedMinePlacer.Target;
+
+/**
+ * Measures the acceptance rate and generation latency of difficulty-targeted boards, for a 3BV band
+ * around the median, a hard 3BV band, and boards solvable without guessing.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class TargetedBoardBenchmark {
+
+    private static final int BOARDS = 200;
+    private static final Duration TIME_LIMIT = Duration.ofSeconds(1);
+
+    public static void main(String[] args) {
+        // Median 3BV is about 64 for 16x16/40 and 172 for 22x22/99; 90th percentiles are 80 and 197
+        run("Intermediate 3BV 60-68", 16, 40, Target.threeBv(60, 68));
+        run("Intermediate no-guess", 16, 40, Target.noGuess());
+        run("Expert 3BV 165-180", 22, 99, Target.threeBv(165, 180));
+        run("Expert 3BV >= 200", 22, 99, Target.threeBv(200, Integer.MAX_VALUE));
+        run("Expert no-guess", 22, 99, Target.noGuess());
+        run("Expert no-guess 3BV >= 180", 22, 99, Target.threeBv(180, Integer.MAX_VALUE).withNoGuess());
+    }
+
+    private static void run(String name, int size, int mineCount, Target target) {
+        try (DifficultyTargetedMinePlacer placer = new DifficultyTargetedMinePlacer(target, TIME_LIMIT, 1L)) {
+            for (int i = 0; i < BOARDS; i++) {
+                new Grid(size).initialize(placer, mineCount);
+            }
+            System.out.printf("%-27s %s%n", name, placer.getMetrics());
+        }
+    }
+}
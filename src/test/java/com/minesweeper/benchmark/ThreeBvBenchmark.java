@@ -0,0 +1,41 @@
+package com.minesweeper.benchmark;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.domain.ThreeBvScorer;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Measures 3BV scoring throughput from expert boards to boards with tens of millions of cells.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class ThreeBvBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        run("Expert", 22, 99, 20_000);
+        run("1000x1000", 1000, 200_000, 10);
+        run("5000x5000", 5000, 5_000_000, 1);
+    }
+
+    private static void run(String name, int size, int mineCount, int boards) {
+        Grid[] grids = new Grid[boards];
+        for (int i = 0; i < boards; i++) {
+            grids[i] = new Grid(size);
+            grids[i].initialize(new SeededMinePlacer(i), mineCount);
+        }
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            total = 0;
+            long start = System.nanoTime();
+            for (Grid grid : grids) {
+                total += ThreeBvScorer.score(grid);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double cells = (double) size * size * boards;
+        System.out.printf("%-10s %,12.0f boards/s, %6.1f Mcells/s, average 3BV %,.1f%n",
+                name, boards * 1e9 / best, cells * 1e3 / best, (double) total / boards);
+    }
+}
@@ -0,0 +1,62 @@
+package com.minesweeper.benchmark;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.SeededMinePlacer;
+import com.minesweeper.solver.Hint;
+import com.minesweeper.solver.HintService;
+import com.minesweeper.solver.ProbabilityEngine;
+import com.minesweeper.solver.TranspositionCache;
+
+/**
+ * Measures what a shared TranspositionCache saves when the same games are simulated repeatedly.
+ * Each game is played by following hints, so the ProbabilityEngine runs at every guess. Games are
+ * played with a tiny cache private to each game, then with one large cache shared by every game.
+ * Not a unit test; run it from the IDE or with {@code java -cp target/classes:target/test-classes}.
+ */
+public class TranspositionBenchmark {
+
+    private static final int GAMES = 400;
+    private static final int REPEATS = 3;
+
+    public static void main(String[] args) {
+        run("Intermediate", 16, 40);
+        run("Expert", 22, 99);
+    }
+
+    private static void run(String name, int size, int mineCount) {
+        play(size, mineCount, null); // Warm-up
+        long privateNanos = play(size, mineCount, null);
+        TranspositionCache shared = new TranspositionCache(1 << 16);
+        long sharedNanos = play(size, mineCount, shared);
+        System.out.printf("%-12s %dx%d %d mines, %d games x %d: private cache %7.1f ms, shared cache %7.1f ms "
+                        + "(%.2fx), hit rate %.1f%%, %,d components cached%n",
+                name, size, size, mineCount, GAMES, REPEATS, privateNanos / 1e6, sharedNanos / 1e6,
+                (double) privateNanos / sharedNanos, shared.hitRate() * 100, shared.size());
+    }
+
+    /**
+     * Plays the same seeded games {@code REPEATS} times.
+     *
+     * @param shared The cache every game shares, or null to give each game a one-entry cache.
+     */
+    private static long play(int size, int mineCount, TranspositionCache shared) {
+        long start = System.nanoTime();
+        for (int repeat = 0; repeat < REPEATS; repeat++) {
+            for (long seed = 0; seed < GAMES; seed++) {
+                Grid grid = new Grid(size);
+                grid.initialize(new SeededMinePlacer(seed), mineCount);
+                ProbabilityEngine engine = new ProbabilityEngine(shared != null ? shared : new TranspositionCache(1));
+                HintService service = new HintService(grid, engine);
+                while (grid.getHiddenSafeCellCount() > 0) {
+                    Hint hint = service.hint();
+                    if (grid.isMine(hint.index())) {
+                        break;
+                    }
+                    grid.revealCell(hint.index());
+                    service.update();
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
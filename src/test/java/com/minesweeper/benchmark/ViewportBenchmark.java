@@ -0,0 +1,80 @@
+package com.minesweeper.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.io.console.ConsoleOutputHandler;
+import com.minesweeper.io.console.ViewportOutputHandler;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Measures grid redraws per second for {@link ViewportOutputHandler} with its default window, against
+ * the whole-board frame of {@link ConsoleOutputHandler}, as the board grows. Each viewport frame pans
+ * by one column, so the window keeps moving. Output goes to /dev/null through a stream set up like
+ * {@code System.out}. Not a unit test; run it from the IDE or with
+ * {@code java -cp target/classes:target/test-classes}.
+ */
+public class ViewportBenchmark {
+
+    private static final long MIN_NANOS = 1_000_000_000L;
+
+    public static void main(String[] args) throws FileNotFoundException {
+        PrintStream console = System.out;
+        OutputStream sink = new File("/dev/null").exists() ? new FileOutputStream("/dev/null")
+                : OutputStream.nullOutputStream();
+        PrintStream target = new PrintStream(new BufferedOutputStream(sink, 128), true);
+        System.setOut(target);
+        run(100, true); // Warm up both renderers before anything is reported
+        System.setOut(console);
+        for (int size : new int[] {100, 500, 1000, 5000}) {
+            System.setOut(target);
+            String line = run(size, size <= 1000);
+            System.setOut(console);
+            System.out.println(line);
+        }
+    }
+
+    private static String run(int size, boolean measureWholeBoard) {
+        Grid grid = new Grid(size);
+        grid.initialize(new SeededMinePlacer(size), size * size / 6);
+        for (int index = 0; index < grid.getCellCount(); index += 2) {
+            if (!grid.isMine(index)) {
+                grid.revealCell(index);
+            }
+        }
+        ConsoleOutputHandler whole = new ConsoleOutputHandler();
+        ViewportOutputHandler viewport = new ViewportOutputHandler();
+        viewport.displayGrid(grid);
+        double wholeRate = measureWholeBoard ? framesPerSecond(() -> whole.displayGrid(grid)) : Double.NaN;
+        int lastLeft = size - ViewportOutputHandler.DEFAULT_COLUMNS;
+        int[] step = {1};
+        double viewportRate = framesPerSecond(() -> {
+            viewport.pan(0, step[0]);
+            if (viewport.getFirstVisibleColumn() == 0 || viewport.getFirstVisibleColumn() == lastLeft) {
+                step[0] = -step[0]; // Sweep back and forth across the board
+            }
+        });
+        return String.format("%4dx%-4d whole board %,10.1f frames/s, viewport %,10.1f frames/s",
+                size, size, wholeRate, viewportRate);
+    }
+
+    private static double framesPerSecond(Runnable frame) {
+        for (int i = 0; i < 3; i++) {
+            frame.run();
+        }
+        long frames = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            frame.run();
+            frames++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MIN_NANOS);
+        return frames * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,108 @@
+package com.minesweeper.dataset;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Unit tests for the BoardDatasetWriter class.
+ */
+class BoardDatasetWriterTest {
+
+    private static final BoardDataset DATASET = new BoardDataset(9, 10, 1234L);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write_shouldStoreEveryBoardInOrder() throws IOException {
+        Path file = tempDir.resolve("boards.bin");
+        BoardDatasetWriter.Report report = new BoardDatasetWriter(DATASET, SeededMinePlacer::new, 3)
+                .write(file, 100, progress -> { });
+
+        assertEquals(100, report.boardsWritten());
+        assertEquals(BoardDataset.HEADER_BYTES + 100L * DATASET.recordBytes(), Files.size(file));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(DATASET, BoardDataset.readHeader(channel));
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        for (int board = 0; board < 100; board++) {
+            ByteBuffer record = ByteBuffer.wrap(bytes, BoardDataset.HEADER_BYTES + board * DATASET.recordBytes(),
+                    DATASET.recordBytes()).slice();
+            Grid expected = new Grid(DATASET.gridSize());
+            new SeededMinePlacer(SeededMinePlacer.seedForBoard(DATASET.baseSeed(), board))
+                    .placeMines(expected, DATASET.mineCount());
+            int mines = 0;
+            for (int index = 0; index < expected.getCellCount(); index++) {
+                assertEquals(expected.isMine(index), BoardDataset.isMine(record, index),
+                        "Board " + board + " differs at cell " + index);
+                mines += BoardDataset.isMine(record, index) ? 1 : 0;
+            }
+            assertEquals(DATASET.mineCount(), mines);
+        }
+    }
+
+    @Test
+    void write_shouldResumeInterruptedRunWithIdenticalOutput() throws IOException {
+        Path complete = tempDir.resolve("complete.bin");
+        Path resumed = tempDir.resolve("resumed.bin");
+        BoardDatasetWriter writer = new BoardDatasetWriter(DATASET, SeededMinePlacer::new, 2);
+        writer.write(complete, 60, progress -> { });
+
+        writer.write(resumed, 25, progress -> { });
+        // Simulate a crash in the middle of a record
+        try (FileChannel channel = FileChannel.open(resumed, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+        }
+        BoardDatasetWriter.Report report = writer.write(resumed, 60, progress -> { });
+
+        assertEquals(25, report.resumedFrom());
+        assertEquals(35, report.boardsWritten());
+        assertArrayEquals(Files.readAllBytes(complete), Files.readAllBytes(resumed));
+    }
+
+    @Test
+    void write_withCompleteFile_writesNothing() throws IOException {
+        Path file = tempDir.resolve("boards.bin");
+        BoardDatasetWriter writer = new BoardDatasetWriter(DATASET, SeededMinePlacer::new, 1);
+        writer.write(file, 10, progress -> { });
+
+        BoardDatasetWriter.Report report = writer.write(file, 5, progress -> { });
+
+        assertEquals(0, report.boardsWritten());
+        assertEquals(10, report.totalBoards());
+    }
+
+    @Test
+    void write_withDifferentDatasetInFile_throwsException() throws IOException {
+        Path file = tempDir.resolve("boards.bin");
+        new BoardDatasetWriter(DATASET, SeededMinePlacer::new, 1).write(file, 5, progress -> { });
+
+        BoardDatasetWriter other = new BoardDatasetWriter(new BoardDataset(9, 11, 1234L), SeededMinePlacer::new, 1);
+        IOException e = assertThrows(IOException.class, () -> other.write(file, 10, progress -> { }));
+        assertTrue(e.getMessage().contains("different dataset"));
+    }
+
+    @Test
+    void constructor_withInvalidSettings_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoardDatasetWriter(new BoardDataset(0, 0, 1L), SeededMinePlacer::new, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoardDatasetWriter(new BoardDataset(3, 10, 1L), SeededMinePlacer::new, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoardDatasetWriter(DATASET, SeededMinePlacer::new, 0));
+    }
+}
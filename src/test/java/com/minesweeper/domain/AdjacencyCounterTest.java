@@ -0,0 +1,76 @@
+package com.minesweeper.domain;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for the AdjacencyCounter class.
+ */
+class AdjacencyCounterTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 17, 640})
+    void countParallel_MatchesSerialPass(int size) {
+        byte[] serial = randomMines(size, 0.2, size);
+        byte[] parallel = serial.clone();
+
+        AdjacencyCounter.countSerial(serial, size);
+        AdjacencyCounter.countParallel(parallel, size);
+
+        assertArrayEquals(serial, parallel);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 63, 64, 65, 300})
+    void countRows_MatchesScalarPass(int size) {
+        // Exercises the vectorized pass when the build and JVM enable it, including ragged row tails
+        byte[] scalar = randomMines(size, 0.4, 31L * size);
+        byte[] selected = scalar.clone();
+
+        AdjacencyCounter.countRowsScalar(scalar, size, 0, size);
+        AdjacencyCounter.countRows(selected, size, 0, size);
+
+        assertArrayEquals(scalar, selected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5, 31})
+    void countSerial_MatchesNeighborProbing(int size) {
+        Grid grid = new Grid(size);
+        Random random = new Random(size);
+        grid.initialize((g, count) -> {
+            for (int index = 0; index < g.getCellCount(); index++) {
+                if (random.nextDouble() < 0.3) {
+                    g.getCell(new Coordinates(g.rowOf(index), g.columnOf(index))).placeMine();
+                }
+            }
+        }, 0);
+
+        int[] neighbors = new int[Grid.MAX_NEIGHBORS];
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            int expected = 0;
+            if (!grid.isMine(index)) {
+                int neighborCount = grid.getNeighbors(index, neighbors);
+                for (int i = 0; i < neighborCount; i++) {
+                    expected += grid.isMine(neighbors[i]) ? 1 : 0;
+                }
+            }
+            assertEquals(expected, grid.getAdjacentMineCount(index), "Count differs at index " + index);
+        }
+    }
+
+    private static byte[] randomMines(int size, double density, long seed) {
+        Random random = new Random(seed);
+        byte[] cells = new byte[size * size];
+        for (int i = 0; i < cells.length; i++) {
+            if (random.nextDouble() < density) {
+                cells[i] = Grid.MINE_BIT;
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,102 @@
+package com.minesweeper.domain;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Unit tests for the BoardSummary class.
+ */
+class BoardSummaryTest {
+
+    @Test
+    void count_afterEachMove_shouldMatchCellByCellCount() {
+        Random random = new Random(1);
+        for (int size : new int[] {1, 7, 16, 33}) {
+            Grid grid = new Grid(size);
+            grid.initialize(new SeededMinePlacer(size), size * size / 7);
+            BoardSummary summary = new BoardSummary(grid);
+            for (int move = 0; move < 3 * size; move++) {
+                int index = random.nextInt(grid.getCellCount());
+                if (!grid.isMine(index)) {
+                    grid.revealCell(index);
+                    summary.update();
+                }
+                assertRandomRectanglesMatch(grid, summary, random);
+            }
+            grid.revealAllMines(); // Not in the reveal log: found by the hash check
+            summary.update();
+            assertRandomRectanglesMatch(grid, summary, random);
+            assertEquals(grid.getMineCount(), summary.total().knownMines());
+        }
+    }
+
+    @Test
+    void constructor_onPlayedGrid_shouldCountExistingReveals() {
+        Grid grid = new Grid(10);
+        grid.initialize((g, count) -> g.placeMine(55), 1);
+        grid.revealCell(0);
+
+        BoardSummary summary = new BoardSummary(grid);
+
+        assertEquals(new BoardSummary.Counts(1, 99, 0), summary.total());
+        assertEquals(new BoardSummary.Counts(1, 3, 0), summary.count(5, 4, 7, 6));
+    }
+
+    @Test
+    void update_withoutNewReveal_shouldNotCountTwice() {
+        Grid grid = new Grid(6);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        grid.revealCell(35);
+        BoardSummary summary = new BoardSummary(grid);
+
+        summary.update();
+        summary.update();
+
+        assertEquals(35, summary.total().revealed());
+        assertEquals(1.0 * 35 / 36, summary.total().revealedFraction());
+    }
+
+    @Test
+    void count_withEmptyOrOutsideRectangle_shouldThrow() {
+        Grid grid = new Grid(4);
+        grid.initialize((g, count) -> { }, 0);
+        BoardSummary summary = new BoardSummary(grid);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> summary.count(0, 0, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> summary.count(-1, 0, 2, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> summary.count(0, 0, 4, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> summary.count(3, 0, 2, 4));
+    }
+
+    private static void assertRandomRectanglesMatch(Grid grid, BoardSummary summary, Random random) {
+        int size = grid.getSize();
+        for (int query = 0; query < 20; query++) {
+            int rowStart = random.nextInt(size);
+            int columnStart = random.nextInt(size);
+            int rowEnd = rowStart + 1 + random.nextInt(size - rowStart);
+            int columnEnd = columnStart + 1 + random.nextInt(size - columnStart);
+            int revealed = 0;
+            int knownMines = 0;
+            for (int row = rowStart; row < rowEnd; row++) {
+                for (int column = columnStart; column < columnEnd; column++) {
+                    int index = grid.indexOf(row, column);
+                    if (grid.isRevealed(index)) {
+                        if (grid.isMine(index)) {
+                            knownMines++;
+                        } else {
+                            revealed++;
+                        }
+                    }
+                }
+            }
+            int area = (rowEnd - rowStart) * (columnEnd - columnStart);
+            assertEquals(new BoardSummary.Counts(area - revealed - knownMines, revealed, knownMines),
+                    summary.count(rowStart, columnStart, rowEnd, columnEnd));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.minesweeper.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,4 +54,18 @@ class CellTest {
         cell.setAdjacentMineCount(5);
         assertEquals(5, cell.getAdjacentMineCount(), "Adjacent mine count should be updated to 5");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void setAdjacentMineCount_shouldRejectOutOfRangeValues() {
+        assertThrows(IllegalArgumentException.class, () -> cell.setAdjacentMineCount(-1));
+        assertThrows(IllegalArgumentException.class, () -> cell.setAdjacentMineCount(9));
+    }
+
+    @Test
+    void stateFlags_shouldBeIndependent() {
+        cell.setAdjacentMineCount(8);
+        cell.reveal();
+        assertFalse(cell.isMine(), "Revealing and counting should not set the mine flag");
+        assertEquals(8, cell.getAdjacentMineCount(), "Flags should not disturb the adjacent mine count");
+    }
+}
@@ -1,16 +1,22 @@
 package com.minesweeper.domain;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.minesweeper.handler.MinePlacer;
+import com.minesweeper.placement.SeededMinePlacer;
 
 /**
  * Unit tests for the Grid class.
@@ -128,6 +134,60 @@ class GridTest {
         }
     }
 
+    @Test
+    void revealCell_ReturnsAndRecordsRevealedCells() {
+        grid.getCell(new Coordinates(0, 2)).placeMine();
+        grid.initialize((g, count) -> { }, 0);
+
+        int revealed = grid.revealCell(grid.indexOf(4, 0));
+
+        assertEquals(GRID_SIZE * GRID_SIZE - 1, revealed, "Cascade reaches every cell but the mine");
+        assertEquals(revealed, grid.getLastRevealCount());
+        assertEquals(grid.indexOf(4, 0), grid.getLastRevealedCell(0));
+        for (int i = 0; i < revealed; i++) {
+            assertTrue(grid.isRevealed(grid.getLastRevealedCell(i)));
+        }
+        assertEquals(0, grid.revealCell(new Coordinates(0, 1)), "Revealing twice reveals nothing");
+        assertEquals(0, grid.getLastRevealCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.getLastRevealedCell(0));
+    }
+
+    @Test
+    void getPositionHash_AfterRevealsMatchesFreshHash() {
+        Grid seeded = new Grid(12);
+        seeded.initialize(new SeededMinePlacer(3L), 20);
+        long empty = seeded.getPositionHash();
+        assertEquals(Zobrist.hashOf(seeded), empty);
+
+        for (int index = 0; index < seeded.getCellCount(); index += 7) {
+            if (!seeded.isMine(index)) {
+                seeded.revealCell(index);
+                assertEquals(Zobrist.hashOf(seeded), seeded.getPositionHash());
+            }
+        }
+        seeded.revealAllMines();
+        assertEquals(Zobrist.hashOf(seeded), seeded.getPositionHash());
+        assertNotEquals(empty, seeded.getPositionHash());
+    }
+
+    @Test
+    void getPositionHash_DependsOnRevealedCellsNotOrder() {
+        Grid first = new Grid(GRID_SIZE);
+        Grid second = new Grid(GRID_SIZE);
+        for (Grid g : new Grid[] {first, second}) {
+            g.getCell(new Coordinates(2, 2)).placeMine();
+            g.initialize((placed, count) -> { }, 0);
+        }
+
+        first.revealCell(new Coordinates(1, 1));
+        first.revealCell(new Coordinates(3, 3));
+        second.revealCell(new Coordinates(3, 3));
+        assertNotEquals(first.getPositionHash(), second.getPositionHash());
+        second.revealCell(new Coordinates(1, 1));
+
+        assertEquals(first.getPositionHash(), second.getPositionHash());
+    }
+
     @Test
     void areAllNonMinesRevealed_WithAllNonMinesRevealed_ReturnsTrue() {
         // Reveal all non-mine cells
@@ -158,4 +218,285 @@ class GridTest {
         assertTrue(grid.getCell(new Coordinates(0, 0)).isRevealed());
         assertTrue(grid.getCell(new Coordinates(1, 1)).isRevealed());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getCell_ReturnsViewBackedByGrid() {
+        Coordinates coordinates = new Coordinates(3, 4);
+        grid.getCell(coordinates).placeMine();
+        grid.getCell(coordinates).reveal();
+
+        Cell view = grid.getCell(coordinates);
+        assertTrue(view.isMine());
+        assertTrue(view.isRevealed());
+        assertFalse(grid.getCell(new Coordinates(4, 3)).isMine(), "Writes should only affect the addressed cell");
+    }
+
+    @Test
+    void revealCell_WithLargeEmptyBoard_RevealsEverythingWithoutStackOverflow() {
+        Grid largeGrid = new Grid(2000); // 4 million connected zero cells
+        largeGrid.initialize((g, count) -> { }, 0);
+
+        largeGrid.revealCell(new Coordinates(1000, 1000));
+
+        assertTrue(largeGrid.areAllNonMinesRevealed());
+    }
+
+    @Test
+    void revealCell_MatchesRecursiveCascadeOnRandomBoards() {
+        Random random = new Random(42L);
+        for (int trial = 0; trial < 50; trial++) {
+            int size = 1 + random.nextInt(20);
+            int mineCount = random.nextInt(size * size / 4 + 1);
+            MinePlacer placer = (g, count) -> {
+                for (int i = 0; i < count; i++) {
+                    g.getCell(new Coordinates(random.nextInt(size), random.nextInt(size))).placeMine();
+                }
+            };
+            Grid actual = new Grid(size);
+            actual.initialize(placer, mineCount);
+            Grid expected = copyOf(actual);
+
+            Coordinates start = new Coordinates(random.nextInt(size), random.nextInt(size));
+            actual.revealCell(start);
+            revealRecursively(expected, start);
+
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    Coordinates coordinates = new Coordinates(r, c);
+                    assertEquals(expected.getCell(coordinates).isRevealed(), actual.getCell(coordinates).isRevealed(),
+                            "Revealed state differs at " + coordinates + " in trial " + trial);
+                }
+            }
+        }
+    }
+
+    @Test
+    void areAllNonMinesRevealed_MatchesFullScanOnRandomBoards() {
+        Random random = new Random(7L);
+        for (int trial = 0; trial < 50; trial++) {
+            int size = 1 + random.nextInt(12);
+            int mineCount = random.nextInt(size * size / 3 + 1);
+            Grid randomGrid = new Grid(size);
+            randomGrid.initialize((g, count) -> {
+                for (int i = 0; i < count; i++) {
+                    g.getCell(new Coordinates(random.nextInt(size), random.nextInt(size))).placeMine();
+                }
+            }, mineCount);
+
+            assertEquals(fullScanAllNonMinesRevealed(randomGrid), randomGrid.areAllNonMinesRevealed());
+            while (!fullScanAllNonMinesRevealed(randomGrid)) {
+                Coordinates move = new Coordinates(random.nextInt(size), random.nextInt(size));
+                if (!randomGrid.getCell(move).isMine()) {
+                    randomGrid.revealCell(move);
+                }
+                assertEquals(fullScanAllNonMinesRevealed(randomGrid), randomGrid.areAllNonMinesRevealed(),
+                        "Counter disagrees with full scan in trial " + trial + " after revealing " + move);
+            }
+            assertEquals(0, randomGrid.getHiddenSafeCellCount());
+        }
+    }
+
+    @Test
+    void revealAllMines_RevealsOnlyMineCells() {
+        grid.getCell(new Coordinates(2, 3)).placeMine();
+        grid.getCell(new Coordinates(2, 3)).placeMine(); // Placing twice must not duplicate the mine
+
+        grid.revealAllMines();
+
+        assertEquals(1, grid.getMineCount());
+        assertEquals(GRID_SIZE * GRID_SIZE - 1, grid.getHiddenSafeCellCount());
+        assertTrue(grid.getCell(new Coordinates(2, 3)).isRevealed());
+        assertFalse(grid.getCell(new Coordinates(0, 0)).isRevealed());
+    }
+
+    @Test
+    void moveMine_MatchesBoardInitializedWithMovedLayout() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 50; trial++) {
+            Grid moved = new Grid(8);
+            moved.initialize(new SeededMinePlacer(trial), 12);
+            moved.revealCell(random.nextInt(moved.getCellCount()));
+            for (int move = 0; move < 5; move++) {
+                int from = random.nextInt(moved.getCellCount());
+                int to = random.nextInt(moved.getCellCount());
+                if (moved.isMine(from) && !moved.isRevealed(from) && !moved.isMine(to) && !moved.isRevealed(to)) {
+                    moved.moveMine(from, to);
+                }
+            }
+            Grid expected = copyOf(moved);
+            for (int index = 0; index < moved.getCellCount(); index++) {
+                if (moved.isRevealed(index)) {
+                    expected.markRevealed(index);
+                }
+            }
+
+            assertEquals(12, moved.getMineCount());
+            assertEquals(expected.getHiddenSafeCellCount(), moved.getHiddenSafeCellCount());
+            assertEquals(expected.getPositionHash(), moved.getPositionHash());
+            assertEquals(expected.getThreeBv(), moved.getThreeBv());
+            for (int index = 0; index < moved.getCellCount(); index++) {
+                assertEquals(expected.getAdjacentMineCount(index), moved.getAdjacentMineCount(index),
+                        "Count differs at " + index + " in trial " + trial);
+            }
+            moved.revealAllMines();
+            for (int index = 0; index < moved.getCellCount(); index++) {
+                assertEquals(moved.isMine(index) || expected.isRevealed(index), moved.isRevealed(index));
+            }
+        }
+    }
+
+    @Test
+    void moveMine_RejectsRevealedOrMismatchedCells() {
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        grid.revealCell(new Coordinates(GRID_SIZE - 1, GRID_SIZE - 1));
+
+        assertThrows(IllegalArgumentException.class, () -> grid.moveMine(1, 2));
+        assertThrows(IllegalArgumentException.class, () -> grid.moveMine(0, grid.getCellCount() - 1));
+        grid.placeMine(1);
+        assertThrows(IllegalArgumentException.class, () -> grid.moveMine(0, 1));
+    }
+
+    @Test
+    void copyFrom_ShouldCopyStateAndLastReveal() {
+        grid.initialize(new SeededMinePlacer(3L), 8);
+        int safe = 0;
+        while (grid.isMine(safe)) {
+            safe++;
+        }
+        grid.revealCell(safe);
+        Grid copy = new Grid(GRID_SIZE);
+
+        copy.copyFrom(grid);
+        grid.revealAllMines(); // Later changes to the source do not reach the copy
+
+        assertEquals(8, copy.getMineCount());
+        assertEquals(grid.getHiddenSafeCellCount(), copy.getHiddenSafeCellCount());
+        assertEquals(grid.getLastRevealCount(), copy.getLastRevealCount());
+        assertEquals(safe, copy.getLastRevealedCell(0));
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            assertEquals(grid.isMine(index), copy.isMine(index));
+            assertEquals(grid.getAdjacentMineCount(index), copy.getAdjacentMineCount(index));
+            assertEquals(grid.isRevealed(index) && !grid.isMine(index), copy.isRevealed(index));
+        }
+        copy.revealAllMines();
+        assertEquals(grid.getPositionHash(), copy.getPositionHash());
+        assertThrows(IllegalArgumentException.class, () -> new Grid(GRID_SIZE + 1).copyFrom(grid));
+    }
+
+    @Test
+    void copyFrom_WithMergedLog_ShouldListEveryRevealNewestFirst() {
+        Grid source = new Grid(5);
+        source.initialize((g, count) -> {
+            g.placeMine(2);
+            g.placeMine(10);
+        }, 2);
+        Grid copy = new Grid(5);
+        source.revealCell(0); // Cascades over the top-left corner
+        copy.copyFrom(source);
+        int firstReveal = copy.getLastRevealCount();
+
+        source.revealCell(7); // A single cell next to the mine
+        copy.copyFrom(source, true);
+
+        assertEquals(firstReveal + 1, copy.getLastRevealCount());
+        assertEquals(7, copy.getLastRevealedCell(0));
+        assertEquals(0, copy.getLastRevealedCell(1));
+        copy.copyFrom(source);
+        assertEquals(1, copy.getLastRevealCount());
+    }
+
+    private static boolean fullScanAllNonMinesRevealed(Grid grid) {
+        int size = grid.getSize();
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                Cell cell = grid.getCell(new Coordinates(r, c));
+                if (!cell.isMine() && !cell.isRevealed()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Test
+    void getNeighbors_MatchesAdjacentCoordinatesForEveryCell() {
+        int[] buffer = new int[Grid.MAX_NEIGHBORS];
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            Coordinates center = new Coordinates(grid.rowOf(index), grid.columnOf(index));
+            List<Coordinates> expected = grid.getAdjacentCoordinates(center);
+
+            int count = grid.getNeighbors(index, buffer);
+
+            assertEquals(expected.size(), count, "Neighbor count differs at " + center);
+            for (int i = 0; i < count; i++) {
+                assertTrue(expected.contains(new Coordinates(grid.rowOf(buffer[i]), grid.columnOf(buffer[i]))));
+            }
+        }
+    }
+
+    @Test
+    void getNeighbors_OnSingleCellGrid_ReturnsNoNeighbors() {
+        assertEquals(0, new Grid(1).getNeighbors(0, new int[Grid.MAX_NEIGHBORS]));
+    }
+
+    @Test
+    void getNeighbors_AllocatesNothingPerQuery() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean, "Allocation counters unavailable");
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported(), "Allocation counters unsupported");
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+        Grid largeGrid = new Grid(100);
+        int[] buffer = new int[Grid.MAX_NEIGHBORS];
+        long threadId = Thread.currentThread().getId();
+        long checksum = queryAllNeighbors(largeGrid, buffer); // Warm up
+
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int round = 0; round < 100; round++) {
+            checksum += queryAllNeighbors(largeGrid, buffer);
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(checksum > 0);
+        // One million queries; allow a little slack for the measurement call itself
+        assertTrue(allocated < 1024, "Expected no allocation per neighbor query, but saw " + allocated + " bytes");
+    }
+
+    private static long queryAllNeighbors(Grid grid, int[] buffer) {
+        long checksum = 0;
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            checksum += grid.getNeighbors(index, buffer);
+        }
+        return checksum;
+    }
+
+    // Reference implementation of the original recursive cascade
+    private static void revealRecursively(Grid grid, Coordinates coordinates) {
+        Cell cell = grid.getCell(coordinates);
+        if (cell.isRevealed()) {
+            return;
+        }
+        cell.reveal();
+        if (cell.getAdjacentMineCount() == 0) {
+            for (Coordinates neighbor : grid.getAdjacentCoordinates(coordinates)) {
+                revealRecursively(grid, neighbor);
+            }
+        }
+    }
+
+    private static Grid copyOf(Grid source) {
+        int size = source.getSize();
+        Grid copy = new Grid(size);
+        copy.initialize((g, count) -> {
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (source.getCell(new Coordinates(r, c)).isMine()) {
+                        g.getCell(new Coordinates(r, c)).placeMine();
+                    }
+                }
+            }
+        }, 0);
+        return copy;
+    }
+}
@@ -0,0 +1,117 @@
+package com.minesweeper.domain;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for the ThreeBvScorer class.
+ */
+class ThreeBvScorerTest {
+
+    @Test
+    void score_withNoMines_isOneOpening() {
+        Grid grid = randomGrid(6, 0.0, 1L);
+
+        assertEquals(1, ThreeBvScorer.score(grid));
+    }
+
+    @Test
+    void score_withOnlyMines_isZero() {
+        Grid grid = randomGrid(4, 1.0, 1L);
+
+        assertEquals(0, ThreeBvScorer.score(grid));
+    }
+
+    @Test
+    void score_withNoZeroCells_countsEveryNumber() {
+        // Mines on every other column leave only numbered cells, each needing its own click
+        Grid grid = new Grid(4);
+        grid.initialize((g, count) -> {
+            for (int row = 0; row < 4; row++) {
+                g.placeMine(g.indexOf(row, 0));
+                g.placeMine(g.indexOf(row, 2));
+            }
+        }, 8);
+
+        assertEquals(8, ThreeBvScorer.score(grid));
+    }
+
+    @Test
+    void score_withNumbersBorderingOneOpening_isOne() {
+        Grid grid = new Grid(3);
+        grid.initialize((g, count) -> g.placeMine(g.indexOf(0, 2)), 1);
+
+        // The five zeros form one opening, and it reveals all three numbers
+        assertEquals(1, ThreeBvScorer.score(grid));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 9, 16, 30, 101})
+    void scoreSerial_matchesClickCounting(int size) {
+        for (long seed = 0; seed < 10; seed++) {
+            Grid grid = randomGrid(size, 0.15, seed * 1000 + size);
+
+            assertEquals(countClicks(randomGrid(size, 0.15, seed * 1000 + size)), ThreeBvScorer.score(grid),
+                    "Seed " + seed);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7})
+    void scoreParallel_matchesSerialPass(int rowsPerBand) {
+        for (long seed = 0; seed < 10; seed++) {
+            Grid grid = randomGrid(64, 0.12, seed);
+            byte[] cells = grid.packedCells();
+
+            assertEquals(ThreeBvScorer.scoreSerial(cells, 64), ThreeBvScorer.scoreParallel(cells, 64, rowsPerBand),
+                    "Seed " + seed);
+        }
+    }
+
+    @Test
+    void getThreeBv_isCachedUntilMinesChange() {
+        Grid grid = randomGrid(9, 0.0, 1L);
+        assertEquals(1, grid.getThreeBv());
+
+        grid.getCell(new Coordinates(4, 4)).placeMine();
+
+        assertEquals(ThreeBvScorer.score(grid), grid.getThreeBv());
+    }
+
+    private static Grid randomGrid(int size, double density, long seed) {
+        Random random = new Random(seed);
+        Grid grid = new Grid(size);
+        grid.initialize((g, count) -> {
+            for (int index = 0; index < g.getCellCount(); index++) {
+                if (random.nextDouble() < density) {
+                    g.placeMine(index);
+                }
+            }
+        }, 0);
+        return grid;
+    }
+
+    /**
+     * Clears a board the 3BV way: click every opening first, then every number still hidden.
+     */
+    private static int countClicks(Grid grid) {
+        int clicks = 0;
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (!grid.isRevealed(index) && !grid.isMine(index) && grid.getAdjacentMineCount(index) == 0) {
+                grid.revealCell(index);
+                clicks++;
+            }
+        }
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (!grid.isRevealed(index) && !grid.isMine(index)) {
+                grid.revealCell(index);
+                clicks++;
+            }
+        }
+        return clicks;
+    }
+}
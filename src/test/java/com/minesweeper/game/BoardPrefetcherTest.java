@@ -0,0 +1,124 @@
+package com.minesweeper.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.RandomMinePlacer;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Unit tests for the BoardPrefetcher class.
+ */
+class BoardPrefetcherTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    private BoardPrefetcher prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        prefetcher = new BoardPrefetcher(new RandomMinePlacer(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        prefetcher.close();
+    }
+
+    @Test
+    void take_withEmptyPool_generatesSynchronously() {
+        GameConfiguration config = new GameConfiguration(6, 5);
+        BoardPrefetcher.Board board = prefetcher.take(config);
+        Grid grid = board.grid();
+
+        assertEquals(config, board.config(), "A board generated on request keeps the requested seed");
+        assertEquals(6, grid.getSize());
+        assertEquals(5, grid.getMineCount());
+        assertEquals(1, prefetcher.getMetrics().misses());
+        assertEquals(0, prefetcher.getMetrics().hits());
+    }
+
+    @Test
+    void take_afterRefill_servesPooledBoard() throws InterruptedException {
+        GameConfiguration config = new GameConfiguration(8, 10);
+        Grid first = prefetcher.take(config).grid();
+        awaitBoardsGenerated(3); // The synchronous board plus a full pool of two
+
+        BoardPrefetcher.Board second = prefetcher.take(new GameConfiguration(8, 10)); // Same shape, different seed
+
+        assertNotSame(first, second.grid());
+        assertEquals(10, second.grid().getMineCount());
+        assertEquals(8, second.config().gridSize());
+        assertEquals(10, second.config().mineCount());
+        assertEquals(1, prefetcher.getMetrics().hits());
+        assertEquals(0.5, prefetcher.getMetrics().hitRate());
+    }
+
+    @Test
+    void take_withDifferentConfiguration_discardsPooledBoards() throws InterruptedException {
+        prefetcher.take(new GameConfiguration(8, 10));
+        awaitBoardsGenerated(3);
+
+        Grid grid = prefetcher.take(new GameConfiguration(5, 3)).grid();
+
+        assertEquals(5, grid.getSize());
+        assertEquals(3, grid.getMineCount());
+        assertEquals(2, prefetcher.getMetrics().misses());
+    }
+
+    @Test
+    void prefetch_fillsPoolBeforeFirstTake() throws InterruptedException {
+        GameConfiguration config = new GameConfiguration(7, 4);
+        prefetcher.prefetch(config);
+        awaitBoardsGenerated(2);
+
+        prefetcher.take(config);
+
+        assertEquals(1, prefetcher.getMetrics().hits());
+        assertTrue(prefetcher.getMetrics().averageGenerationMillis() >= 0);
+    }
+
+    @Test
+    void take_withSeededPlacer_shouldReturnConfigurationThatRegeneratesBoard() throws InterruptedException {
+        try (BoardPrefetcher seeded = new BoardPrefetcher(new SeededMinePlacer(), 1)) {
+            GameConfiguration requested = new GameConfiguration(9, 10, 7L);
+            assertSameMines(SeededMinePlacer.generate(requested), seeded.take(requested).grid());
+            long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+            while (seeded.getMetrics().boardsGenerated() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+
+            BoardPrefetcher.Board pooled = seeded.take(requested);
+
+            assertEquals(1, seeded.getMetrics().hits());
+            assertSameMines(SeededMinePlacer.generate(pooled.config()), pooled.grid());
+        }
+    }
+
+    @Test
+    void constructor_withInvalidCapacity_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardPrefetcher(new RandomMinePlacer(), 0));
+    }
+
+    private static void assertSameMines(Grid expected, Grid actual) {
+        for (int index = 0; index < expected.getCellCount(); index++) {
+            assertEquals(expected.isMine(index), actual.isMine(index), "Cell " + index);
+        }
+    }
+
+    private void awaitBoardsGenerated(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (prefetcher.getMetrics().boardsGenerated() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, prefetcher.getMetrics().boardsGenerated(), "Pool was not refilled in time");
+    }
+}
@@ -3,6 +3,7 @@ package com.minesweeper.game;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,7 @@ import com.minesweeper.exception.InputCancelledException;
 import com.minesweeper.handler.InputHandler;
 import com.minesweeper.handler.MinePlacer;
 import com.minesweeper.handler.OutputHandler;
+import com.minesweeper.placement.SeededMinePlacer;
 
 /**
  * Unit tests for the MinesweeperGame orchestrator class.
@@ -71,6 +73,82 @@ class MinesweeperGameTest {
         assertEquals(testConfig.mineCount(), mockMinePlacer.mineCountPassedToPlaceMines);
     }
 
+    @Test
+    void run_withBoardPrefetcher_shouldTakeGridFromPool() {
+        mockInputHandler.setConfigToReturn(testConfig);
+        mockInputHandler.setMovesToReturn();
+        mockInputHandler.setPlayAgain(false);
+        try (BoardPrefetcher prefetcher = new BoardPrefetcher(mockMinePlacer, 1)) {
+            game = new MinesweeperGame(mockInputHandler, mockOutputHandler, mockMinePlacer, prefetcher);
+            game.run();
+            assertEquals(1, prefetcher.getMetrics().misses());
+        }
+        assertTrue(mockMinePlacer.placeMinesCalled);
+        assertEquals(testConfig.gridSize(), mockOutputHandler.lastGridDisplayed.getSize());
+        assertNull(mockOutputHandler.boardConfiguration, "The mock placer ignores seeds");
+    }
+
+    @Test
+    void run_withSeededPlacer_shouldPlayAndDisplayBoardOfConfiguredSeed() {
+        GameConfiguration config = new GameConfiguration(6, 5, 42L);
+        mockInputHandler.setConfigToReturn(config);
+        mockInputHandler.setMovesToReturn();
+        mockInputHandler.setPlayAgain(false);
+        game = new MinesweeperGame(mockInputHandler, mockOutputHandler, new SeededMinePlacer());
+        game.run();
+
+        assertEquals(config, mockOutputHandler.boardConfiguration);
+        assertSameMines(SeededMinePlacer.generate(config), mockOutputHandler.lastGridDisplayed);
+    }
+
+    @Test
+    void run_withSeededBoardPrefetcher_shouldDisplaySeedOfPooledBoard() {
+        mockInputHandler.setConfigToReturn(testConfig);
+        mockInputHandler.setMovesToReturn();
+        mockInputHandler.setPlayAgain(false);
+        SeededMinePlacer placer = new SeededMinePlacer();
+        try (BoardPrefetcher prefetcher = new BoardPrefetcher(placer, 1)) {
+            game = new MinesweeperGame(mockInputHandler, mockOutputHandler, placer, prefetcher);
+            game.run();
+        }
+
+        GameConfiguration shown = mockOutputHandler.boardConfiguration;
+        assertEquals(testConfig.gridSize(), shown.gridSize());
+        assertEquals(testConfig.mineCount(), shown.mineCount());
+        assertSameMines(SeededMinePlacer.generate(shown), mockOutputHandler.lastGridDisplayed);
+    }
+
+    @Test
+    void run_withPlacerStartingCell_shouldOpenBoardThereBeforeFirstMove() {
+        mockInputHandler.setConfigToReturn(new GameConfiguration(4, 1));
+        mockInputHandler.setMovesToReturn();
+        mockInputHandler.setPlayAgain(false);
+        MinePlacer startingPlacer = new MinePlacer() {
+            @Override
+            public void placeMines(Grid grid, int mineCount) {
+                grid.placeMine(15);
+            }
+
+            @Override
+            public int startingCell(Grid grid) {
+                return 0;
+            }
+        };
+        game = new MinesweeperGame(mockInputHandler, mockOutputHandler, startingPlacer);
+        game.run();
+
+        Grid shown = mockOutputHandler.lastGridDisplayed;
+        assertTrue(shown.isRevealed(0));
+        assertTrue(shown.isRevealed(10), "The opening cascades");
+        assertFalse(shown.isRevealed(15));
+    }
+
+    private static void assertSameMines(Grid expected, Grid actual) {
+        for (int index = 0; index < expected.getCellCount(); index++) {
+            assertEquals(expected.isMine(index), actual.isMine(index), "Cell " + index);
+        }
+    }
+
     // --- Tests for game loop ---
     @Test
     void run_shouldPlayGameUntilWin()  {
@@ -124,6 +202,54 @@ class MinesweeperGameTest {
     }
 
 
+    @Test
+    void run_withHintRequests_shouldDisplayHiddenSquaresAndLatency() {
+        GameConfiguration winConfig = new GameConfiguration(2, 1);
+        mockInputHandler.setConfigToReturn(winConfig);
+        mockMinePlacer.setMinesToPlace(new Coordinates(0, 0));
+        mockInputHandler.setMovesToReturn(new Coordinates(0, 1), new Coordinates(1, 0), new Coordinates(1, 1));
+        mockInputHandler.hintBeforeEachMove = true;
+        mockInputHandler.setPlayAgain(false);
+
+        game.run();
+
+        assertTrue(mockOutputHandler.displayWinCalled);
+        assertEquals(3, mockOutputHandler.hintCount);
+        assertFalse(mockOutputHandler.hintedRevealedSquare);
+        assertEquals(3, mockOutputHandler.hintCountReported);
+    }
+
+    @Test
+    void run_withoutHintRequests_shouldNotDisplayLatency() {
+        GameConfiguration winConfig = new GameConfiguration(2, 1);
+        mockInputHandler.setConfigToReturn(winConfig);
+        mockMinePlacer.setMinesToPlace(new Coordinates(0, 0));
+        mockInputHandler.setMovesToReturn(new Coordinates(0, 1), new Coordinates(1, 0), new Coordinates(1, 1));
+        mockInputHandler.setPlayAgain(false);
+
+        game.run();
+
+        assertEquals(0, mockOutputHandler.hintCount);
+        assertEquals(-1, mockOutputHandler.hintCountReported);
+    }
+
+    @Test
+    void run_withOpeningAwarePlacer_shouldPlaceMinesOnFirstMove() {
+        OpeningMinePlacer placer = new OpeningMinePlacer();
+        game = new MinesweeperGame(mockInputHandler, mockOutputHandler, placer);
+        mockInputHandler.setConfigToReturn(new GameConfiguration(3, 1));
+        mockInputHandler.setMovesToReturn(new Coordinates(2, 2));
+        mockInputHandler.setPlayAgain(false);
+
+        game.run();
+
+        assertEquals(8, placer.openingIndex);
+        assertEquals(1, placer.calls);
+        assertTrue(mockOutputHandler.displayWinCalled);
+        assertFalse(mockOutputHandler.displayMineHitCalled);
+    }
+
+
     // --- Mock Implementations ---
     private static class MockInputHandler implements InputHandler {
         boolean getGameConfigurationCalled = false;
@@ -133,6 +259,8 @@ class MinesweeperGameTest {
         Coordinates[] movesToReturn = {};
         int moveIndex = 0;
         boolean playAgain = false;
+        boolean hintBeforeEachMove = false;
+        Runnable hintListener = null;
         InputCancelledException cancelException = null;
 
         void setConfigToReturn(GameConfiguration config) {
@@ -163,9 +291,17 @@ class MinesweeperGameTest {
             if (moveIndex >= movesToReturn.length) {
                 throw new InputCancelledException("Simulated quit - no more moves");
             }
+            if (hintBeforeEachMove && hintListener != null) {
+                hintListener.run();
+            }
             return movesToReturn[moveIndex++];
         }
 
+        @Override
+        public void setHintListener(Runnable hintListener) {
+            this.hintListener = hintListener;
+        }
+
         @Override
         public boolean promptPlayAgain() {
             promptPlayAgainCalled = true;
@@ -186,12 +322,21 @@ class MinesweeperGameTest {
         boolean displayGoodbyeCalled = false;
         Grid lastGridDisplayed = null;
         int lastAdjCount = -1;
+        int hintCount = 0;
+        boolean hintedRevealedSquare = false;
+        long hintCountReported = -1;
+        GameConfiguration boardConfiguration = null;
 
         @Override
         public void displayWelcomeMessage() {
             displayWelcomeCalled = true;
         }
 
+        @Override
+        public void displayBoardConfiguration(GameConfiguration config) {
+            boardConfiguration = config;
+        }
+
         @Override
         public void displayGrid(Grid grid) {
             displayGridCalled = true;
@@ -227,6 +372,17 @@ class MinesweeperGameTest {
         @Override
         public void displayAlreadyRevealedMessage() { displayAlreadyRevealed = true; }
 
+        @Override
+        public void displayHint(Coordinates coordinates, double mineProbability) {
+            hintCount++;
+            hintedRevealedSquare |= lastGridDisplayed.getCell(coordinates).isRevealed();
+        }
+
+        @Override
+        public void displayHintLatency(long hintCount, double medianMillis, double p99Millis) {
+            hintCountReported = hintCount;
+        }
+
         @Override
         public void displayPromptPlayAgain() {
             displayPlayAgainCalled = true;
@@ -238,6 +394,31 @@ class MinesweeperGameTest {
         }
     }
 
+    /**
+     * Waits for the opening and puts the single mine in the corner farthest from it.
+     */
+    private static class OpeningMinePlacer implements MinePlacer {
+        int openingIndex = -1;
+        int calls = 0;
+
+        @Override
+        public void placeMines(Grid grid, int mineCount) {
+            throw new AssertionError("The opening should be passed");
+        }
+
+        @Override
+        public void placeMines(Grid grid, int mineCount, int openingIndex) {
+            this.openingIndex = openingIndex;
+            calls++;
+            grid.placeMine(grid.getCellCount() - 1 - openingIndex);
+        }
+
+        @Override
+        public boolean needsOpening() {
+            return true;
+        }
+    }
+
     private static class MockMinePlacer implements MinePlacer {
         boolean placeMinesCalled = false;
         Grid gridPassedToPlaceMines = null;
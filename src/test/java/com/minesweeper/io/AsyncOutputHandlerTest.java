@@ -0,0 +1,317 @@
+package com.minesweeper.io;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.handler.OutputHandler;
+
+/**
+ * Unit tests for the AsyncOutputHandler class.
+ */
+class AsyncOutputHandlerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final RecordingOutputHandler delegate = new RecordingOutputHandler();
+    private final AsyncOutputHandler handler = new AsyncOutputHandler(delegate);
+
+    @AfterEach
+    void tearDown() {
+        delegate.release();
+        handler.close();
+    }
+
+    @Test
+    void output_shouldBeWrittenInOrderOnRenderThread() {
+        Grid grid = gridWithMinesAt(12);
+        handler.displayWelcomeMessage();
+        handler.displayGrid(grid);
+        handler.displayPromptForMove();
+        handler.displayAdjacentMineCount(1);
+        handler.displayGrid(grid);
+        handler.displayHint(new Coordinates(1, 2), 0.0);
+        handler.displayWinMessage(); // Waits for everything before it
+
+        List<String> calls = delegate.calls();
+        List<String> messages = calls.stream().filter(call -> !call.startsWith("grid")).toList();
+        assertEquals(List.of("welcome", "prompt", "count 1", "hint 1,2", "win"), messages);
+        // The first frame may have been replaced by the second, but the latest is drawn in its place
+        assertEquals(List.of("count 1", "grid 0", "hint 1,2"), calls.subList(calls.size() - 4, calls.size() - 1));
+        assertTrue(delegate.threads().stream().allMatch(name -> name.equals("render")));
+        assertEquals(5, handler.getMetrics().messagesWritten());
+    }
+
+    @Test
+    void displayGrid_whileRendererIsBlocked_shouldReturnAndKeepOnlyLatestFrame() {
+        Grid grid = gridWithMinesAt(2, 10);
+        delegate.block();
+        handler.displayGrid(grid);
+        delegate.awaitBlocked(); // The render thread is stuck writing the first frame
+
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            grid.revealCell(0); // Reveals 0, 1, 5 and 6
+            handler.displayGrid(grid);
+            handler.displayAdjacentMineCount(0);
+            handler.displayGrid(grid);
+            grid.revealCell(7);
+            handler.displayGrid(grid);
+        });
+        delegate.release();
+        handler.displayMineHitMessage();
+
+        assertEquals(List.of("grid 0", "count 0", "grid 5", "mine"), delegate.calls());
+        assertEquals(4, handler.getMetrics().framesSubmitted());
+        assertEquals(2, handler.getMetrics().framesRendered());
+        assertEquals(0.5, handler.getMetrics().dropRate());
+    }
+
+    @Test
+    void displayGrid_shouldDrawSnapshotNotLaterChanges() {
+        Grid grid = gridWithMinesAt(0);
+        delegate.block();
+        handler.displayPromptForMove();
+        delegate.awaitBlocked();
+
+        grid.revealCell(24);
+        handler.displayGrid(grid);
+        grid.revealAllMines(); // After the frame was handed over
+        delegate.release();
+        handler.flush();
+
+        Grid drawn = delegate.lastGrid;
+        assertNotSame(grid, drawn);
+        assertEquals(grid.getCellCount() - 1, countRevealed(drawn));
+        assertFalse(drawn.isRevealed(0));
+    }
+
+    @Test
+    void displayGrid_afterDroppedFrames_shouldMergeRevealLogs() {
+        Grid grid = gridWithMinesAt(2, 10);
+        handler.displayGrid(grid);
+        handler.flush();
+        Grid firstDrawn = delegate.lastGrid;
+        delegate.block();
+        handler.displayPromptForMove();
+        delegate.awaitBlocked();
+
+        grid.revealCell(0); // Reveals 0, 1, 5 and 6
+        handler.displayGrid(grid);
+        grid.revealCell(7);
+        handler.displayGrid(grid); // Replaces the previous frame
+        delegate.release();
+        handler.flush();
+
+        Grid drawn = delegate.lastGrid;
+        assertSame(firstDrawn, drawn, "The same game keeps the same grid");
+        assertEquals(5, drawn.getLastRevealCount());
+        assertEquals(7, drawn.getLastRevealedCell(0));
+        assertEquals(grid.getPositionHash(), drawn.getPositionHash());
+    }
+
+    @Test
+    void displayGrid_withNewGrid_shouldHandOverNewGrid() {
+        handler.displayGrid(gridWithMinesAt(0));
+        handler.flush();
+        Grid first = delegate.lastGrid;
+
+        handler.displayGrid(gridWithMinesAt(0));
+        handler.flush();
+
+        assertNotSame(first, delegate.lastGrid);
+    }
+
+    @Test
+    void pan_shouldReturnDelegateAnswer() {
+        assertTrue(handler.pan(1, -1));
+        assertEquals(List.of("pan 1,-1"), delegate.calls());
+    }
+
+    @Test
+    void flush_afterDelegateFailure_shouldThrowOnce() {
+        delegate.failNext = true;
+        handler.displayAlreadyRevealedMessage();
+
+        assertThrows(IllegalStateException.class, handler::flush);
+        handler.flush();
+    }
+
+    @Test
+    void close_shouldWriteQueuedOutputAndThenWriteInline() {
+        handler.displayPromptForMove();
+        handler.close();
+        assertEquals(List.of("prompt"), delegate.calls());
+
+        handler.displayGoodbyeMessage();
+        assertEquals(List.of("prompt", "goodbye"), delegate.calls());
+        assertEquals(List.of("render", Thread.currentThread().getName()), delegate.threads());
+    }
+
+    private static Grid gridWithMinesAt(int... mines) {
+        Grid grid = new Grid(5);
+        grid.initialize((g, count) -> {
+            for (int mine : mines) {
+                g.placeMine(mine);
+            }
+        }, mines.length);
+        return grid;
+    }
+
+    private static int countRevealed(Grid grid) {
+        int revealed = 0;
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (grid.isRevealed(index)) {
+                revealed++;
+            }
+        }
+        return revealed;
+    }
+
+    /**
+     * Records each call, and can hold the render thread inside its next call to simulate a slow terminal.
+     */
+    private static final class RecordingOutputHandler implements OutputHandler {
+
+        private final List<String> calls = new ArrayList<>();
+        private final List<String> threads = new ArrayList<>();
+        private volatile CountDownLatch gate;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile Grid lastGrid;
+        private volatile boolean failNext;
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() {
+            try {
+                assertTrue(blocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        void release() {
+            CountDownLatch current = gate;
+            if (current != null) {
+                current.countDown();
+            }
+        }
+
+        synchronized List<String> calls() {
+            return List.copyOf(calls);
+        }
+
+        synchronized List<String> threads() {
+            return List.copyOf(threads);
+        }
+
+        private void record(String call) {
+            synchronized (this) {
+                calls.add(call);
+                threads.add(Thread.currentThread().getName());
+            }
+            if (failNext) {
+                failNext = false;
+                throw new IllegalArgumentException("Terminal closed");
+            }
+            CountDownLatch current = gate;
+            if (current != null) {
+                blocked.countDown();
+                try {
+                    current.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                gate = null;
+            }
+        }
+
+        @Override
+        public void displayWelcomeMessage() {
+            record("welcome");
+        }
+
+        @Override
+        public void displayBoardConfiguration(GameConfiguration config) {
+            record("board " + config.seed());
+        }
+
+        @Override
+        public void displayGrid(Grid grid) {
+            lastGrid = grid;
+            record("grid " + countRevealed(grid));
+        }
+
+        @Override
+        public void displayPromptForMove() {
+            record("prompt");
+        }
+
+        @Override
+        public void displayMineHitMessage() {
+            record("mine");
+        }
+
+        @Override
+        public void displayWinMessage() {
+            record("win");
+        }
+
+        @Override
+        public void displayAdjacentMineCount(int count) {
+            record("count " + count);
+        }
+
+        @Override
+        public void displayInvalidInputMessage(String input, String reason) {
+            record("invalid " + input);
+        }
+
+        @Override
+        public void displayAlreadyRevealedMessage() {
+            record("already");
+        }
+
+        @Override
+        public void displayHint(Coordinates coordinates, double mineProbability) {
+            record("hint " + coordinates.row() + "," + coordinates.column());
+        }
+
+        @Override
+        public void displayHintLatency(long hintCount, double medianMillis, double p99Millis) {
+            record("latency " + hintCount);
+        }
+
+        @Override
+        public boolean pan(int rowDelta, int columnDelta) {
+            record("pan " + rowDelta + "," + columnDelta);
+            return true;
+        }
+
+        @Override
+        public void displayPromptPlayAgain() {
+            record("again");
+        }
+
+        @Override
+        public void displayGoodbyeMessage() {
+            record("goodbye");
+        }
+    }
+}
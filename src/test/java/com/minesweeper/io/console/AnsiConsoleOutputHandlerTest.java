@@ -0,0 +1,340 @@
+package com.minesweeper.io.console;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Unit tests for the AnsiConsoleOutputHandler class.
+ * The output is replayed on a minimal terminal emulator and compared with a plain full frame.
+ */
+class AnsiConsoleOutputHandlerTest {
+
+    private static final Supplier<TerminalSize> LARGE_TERMINAL = () -> new TerminalSize(50, 120);
+
+    private final PrintStream originalSystemOut = System.out;
+    private ByteArrayOutputStream testOutput;
+    private final VirtualTerminal terminal = new VirtualTerminal();
+
+    @BeforeEach
+    void setUp() {
+        testOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOutput, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalSystemOut);
+    }
+
+    @Test
+    void displayGrid_afterEachMove_shouldLeaveFullFrameOnScreen() {
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(LARGE_TERMINAL, 0);
+        Grid grid = new Grid(12);
+        grid.initialize(new SeededMinePlacer(3L), 20);
+        Random random = new Random(3);
+
+        handler.displayGrid(grid);
+        assertScreenShows(grid);
+        while (!grid.areAllNonMinesRevealed()) {
+            int index = random.nextInt(grid.getCellCount());
+            if (grid.isMine(index) || grid.isRevealed(index)) {
+                continue;
+            }
+            grid.revealCell(index);
+            handler.displayGrid(grid);
+            System.out.println("This square contains 1 adjacent mines."); // Messages go below the grid
+
+            assertScreenShows(grid);
+        }
+        assertEquals(1, handler.getMetrics().fullRedraws());
+    }
+
+    @Test
+    void displayGrid_forOneReveal_shouldWriteMuchLessThanFullFrame() {
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(LARGE_TERMINAL, 0);
+        Grid grid = new Grid(20);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        handler.displayGrid(grid);
+        long fullFrame = handler.getMetrics().charactersWritten();
+
+        grid.revealCell(1);
+        handler.displayGrid(grid);
+
+        long diff = handler.getMetrics().charactersWritten() - fullFrame;
+        assertTrue(diff < 20, "Wrote " + diff + " characters for one cell");
+        assertScreenShows(grid);
+    }
+
+    @Test
+    void displayGrid_pastRowZ_shouldPlaceCellsAfterWiderLabels() {
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(LARGE_TERMINAL, 0);
+        Grid grid = new Grid(30);
+        grid.initialize(new SeededMinePlacer(4L), 90);
+        handler.displayGrid(grid);
+        assertScreenShows(grid);
+
+        for (int index = grid.getCellCount() - 1; index >= 0; index -= 7) {
+            if (!grid.isMine(index)) {
+                grid.revealCell(index);
+                handler.displayGrid(grid);
+            }
+        }
+        assertScreenShows(grid);
+        assertEquals(1, handler.getMetrics().fullRedraws());
+    }
+
+    @Test
+    void displayGrid_withoutNewReveal_shouldNotRedrawCells() {
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(LARGE_TERMINAL, 0);
+        Grid grid = new Grid(5);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        grid.revealCell(24);
+        handler.displayGrid(grid);
+        testOutput.reset();
+
+        handler.displayGrid(grid);
+
+        String output = testOutput.toString(StandardCharsets.UTF_8);
+        assertEquals("\u001B[8;1H\u001B[J", output);
+        assertEquals(1, handler.getMetrics().fullRedraws());
+    }
+
+    @Test
+    void displayGrid_afterRevealAllMines_shouldFallBackToFullRedraw() {
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(LARGE_TERMINAL, 0);
+        Grid grid = new Grid(6);
+        grid.initialize(new SeededMinePlacer(5L), 6);
+        handler.displayGrid(grid);
+
+        grid.revealAllMines();
+        handler.displayGrid(grid);
+
+        assertEquals(2, handler.getMetrics().fullRedraws());
+        assertScreenShows(grid);
+    }
+
+    @Test
+    void displayGrid_onNewGridResizeOrInvalidate_shouldRedrawInFull() {
+        TerminalSize[] size = {new TerminalSize(24, 80)};
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(() -> size[0], 0);
+        Grid first = new Grid(4);
+        first.initialize((g, count) -> { }, 0);
+        handler.displayGrid(first);
+        Grid second = new Grid(4);
+        second.initialize((g, count) -> { }, 0);
+        handler.displayGrid(second);
+        size[0] = new TerminalSize(40, 80);
+        handler.displayGrid(second);
+        handler.invalidate();
+        handler.displayGrid(second);
+        handler.displayGrid(second);
+
+        assertEquals(5, handler.getMetrics().frames());
+        assertEquals(4, handler.getMetrics().fullRedraws());
+    }
+
+    @Test
+    void displayGrid_whenGridDoesNotFitTerminal_shouldAlwaysRedrawInFull() {
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(10, 80);
+        Grid grid = new Grid(8); // 8 rows, header, blank line and messages need 14 lines
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        handler.displayGrid(grid);
+        grid.revealCell(63);
+        handler.displayGrid(grid);
+
+        assertEquals(2, handler.getMetrics().fullRedraws());
+        assertFalse(handler.getMetrics().toString().isEmpty());
+    }
+
+    @Test
+    void displayGrid_whenTerminalSizeIsUnknown_shouldAlwaysRedrawInFull() {
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(0, 0);
+        Grid grid = new Grid(4);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        handler.displayGrid(grid);
+        grid.revealCell(15);
+        handler.displayGrid(grid);
+
+        assertEquals(2, handler.getMetrics().fullRedraws());
+        assertScreenShows(grid);
+    }
+
+    @Test
+    void displayGrid_afterTerminalGrowsToFitGrid_shouldResumePartialRedraws() {
+        TerminalSize[] size = {TerminalSize.UNKNOWN};
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(() -> size[0], 0);
+        Grid grid = new Grid(4);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        handler.displayGrid(grid);
+        size[0] = new TerminalSize(24, 80);
+        handler.displayGrid(grid);
+        grid.revealCell(15);
+        handler.displayGrid(grid);
+
+        assertEquals(2, handler.getMetrics().fullRedraws());
+        assertScreenShows(grid);
+    }
+
+    @Test
+    void displayGrid_betweenFullRedraws_shouldMeasureTerminalOnlyAfterInterval() {
+        int[] measurements = {0};
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(() -> {
+            measurements[0]++;
+            return new TerminalSize(24, 80);
+        }, Long.MAX_VALUE);
+        Grid grid = new Grid(4);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        handler.displayGrid(grid);
+        for (int index = 12; index < 16; index++) {
+            grid.revealCell(index);
+            handler.displayGrid(grid);
+        }
+        assertEquals(1, measurements[0]);
+
+        handler.invalidate();
+        handler.displayGrid(grid);
+        assertEquals(2, measurements[0]);
+        assertEquals(2, handler.getMetrics().fullRedraws());
+        assertScreenShows(grid);
+    }
+
+    @Test
+    void displayGrid_afterMessagesScrollTheScreen_shouldRedrawInFull() {
+        terminal.setHeight(10); // Exactly the 4x4 grid, its header, the blank line and the message lines
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(10, 80);
+        Grid grid = new Grid(4);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        handler.displayGrid(grid);
+        for (String typo : new String[] {"Z9", "A99", "hello"}) {
+            handler.displayPromptForMove();
+            System.out.println(typo); // The terminal echoes what the player types
+            handler.displayInvalidInputMessage(typo, "Invalid format. Use format like 'A1'.");
+        }
+        grid.revealCell(15);
+        handler.displayGrid(grid);
+
+        assertEquals(2, handler.getMetrics().fullRedraws());
+        assertScreenShows(grid);
+    }
+
+    @Test
+    void displayGrid_afterOneInvalidMove_shouldStillRedrawInPlace() {
+        terminal.setHeight(10);
+        AnsiConsoleOutputHandler handler = new AnsiConsoleOutputHandler(10, 80);
+        Grid grid = new Grid(4);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        handler.displayGrid(grid);
+        handler.displayPromptForMove();
+        System.out.println("Z9");
+        handler.displayInvalidInputMessage("Z9", "Invalid format. Use format like 'A1'.");
+        handler.displayPromptForMove();
+        System.out.println("D4");
+        grid.revealCell(15);
+        handler.displayGrid(grid);
+
+        assertEquals(1, handler.getMetrics().fullRedraws());
+        assertScreenShows(grid);
+    }
+
+    private void assertScreenShows(Grid grid) {
+        terminal.write(testOutput.toString(StandardCharsets.UTF_8));
+        testOutput.reset();
+        String[] expected = new String(new GridFrameRenderer().render(grid)).split(System.lineSeparator());
+        for (int line = 0; line < expected.length; line++) {
+            assertEquals(expected[line], terminal.line(line), "Screen line " + line);
+        }
+    }
+
+    /**
+     * Interprets the few ANSI sequences the handler writes: cursor position, clear screen and clear below.
+     * A line break on the last line scrolls the screen up, as on a real terminal.
+     */
+    private static final class VirtualTerminal {
+
+        private final List<StringBuilder> lines = new ArrayList<>();
+        private int height = Integer.MAX_VALUE;
+        private int row;
+        private int column;
+
+        void setHeight(int height) {
+            this.height = height;
+        }
+
+        void write(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '\u001B') {
+                    int end = i + 2;
+                    while (!Character.isLetter(text.charAt(end))) {
+                        end++;
+                    }
+                    control(text.substring(i + 2, end), text.charAt(end));
+                    i = end;
+                } else if (c == '\n') {
+                    if (row == height - 1) {
+                        lineAt(row);
+                        lines.remove(0);
+                    } else {
+                        row++;
+                    }
+                    column = 0;
+                } else if (c == '\r') {
+                    column = 0;
+                } else {
+                    StringBuilder line = lineAt(row);
+                    while (line.length() <= column) {
+                        line.append(' ');
+                    }
+                    line.setCharAt(column++, c);
+                }
+            }
+        }
+
+        String line(int index) {
+            return index < lines.size() ? lines.get(index).toString() : "";
+        }
+
+        private void control(String parameters, char command) {
+            switch (command) {
+                case 'H' -> {
+                    String[] parts = parameters.isEmpty() ? new String[] {"1", "1"} : parameters.split(";");
+                    row = Integer.parseInt(parts[0]) - 1;
+                    column = Integer.parseInt(parts[1]) - 1;
+                }
+                case 'J' -> {
+                    if (parameters.equals("2")) {
+                        lines.clear();
+                    } else {
+                        lineAt(row).setLength(Math.min(column, lineAt(row).length()));
+                        while (lines.size() > row + 1) {
+                            lines.remove(lines.size() - 1);
+                        }
+                    }
+                }
+                default -> throw new AssertionError("Unexpected sequence " + parameters + command);
+            }
+        }
+
+        private StringBuilder lineAt(int index) {
+            while (lines.size() <= index) {
+                lines.add(new StringBuilder());
+            }
+            return lines.get(index);
+        }
+    }
+}
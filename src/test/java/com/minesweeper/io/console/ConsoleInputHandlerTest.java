@@ -2,6 +2,7 @@ package com.minesweeper.io.console;
 
 import com.minesweeper.config.GameConfiguration;
 import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
 import com.minesweeper.exception.InputCancelledException;
 import com.minesweeper.handler.OutputHandler;
 import org.junit.jupiter.api.AfterEach;
@@ -83,7 +84,7 @@ class ConsoleInputHandlerTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"1A", "a2", "ab2", "A", "1", "", "A 1", "AA1", "A1A", "AA"})
+    @ValueSource(strings = {"1A", "a2", "ab2", "A", "1", "", "A 1", "A1A", "AA"})
     void getMoveInput_shouldRePromptOnInvalidFormat(String invalidInput) throws InputCancelledException {
         String validInput = "B2\n";
         provideInput(invalidInput + "\n" + validInput);
@@ -97,7 +98,7 @@ class ConsoleInputHandlerTest {
     }
     
     @ParameterizedTest
-    @ValueSource(strings = {"A5", "E1", "D0", "D5"}) // For a 4x4 grid
+    @ValueSource(strings = {"A5", "E1", "D0", "D5", "AA1", "ZZZZZZZZ1"}) // For a 4x4 grid
     void getMoveInput_shouldRePromptOnOutOfBounds(String outOfBoundsInput) throws InputCancelledException {
         String validInput = "A1\n";
         provideInput(outOfBoundsInput + "\n" + validInput);
@@ -111,6 +112,52 @@ class ConsoleInputHandlerTest {
     }
 
 
+    @ParameterizedTest
+    @CsvSource({
+        "AA1, 26, 0",
+        "AZ30, 51, 29",
+        "BA2, 52, 1",
+        "ZZ702, 701, 701"
+    })
+    void getMoveInput_shouldParseMultiLetterRows(String input, int expectedRow, int expectedCol) throws InputCancelledException {
+        provideInput(input + "\n");
+        Coordinates result = inputHandler.getMoveInput(1000);
+        assertEquals(new Coordinates(expectedRow, expectedCol), result);
+    }
+
+    @Test
+    void getMoveInput_outOfBoundsPastZ_shouldNameLastRowLabel() throws InputCancelledException {
+        provideInput("AE1\nA1\n");
+        inputHandler.getMoveInput(30);
+        String output = testOutput.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("Row (A-AD)"), output);
+    }
+
+    @Test
+    void getMoveInput_shouldPanViewportAndRePrompt() throws InputCancelledException {
+        ViewportOutputHandler viewport = new ViewportOutputHandler(4, 4);
+        Grid grid = new Grid(20);
+        grid.initialize((g, count) -> { }, 0);
+        viewport.displayGrid(grid);
+        System.setIn(new ByteArrayInputStream("up 3\nLEFT\ndown\nB2\n".getBytes(StandardCharsets.UTF_8)));
+        inputHandler = new ConsoleInputHandler(viewport, new Scanner(System.in));
+
+        Coordinates result = inputHandler.getMoveInput(20);
+
+        assertEquals(new Coordinates(1, 1), result);
+        assertEquals(10, viewport.getFirstVisibleRow()); // Starts at 8, up 3, then down the default 5
+        assertEquals(3, viewport.getFirstVisibleColumn()); // Starts at 8, left the default 5
+    }
+
+    @Test
+    void getMoveInput_panWithoutViewport_shouldBeInvalid() throws InputCancelledException {
+        provideInput("right 2\nB2\n");
+        Coordinates result = inputHandler.getMoveInput(5);
+        assertEquals(new Coordinates(1, 1), result);
+        String output = testOutput.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("only available in viewport mode"));
+    }
+
     @Test
     void getMoveInput_shouldThrowExceptionOnQuit() {
         provideInput("quit\n");
@@ -118,6 +165,25 @@ class ConsoleInputHandlerTest {
         assertThrows(InputCancelledException.class, () -> inputHandler.getMoveInput(gridSize));
     }
     
+    @Test
+    void getMoveInput_shouldRunHintListenerAndRePromptOnHint() throws InputCancelledException {
+        provideInput("hint\nB2\n");
+        int[] hints = {0};
+        inputHandler.setHintListener(() -> hints[0]++);
+        Coordinates result = inputHandler.getMoveInput(5);
+        assertEquals(1, hints[0]);
+        assertEquals(new Coordinates(1, 1), result);
+    }
+
+    @Test
+    void getMoveInput_withoutHintListener_shouldTreatHintAsInvalid() throws InputCancelledException {
+        provideInput("hint\nB2\n");
+        Coordinates result = inputHandler.getMoveInput(5);
+        assertEquals(new Coordinates(1, 1), result);
+        String output = testOutput.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("Invalid format"));
+    }
+
     // --- Tests for getGameConfiguration ---
     @Test
     void getGameConfiguration_shouldReturnCorrectConfig() throws InputCancelledException {
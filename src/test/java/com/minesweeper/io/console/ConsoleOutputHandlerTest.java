@@ -5,15 +5,20 @@ import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.domain.Cell;
 import com.minesweeper.domain.Coordinates;
 import com.minesweeper.domain.Grid;
 import com.minesweeper.handler.MinePlacer;
 import com.minesweeper.handler.OutputHandler;
+import com.minesweeper.placement.SeededMinePlacer;
 
 /**
  * Unit tests for the ConsoleOutputHandler class.
@@ -51,6 +56,12 @@ class ConsoleOutputHandlerTest {
         assertTrue(output.endsWith("\n") || output.endsWith("\r\n"), "Output should end with a newline"); 
     }
 
+    @Test
+    void displayBoardConfiguration_shouldPrintSizeMinesAndSeed() {
+        outputHandler.displayBoardConfiguration(new GameConfiguration(9, 10, -42L));
+        assertEquals("Board 9x9 with 10 mines, seed -42." + System.lineSeparator(), getCapturedOutput());
+    }
+
     @Test
     void displayPromptForMove_shouldPrintPrompt() {
         outputHandler.displayPromptForMove();
@@ -117,6 +128,31 @@ class ConsoleOutputHandlerTest {
         assertTrue(output.endsWith("\n") || output.endsWith("\r\n"), "Output should end with a newline");
     }
 
+    @Test
+    void displayHint_withSafeSquare_shouldNameTheSquare() {
+        outputHandler.displayHint(new Coordinates(1, 2), 0.0);
+        String output = getCapturedOutput();
+        assertEquals("Hint: B3 is safe." + System.lineSeparator(), output);
+    }
+
+    @Test
+    void displayHint_withGuess_shouldShowMineChance() {
+        outputHandler.displayHint(new Coordinates(0, 9), 0.125);
+        String output = getCapturedOutput();
+        assertTrue(output.contains("A10"), "Output should name the square");
+        assertTrue(output.contains("12.5%"), "Output should show the mine chance");
+        assertTrue(output.endsWith("\n") || output.endsWith("\r\n"), "Output should end with a newline");
+    }
+
+    @Test
+    void displayHintLatency_shouldPrintCountAndPercentiles() {
+        outputHandler.displayHintLatency(3, 0.25, 1.5);
+        String output = getCapturedOutput();
+        assertTrue(output.contains("3 given"), "Output should contain the hint count");
+        assertTrue(output.contains("p50 0.25 ms"), "Output should contain the median");
+        assertTrue(output.contains("p99 1.50 ms"), "Output should contain the 99th percentile");
+    }
+
     @Test
     void displayGoodbyeMessage_shouldPrintMessage() {
         outputHandler.displayGoodbyeMessage();
@@ -165,4 +201,67 @@ class ConsoleOutputHandlerTest {
         assertTrue(output.contains("C  _ _ _"), "Output missing row C content");
         assertTrue(output.endsWith("\n\n"), "Output should have two newlines at the end (one after last row, one blank line)");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void displayGrid_shouldMatchPerCellOutputByteForByte() {
+        for (int size : new int[] {1, 3, 9, 12, 26, 3}) { // Up to Z; longer labels are tested below
+            Grid grid = new Grid(size);
+            grid.initialize(new SeededMinePlacer(size), size * size / 6);
+            for (int index = 0; index < grid.getCellCount(); index += 3) {
+                if (grid.isMine(index) || index % 2 == 0) {
+                    grid.revealCell(index);
+                }
+            }
+            testOutput.reset();
+
+            outputHandler.displayGrid(grid);
+            byte[] actual = testOutput.toByteArray();
+            testOutput.reset();
+            printGridPerCell(grid);
+
+            assertArrayEquals(testOutput.toByteArray(), actual, "Output differs for size " + size);
+        }
+    }
+
+    @Test
+    void displayGrid_pastRowZ_shouldPadLabelsToKeepCellsAligned() {
+        Grid grid = new Grid(28);
+        grid.initialize((g, count) -> { }, 0);
+        outputHandler.displayGrid(grid);
+        String[] lines = getCapturedOutput().split(System.lineSeparator());
+
+        assertTrue(lines[0].startsWith("    1 2 3"), lines[0]);
+        assertTrue(lines[1].startsWith("A   _ _"), lines[1]);
+        assertTrue(lines[26].startsWith("Z   _ _"), lines[26]);
+        assertTrue(lines[27].startsWith("AA  _ _"), lines[27]);
+        assertTrue(lines[28].startsWith("AB  _ _"), lines[28]);
+    }
+
+    @Test
+    void displayHint_pastRowZ_shouldUseMultiLetterLabel() {
+        outputHandler.displayHint(new Coordinates(27, 0), 0.0);
+        assertEquals("Hint: AB1 is safe." + System.lineSeparator(), getCapturedOutput());
+    }
+
+    // The original renderer, which printed every cell with its own printf
+    private static void printGridPerCell(Grid grid) {
+        int size = grid.getSize();
+        System.out.print("  ");
+        for (int c = 0; c < size; c++) {
+            System.out.printf(" %d", c + 1);
+        }
+        System.out.println();
+        for (int r = 0; r < size; r++) {
+            System.out.print((char) ('A' + r));
+            System.out.print(" ");
+            for (int c = 0; c < size; c++) {
+                Cell cell = grid.getCell(new Coordinates(r, c));
+                String displayChar = !cell.isRevealed() ? "_"
+                        : cell.isMine() ? "*" : String.valueOf(cell.getAdjacentMineCount());
+                System.out.printf(" %s", displayChar);
+            }
+            System.out.println();
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,45 @@
+package com.minesweeper.io.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+
+/**
+ * Unit tests for the GridFrameRenderer class.
+ */
+class GridFrameRendererTest {
+
+    private final GridFrameRenderer renderer = new GridFrameRenderer();
+
+    @Test
+    void render_shouldReuseFrameAndUpdateOnlyGlyphs() {
+        Grid grid = new Grid(3);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        char[] first = renderer.render(grid);
+        String before = new String(first);
+
+        grid.revealCell(new Coordinates(2, 2));
+        char[] second = renderer.render(grid);
+
+        assertSame(first, second);
+        String n = System.lineSeparator();
+        assertEquals("   1 2 3" + n + "A  _ _ _" + n + "B  _ _ _" + n + "C  _ _ _" + n + n, before);
+        assertEquals("   1 2 3" + n + "A  _ 1 0" + n + "B  1 1 0" + n + "C  0 0 0" + n + n, new String(second));
+    }
+
+    @Test
+    void render_afterSizeChange_shouldRebuildTemplate() {
+        Grid large = new Grid(11);
+        large.initialize((g, count) -> { }, 0);
+        renderer.render(large);
+        Grid small = new Grid(1);
+        small.initialize((g, count) -> g.placeMine(0), 1);
+        small.revealAllMines();
+
+        String n = System.lineSeparator();
+        assertEquals("   1" + n + "A  *" + n + n, new String(renderer.render(small)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.minesweeper.io.console;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.BoardSummary;
+import com.minesweeper.domain.Grid;
+
+/**
+ * Unit tests for the MinimapOutputHandler class.
+ */
+class MinimapOutputHandlerTest {
+
+    private final PrintStream originalSystemOut = System.out;
+    private final String n = System.lineSeparator();
+    private ByteArrayOutputStream testOutput;
+
+    @BeforeEach
+    void setUp() {
+        testOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOutput, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalSystemOut);
+    }
+
+    private String takeOutput() {
+        String output = testOutput.toString(StandardCharsets.UTF_8);
+        testOutput.reset();
+        return output;
+    }
+
+    @Test
+    void displayGrid_shouldShowOverviewAboveWindow() {
+        MinimapOutputHandler handler = new MinimapOutputHandler(2, 2, 4);
+        Grid grid = new Grid(8); // Blocks of 2x2
+        grid.initialize((g, count) -> {
+            g.placeMine(grid.indexOf(0, 2));
+            g.placeMine(grid.indexOf(6, 7));
+        }, 2);
+
+        handler.displayGrid(grid);
+        String before = takeOutput();
+        grid.revealCell(grid.indexOf(0, 0)); // Cascades up to the numbers around both mines
+        handler.displayGrid(grid);
+        String after = takeOutput();
+
+        String header = "Overview, 2x2 squares per mark (_ untouched, # all revealed, * mine):" + n;
+        assertTrue(before.startsWith(header + "____" + n + "____" + n + "____" + n + "____" + n + n), before);
+        assertTrue(after.startsWith(header + "#=##" + n + "####" + n + "####" + n + "###-" + n + n), after);
+        assertTrue(after.contains("Showing rows"), "The window follows the overview");
+    }
+
+    @Test
+    void displayGrid_afterGameOver_shouldMarkBlocksWithMines() {
+        MinimapOutputHandler handler = new MinimapOutputHandler(2, 2, 2);
+        Grid grid = new Grid(4);
+        grid.initialize((g, count) -> g.placeMine(15), 1);
+        handler.displayGrid(grid);
+        grid.revealAllMines();
+        takeOutput();
+
+        handler.displayGrid(grid);
+
+        assertTrue(takeOutput().contains("__" + n + "_*" + n), "The mine's block is marked");
+    }
+
+    @Test
+    void pan_shouldShowOverviewAgain() {
+        MinimapOutputHandler handler = new MinimapOutputHandler(2, 2, 2);
+        Grid grid = new Grid(4);
+        grid.initialize((g, count) -> { }, 0);
+        handler.displayGrid(grid);
+        takeOutput();
+
+        handler.pan(1, 1);
+
+        assertTrue(takeOutput().startsWith("Overview"));
+    }
+
+    @Test
+    void displayGrid_whenBoardFitsOverview_shouldShowGridOnly() {
+        MinimapOutputHandler handler = new MinimapOutputHandler(9, 9, 9);
+        Grid grid = new Grid(9);
+        grid.initialize((g, count) -> { }, 0);
+
+        handler.displayGrid(grid);
+
+        assertFalse(takeOutput().contains("Overview"));
+    }
+
+    @Test
+    void glyphOf_shouldRampWithRevealedShare() {
+        assertEquals('_', MinimapOutputHandler.glyphOf(new BoardSummary.Counts(10, 0, 0)));
+        assertEquals('.', MinimapOutputHandler.glyphOf(new BoardSummary.Counts(9, 1, 0)));
+        assertEquals('+', MinimapOutputHandler.glyphOf(new BoardSummary.Counts(1, 9, 0)));
+        assertEquals('#', MinimapOutputHandler.glyphOf(new BoardSummary.Counts(0, 10, 0)));
+        assertEquals('*', MinimapOutputHandler.glyphOf(new BoardSummary.Counts(5, 4, 1)));
+    }
+
+    @Test
+    void constructor_shouldRejectEmptyOverview() {
+        assertThrows(IllegalArgumentException.class, () -> new MinimapOutputHandler(5, 5, 0));
+    }
+}
@@ -0,0 +1,54 @@
+package com.minesweeper.io.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Unit tests for the RowLabels class.
+ */
+class RowLabelsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, A",
+        "25, Z",
+        "26, AA",
+        "51, AZ",
+        "52, BA",
+        "701, ZZ",
+        "702, AAA",
+        "2147483647, FXSHRXX"
+    })
+    void ofAndParse_shouldRoundTrip(int row, String label) {
+        assertEquals(label, RowLabels.of(row));
+        assertEquals(row, RowLabels.parse(label));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "A1", "FXSHRXY", "ZZZZZZZZ"})
+    void parse_withInvalidOrTooLargeLabel_shouldReturnMinusOne(String label) {
+        assertEquals(-1, RowLabels.parse(label));
+    }
+
+    @Test
+    void width_shouldMatchLongestLabel() {
+        assertEquals(1, RowLabels.width(1));
+        assertEquals(1, RowLabels.width(26));
+        assertEquals(2, RowLabels.width(27));
+        assertEquals(2, RowLabels.width(702));
+        assertEquals(3, RowLabels.width(703));
+        for (int rows = 1; rows < 20_000; rows += 37) {
+            assertEquals(RowLabels.of(rows - 1).length(), RowLabels.width(rows));
+        }
+    }
+
+    @Test
+    void appendTo_shouldKeepExistingContent() {
+        StringBuilder target = new StringBuilder("Row ");
+        RowLabels.appendTo(target, 27);
+        assertEquals("Row AB", target.toString());
+    }
+}
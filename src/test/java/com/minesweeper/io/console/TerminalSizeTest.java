@@ -0,0 +1,32 @@
+package com.minesweeper.io.console;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the TerminalSize record.
+ */
+class TerminalSizeTest {
+
+    @Test
+    void parse_shouldReadSttySizeReply() {
+        TerminalSize size = TerminalSize.parse("24 80\n");
+
+        assertEquals(new TerminalSize(24, 80), size);
+        assertTrue(size.isKnown());
+    }
+
+    @Test
+    void parse_shouldReturnUnknownForMalformedReply() {
+        assertEquals(TerminalSize.UNKNOWN, TerminalSize.parse(""));
+        assertEquals(TerminalSize.UNKNOWN, TerminalSize.parse("stty: not a tty"));
+        assertFalse(TerminalSize.parse("24 wide").isKnown());
+    }
+
+    @Test
+    void constructor_shouldTreatNegativeDimensionsAsUnknown() {
+        assertEquals(TerminalSize.UNKNOWN, new TerminalSize(-1, -5));
+    }
+}
@@ -0,0 +1,155 @@
+package com.minesweeper.io.console;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Unit tests for the ViewportOutputHandler class.
+ */
+class ViewportOutputHandlerTest {
+
+    private final PrintStream originalSystemOut = System.out;
+    private final String n = System.lineSeparator();
+    private ByteArrayOutputStream testOutput;
+
+    @BeforeEach
+    void setUp() {
+        testOutput = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(testOutput, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalSystemOut);
+    }
+
+    private String takeOutput() {
+        String output = testOutput.toString(StandardCharsets.UTF_8);
+        testOutput.reset();
+        return output;
+    }
+
+    @Test
+    void displayGrid_onNewGrid_shouldShowWindowAroundMiddle() {
+        ViewportOutputHandler handler = new ViewportOutputHandler(3, 4);
+        Grid grid = new Grid(12);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+
+        handler.displayGrid(grid);
+
+        assertEquals("   5 6 7 8" + n
+                + "F  _ _ _ _" + n
+                + "G  _ _ _ _" + n
+                + "H  _ _ _ _" + n
+                + n
+                + "Showing rows F-H and columns 5-8 of 12. Pan with up, down, left or right." + n, takeOutput());
+    }
+
+    @Test
+    void displayGrid_pastRowZ_shouldAlignLabelsAndWideColumns() {
+        ViewportOutputHandler handler = new ViewportOutputHandler(2, 3);
+        Grid grid = new Grid(120);
+        grid.initialize((g, count) -> g.placeMine(grid.indexOf(26, 99)), 1);
+        grid.revealCell(grid.indexOf(27, 98));
+        handler.displayGrid(grid); // The move at AB99 is off the middle window, so it recenters there
+        takeOutput();
+        handler.pan(0, 0);
+
+        assertEquals(26, handler.getFirstVisibleRow());
+        assertEquals(97, handler.getFirstVisibleColumn());
+        assertEquals("     98  99 100" + n
+                + "AA    _   _   _" + n
+                + "AB    _   1   _" + n
+                + n
+                + "Showing rows AA-AB and columns 98-100 of 120. Pan with up, down, left or right." + n,
+                takeOutput());
+    }
+
+    @Test
+    void displayGrid_afterMoveOutsideWindow_shouldRecenterOnMove() {
+        ViewportOutputHandler handler = new ViewportOutputHandler(5, 5);
+        Grid grid = new Grid(50);
+        grid.initialize((g, count) -> g.placeMine(grid.indexOf(40, 41)), 1);
+        handler.displayGrid(grid);
+        assertEquals(23, handler.getFirstVisibleRow());
+
+        grid.revealCell(grid.indexOf(40, 40));
+        handler.displayGrid(grid);
+
+        assertEquals(38, handler.getFirstVisibleRow());
+        assertEquals(38, handler.getFirstVisibleColumn());
+    }
+
+    @Test
+    void displayGrid_afterPan_shouldNotJumpBackToPreviousMove() {
+        ViewportOutputHandler handler = new ViewportOutputHandler(5, 5);
+        Grid grid = new Grid(50);
+        grid.initialize(new SeededMinePlacer(1L), 0);
+        grid.revealCell(0); // Opens the whole board
+        handler.displayGrid(grid);
+        assertEquals(0, handler.getFirstVisibleRow());
+
+        handler.pan(20, 30);
+        handler.displayGrid(grid); // Redisplayed with no new move, as after "(Already revealed)"
+
+        assertEquals(20, handler.getFirstVisibleRow());
+        assertEquals(30, handler.getFirstVisibleColumn());
+    }
+
+    @Test
+    void pan_shouldKeepWindowOnBoard() {
+        ViewportOutputHandler handler = new ViewportOutputHandler(4, 6);
+        Grid grid = new Grid(10);
+        grid.initialize((g, count) -> { }, 0);
+        handler.displayGrid(grid);
+
+        handler.pan(Integer.MAX_VALUE, Integer.MIN_VALUE);
+        assertEquals(6, handler.getFirstVisibleRow());
+        assertEquals(0, handler.getFirstVisibleColumn());
+        handler.pan(-100, 100);
+        assertEquals(0, handler.getFirstVisibleRow());
+        assertEquals(4, handler.getFirstVisibleColumn());
+        assertTrue(takeOutput().contains("Showing rows A-D and columns 5-10 of 10."));
+    }
+
+    @Test
+    void displayGrid_whenBoardFits_shouldPrintLikePlainConsole() {
+        ViewportOutputHandler handler = new ViewportOutputHandler(9, 9);
+        Grid grid = new Grid(9);
+        grid.initialize(new SeededMinePlacer(2L), 10);
+        grid.revealCell(40);
+
+        handler.displayGrid(grid);
+        byte[] actual = testOutput.toByteArray();
+        testOutput.reset();
+        new ConsoleOutputHandler().displayGrid(grid);
+
+        assertArrayEquals(testOutput.toByteArray(), actual);
+    }
+
+    @Test
+    void pan_beforeAnyGrid_shouldPrintNothing() {
+        ViewportOutputHandler handler = new ViewportOutputHandler();
+
+        assertTrue(handler.pan(1, 1));
+        assertEquals("", takeOutput());
+    }
+
+    @Test
+    void constructor_shouldRejectEmptyWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new ViewportOutputHandler(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new ViewportOutputHandler(5, -1));
+    }
+}
@@ -0,0 +1,145 @@
+package com.minesweeper.placement;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.DifficultyTargetedMinePlacer.Metrics;
+import com.minesweeper.placement.DifficultyTargetedMinePlacer.Target;
+
+/**
+ * Unit tests for the DifficultyTargetedMinePlacer class.
+ */
+class DifficultyTargetedMinePlacerTest {
+
+    private static final Duration GENEROUS_LIMIT = Duration.ofSeconds(30);
+
+    @Test
+    void placeMines_withThreeBvRange_shouldReturnBoardInRange() {
+        try (DifficultyTargetedMinePlacer placer =
+                     new DifficultyTargetedMinePlacer(Target.threeBv(30, 35), 2, GENEROUS_LIMIT, 1L)) {
+            for (int board = 0; board < 5; board++) {
+                Grid grid = new Grid(16);
+                grid.initialize(placer, 40);
+
+                assertEquals(40, grid.getMineCount());
+                assertTrue(grid.getThreeBv() >= 30 && grid.getThreeBv() <= 35, "3BV " + grid.getThreeBv());
+            }
+            Metrics metrics = placer.getMetrics();
+            assertEquals(5, metrics.boardsPlaced());
+            assertEquals(0, metrics.timeouts());
+            assertTrue(metrics.candidatesAccepted() >= 5);
+            assertTrue(metrics.acceptanceRate() > 0 && metrics.acceptanceRate() <= 1);
+        }
+    }
+
+    @Test
+    void placeMines_withNoGuessTarget_shouldReturnBoardSolvableFromOpening() {
+        try (DifficultyTargetedMinePlacer placer =
+                     new DifficultyTargetedMinePlacer(Target.noGuess(), 2, GENEROUS_LIMIT, 2L)) {
+            for (int board = 0; board < 5; board++) {
+                Grid grid = new Grid(9);
+                grid.initialize(placer, 10);
+
+                assertEquals(10, grid.getMineCount());
+                assertEquals(0, DifficultyTargetedMinePlacer.solveWithoutGuessing(grid));
+                assertTrue(grid.areAllNonMinesRevealed());
+            }
+        }
+    }
+
+    @Test
+    void placeMines_withUnreachableTarget_shouldFallBackAfterTimeLimit() {
+        try (DifficultyTargetedMinePlacer placer = new DifficultyTargetedMinePlacer(
+                Target.threeBv(1_000, 2_000), 2, Duration.ofMillis(50), 3L)) {
+            Grid grid = new Grid(9);
+            long start = System.nanoTime();
+            grid.initialize(placer, 10);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(10, grid.getMineCount());
+            assertTrue(elapsedMillis < 5_000, "Took " + elapsedMillis + " ms");
+            Metrics metrics = placer.getMetrics();
+            assertEquals(1, metrics.timeouts());
+            assertEquals(0, metrics.candidatesAccepted());
+            assertTrue(metrics.candidatesTried() > 0);
+        }
+    }
+
+    @Test
+    void placeMines_shouldBeReproducibleWithOneWorker() {
+        try (DifficultyTargetedMinePlacer first = new DifficultyTargetedMinePlacer(Target.threeBv(30, 35), 1, GENEROUS_LIMIT, 4L);
+             DifficultyTargetedMinePlacer second = new DifficultyTargetedMinePlacer(Target.threeBv(30, 35), 1, GENEROUS_LIMIT, 4L)) {
+            Grid firstGrid = new Grid(16);
+            Grid secondGrid = new Grid(16);
+            firstGrid.initialize(first, 40);
+            secondGrid.initialize(second, 40);
+
+            for (int index = 0; index < firstGrid.getCellCount(); index++) {
+                assertEquals(firstGrid.isMine(index), secondGrid.isMine(index));
+            }
+        }
+    }
+
+    @Test
+    void startingCell_shouldBeOpeningOnlyForNoGuessTargets() {
+        Grid grid = new Grid(3);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        try (DifficultyTargetedMinePlacer noGuess =
+                     new DifficultyTargetedMinePlacer(Target.noGuess(), 1, GENEROUS_LIMIT, 6L);
+             DifficultyTargetedMinePlacer threeBv =
+                     new DifficultyTargetedMinePlacer(Target.threeBv(1, 5), 1, GENEROUS_LIMIT, 6L)) {
+            assertEquals(DifficultyTargetedMinePlacer.openingCell(grid), noGuess.startingCell(grid));
+            assertEquals(2, noGuess.startingCell(grid));
+            assertEquals(-1, threeBv.startingCell(grid));
+        }
+    }
+
+    @Test
+    void placeMines_shouldRejectInvalidMineCounts() {
+        try (DifficultyTargetedMinePlacer placer =
+                     new DifficultyTargetedMinePlacer(Target.noGuess(), 1, GENEROUS_LIMIT, 5L)) {
+            assertThrows(IllegalArgumentException.class, () -> placer.placeMines(new Grid(3), -1));
+            assertThrows(IllegalArgumentException.class, () -> placer.placeMines(new Grid(3), 10));
+        }
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DifficultyTargetedMinePlacer(Target.noGuess(), 0, GENEROUS_LIMIT, 0L));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DifficultyTargetedMinePlacer(Target.noGuess(), 1, Duration.ZERO, 0L));
+        assertThrows(IllegalArgumentException.class, () -> Target.threeBv(10, 5));
+        assertThrows(IllegalArgumentException.class, () -> Target.threeBv(-1, 5));
+    }
+
+    @Test
+    void solveWithoutGuessing_onOpenBoard_shouldClearIt() {
+        Grid grid = new Grid(3);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+
+        assertEquals(0, DifficultyTargetedMinePlacer.solveWithoutGuessing(grid));
+        assertTrue(grid.areAllNonMinesRevealed());
+    }
+
+    @Test
+    void solveWithoutGuessing_withoutZeroCell_shouldLeaveEverySafeCellHidden() {
+        Grid grid = new Grid(2);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+
+        assertEquals(3, DifficultyTargetedMinePlacer.solveWithoutGuessing(grid));
+    }
+
+    @Test
+    void openingCell_shouldFindFirstZeroCell() {
+        Grid grid = new Grid(3);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+
+        assertEquals(2, DifficultyTargetedMinePlacer.openingCell(grid));
+    }
+}
@@ -0,0 +1,114 @@
+package com.minesweeper.placement;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.Grid;
+
+/**
+ * Unit tests for the NoGuessMinePlacer class.
+ */
+class NoGuessMinePlacerTest {
+
+    private static final Duration GENEROUS_LIMIT = Duration.ofSeconds(30);
+
+    @Test
+    void placeMines_shouldProduceBoardsSolvableFromOpening() {
+        try (NoGuessMinePlacer placer = new NoGuessMinePlacer(2, GENEROUS_LIMIT, 1L)) {
+            for (int board = 0; board < 20; board++) {
+                Grid grid = new Grid(16);
+                int opening = (board * 37) % grid.getCellCount();
+                grid.initialize(placer, 40, opening);
+
+                assertEquals(40, grid.getMineCount());
+                assertFalse(grid.isMine(opening));
+                assertEquals(0, grid.getAdjacentMineCount(opening));
+                GuessFreeSolver.solveFromOpening(grid, opening);
+                assertTrue(grid.areAllNonMinesRevealed(), "Board " + board + " needs a guess");
+            }
+            NoGuessMinePlacer.Metrics metrics = placer.getMetrics();
+            assertEquals(20, metrics.boardsPlaced());
+            assertEquals(0, metrics.timeouts());
+            assertTrue(metrics.layoutsGenerated() >= 20);
+        }
+    }
+
+    @Test
+    void placeMines_onExpertBoard_shouldRepairInsteadOfOnlyRegenerating() {
+        try (NoGuessMinePlacer placer = new NoGuessMinePlacer(1, GENEROUS_LIMIT, 2L)) {
+            for (int board = 0; board < 10; board++) {
+                Grid grid = new Grid(22);
+                grid.initialize(placer, 99, grid.indexOf(0, 0));
+
+                GuessFreeSolver.solveFromOpening(grid, 0);
+                assertTrue(grid.areAllNonMinesRevealed());
+            }
+            assertTrue(placer.getMetrics().repairs() > 0);
+            assertTrue(placer.latencyPercentileNanos(50) <= placer.latencyPercentileNanos(99));
+        }
+    }
+
+    @Test
+    void placeMines_withoutOpening_shouldOpenInTheMiddle() {
+        try (NoGuessMinePlacer placer = new NoGuessMinePlacer(1, GENEROUS_LIMIT, 3L)) {
+            Grid grid = new Grid(9);
+            grid.initialize(placer, 10);
+
+            int middle = grid.indexOf(4, 4);
+            assertEquals(0, grid.getAdjacentMineCount(middle));
+            GuessFreeSolver.solveFromOpening(grid, middle);
+            assertTrue(grid.areAllNonMinesRevealed());
+        }
+    }
+
+    @Test
+    void placeMines_withDenseBoard_shouldKeepOpeningSafe() {
+        try (NoGuessMinePlacer placer = new NoGuessMinePlacer(1, Duration.ofMillis(50), 4L)) {
+            Grid grid = new Grid(3);
+            grid.initialize(placer, 8, 4);
+
+            assertEquals(8, grid.getMineCount());
+            assertFalse(grid.isMine(4));
+        }
+    }
+
+    @Test
+    void placeMines_withForcedGuess_shouldFallBackAfterTimeLimit() {
+        // Every layout of one mine on a 2x2 board leaves a three-way guess after the opening
+        try (NoGuessMinePlacer placer = new NoGuessMinePlacer(2, Duration.ofMillis(100), 5L)) {
+            Grid grid = new Grid(2);
+            long start = System.nanoTime();
+            grid.initialize(placer, 1, 0);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(1, grid.getMineCount());
+            assertFalse(grid.isMine(0));
+            assertTrue(elapsedMillis < 5_000, "Took " + elapsedMillis + " ms");
+            assertEquals(1, placer.getMetrics().timeouts());
+        }
+    }
+
+    @Test
+    void placeMines_shouldRejectInvalidArguments() {
+        try (NoGuessMinePlacer placer = new NoGuessMinePlacer(1, GENEROUS_LIMIT, 6L)) {
+            assertThrows(IllegalArgumentException.class, () -> placer.placeMines(new Grid(3), -1, 0));
+            assertThrows(IllegalArgumentException.class, () -> placer.placeMines(new Grid(3), 9, 0));
+            assertThrows(IllegalStateException.class, () -> placer.latencyPercentileNanos(50));
+            assertThrows(IllegalArgumentException.class, () -> placer.latencyPercentileNanos(0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new NoGuessMinePlacer(0, GENEROUS_LIMIT, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new NoGuessMinePlacer(1, Duration.ZERO, 0L));
+    }
+
+    @Test
+    void needsOpening_shouldBeTrue() {
+        try (NoGuessMinePlacer placer = new NoGuessMinePlacer(1, GENEROUS_LIMIT, 7L)) {
+            assertTrue(placer.needsOpening());
+        }
+    }
+}
@@ -109,6 +109,51 @@ class RandomMinePlacerTest {
         assertThrows(IllegalArgumentException.class, () -> placer.placeMines(grid, mineCount));
     }
 
+    @Test
+    void placeMines_shouldThrowExceptionIfGridAlreadyHasMines() {
+        Grid grid = new Grid(4);
+        grid.placeMine(5);
+        RandomMinePlacer placer = new RandomMinePlacer();
+        assertThrows(IllegalArgumentException.class, () -> placer.placeMines(grid, 3));
+    }
+
+    @Test
+    void placeMines_shouldDrawExactlyOneNumberPerMineAtAnyDensity() {
+        int size = 20;
+        for (int mineCount : new int[] {4, 200, 396, 400}) {
+            CountingRandom countingRandom = new CountingRandom(99L);
+            Grid grid = new Grid(size);
+            new RandomMinePlacer(countingRandom).placeMines(grid, mineCount);
+            assertEquals(mineCount, countMines(grid));
+            assertEquals(mineCount, countingRandom.draws, "Expected one draw per mine for " + mineCount + " mines");
+        }
+    }
+
+    @Test
+    void placeMines_shouldBeDeterministicForSameSeed() {
+        Grid first = new Grid(16);
+        Grid second = new Grid(16);
+        new RandomMinePlacer(new Random(2024L)).placeMines(first, 40);
+        new RandomMinePlacer(new Random(2024L)).placeMines(second, 40);
+        for (int index = 0; index < first.getCellCount(); index++) {
+            assertEquals(first.isMine(index), second.isMine(index), "Layouts differ at index " + index);
+        }
+    }
+
+    private static class CountingRandom extends Random {
+        int draws = 0;
+
+        CountingRandom(long seed) {
+            super(seed);
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            draws++;
+            return super.nextInt(bound);
+        }
+    }
+
     // Helper method to count mines in a grid
     private int countMines(Grid grid) {
         int count = 0;
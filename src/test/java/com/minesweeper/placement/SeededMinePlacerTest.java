@@ -0,0 +1,107 @@
+package com.minesweeper.placement;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.config.GameConfiguration;
+import com.minesweeper.domain.Grid;
+
+/**
+ * Unit tests for the SeededMinePlacer class.
+ */
+class SeededMinePlacerTest {
+
+    @Test
+    void keyOf_shouldMatchSplittableRandomSequence() {
+        long seed = 0x5eedL;
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int index = 0; index < 100; index++) {
+            assertEquals(random.nextLong(), SeededMinePlacer.keyOf(seed, index));
+        }
+    }
+
+    @Test
+    void generate_shouldReproduceBoardFromConfiguration() {
+        GameConfiguration config = new GameConfiguration(30, 150, 42L);
+        Grid first = SeededMinePlacer.generate(config);
+        Grid second = SeededMinePlacer.generate(config);
+
+        assertEquals(150, first.getMineCount());
+        assertTrue(sameLayout(first, second));
+    }
+
+    @Test
+    void withSeed_shouldPlaceLayoutOfThatSeed() {
+        GameConfiguration config = new GameConfiguration(20, 60, 99L);
+        Grid grid = new Grid(20);
+        grid.initialize(new SeededMinePlacer().withSeed(99L), 60);
+
+        assertTrue(sameLayout(SeededMinePlacer.generate(config), grid));
+    }
+
+    @Test
+    void isSeeded_shouldBeTrueOnlyForSeededPlacers() {
+        assertTrue(new SeededMinePlacer(1L).isSeeded());
+        assertFalse(new RandomMinePlacer().isSeeded());
+    }
+
+    @Test
+    void placeMines_shouldDependOnSeed() {
+        Grid first = SeededMinePlacer.generate(new GameConfiguration(30, 150, 1L));
+        Grid second = SeededMinePlacer.generate(new GameConfiguration(30, 150, 2L));
+        assertFalse(sameLayout(first, second));
+    }
+
+    @Test
+    void placeMines_shouldThrowExceptionIfGridAlreadyHasMines() {
+        Grid grid = new Grid(4);
+        grid.placeMine(5);
+        SeededMinePlacer placer = new SeededMinePlacer(7L);
+        assertThrows(IllegalArgumentException.class, () -> placer.placeMines(grid, 3));
+        assertThrows(IllegalArgumentException.class, () -> placer.placeMines(grid, 3, true));
+    }
+
+    @Test
+    void placeMines_parallelAndSerial_shouldProduceSameLayout() {
+        int size = 700; // Large enough to split into many bands
+        for (int mineCount : new int[] {1, 4_900, 245_000, size * size}) {
+            Grid serial = new Grid(size);
+            Grid parallel = new Grid(size);
+            new SeededMinePlacer(7L).placeMines(serial, mineCount, false);
+            new SeededMinePlacer(7L).placeMines(parallel, mineCount, true);
+
+            assertEquals(mineCount, serial.getMineCount());
+            assertTrue(sameLayout(serial, parallel), "Layouts differ for " + mineCount + " mines");
+        }
+    }
+
+    @Test
+    void placeMines_shouldHandleEveryMineCountOnSmallGrid() {
+        for (int mineCount = 0; mineCount <= 9; mineCount++) {
+            Grid grid = new Grid(3);
+            new SeededMinePlacer(mineCount).placeMines(grid, mineCount);
+            assertEquals(mineCount, grid.getMineCount());
+        }
+    }
+
+    @Test
+    void placeMines_shouldRejectInvalidMineCounts() {
+        SeededMinePlacer placer = new SeededMinePlacer(0L);
+        assertThrows(IllegalArgumentException.class, () -> placer.placeMines(new Grid(4), -1));
+        assertThrows(IllegalArgumentException.class, () -> placer.placeMines(new Grid(4), 17));
+    }
+
+    private static boolean sameLayout(Grid first, Grid second) {
+        for (int index = 0; index < first.getCellCount(); index++) {
+            if (first.isMine(index) != second.isMine(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
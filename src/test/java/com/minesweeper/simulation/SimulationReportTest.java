@@ -0,0 +1,34 @@
+package com.minesweeper.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.config.GameConfiguration;
+
+/**
+ * Unit tests for the SimulationReport record.
+ */
+class SimulationReportTest {
+
+    private static final GameConfiguration CONFIG = new GameConfiguration(9, 10, 1L);
+
+    @Test
+    void winRateBounds_matchWilsonInterval() {
+        SimulationReport report = new SimulationReport(CONFIG, 100, 50, 1000, new long[32], 1_000_000_000L);
+
+        assertEquals(0.5, report.winRate(), 1e-12);
+        assertEquals(0.4038, report.winRateLowerBound(), 1e-4);
+        assertEquals(0.5962, report.winRateUpperBound(), 1e-4);
+        assertEquals(10.0, report.averageMoves(), 1e-12);
+        assertEquals(100.0, report.gamesPerSecond(), 1e-9);
+    }
+
+    @Test
+    void winRateBounds_withNoWins_stayWithinUnitInterval() {
+        SimulationReport report = new SimulationReport(CONFIG, 20, 0, 20, new long[32], 1L);
+
+        assertEquals(0.0, report.winRateLowerBound(), 1e-12);
+        assertTrue(report.winRateUpperBound() > 0.1 && report.winRateUpperBound() < 0.2);
+    }
+}
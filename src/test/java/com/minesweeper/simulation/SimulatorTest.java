@@ -0,0 +1,63 @@
+package com.minesweeper.simulation;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.config.GameConfiguration;
+
+/**
+ * Unit tests for the Simulator class.
+ */
+class SimulatorTest {
+
+    private static final GameConfiguration BEGINNER = new GameConfiguration(9, 10, 42L);
+
+    @Test
+    void run_shouldAccountForEveryGameAndMove() {
+        SimulationReport report = new Simulator(3).run(BEGINNER, 1000, DeductionMoveStrategy::new);
+
+        assertEquals(1000, report.games());
+        assertTrue(report.wins() > 0 && report.wins() < 1000);
+        long losses = report.games() - report.wins();
+        assertEquals(report.moves() - losses, Arrays.stream(report.cascadeHistogram()).sum(),
+                "Every move except a losing one reveals at least one cell");
+    }
+
+    @Test
+    void run_withSameSeedAndThreads_isReproducible() {
+        SimulationReport first = new Simulator(2).run(BEGINNER, 500, DeductionMoveStrategy::new);
+        SimulationReport second = new Simulator(2).run(BEGINNER, 500, DeductionMoveStrategy::new);
+
+        assertEquals(first.wins(), second.wins());
+        assertEquals(first.moves(), second.moves());
+        assertArrayEquals(first.cascadeHistogram(), second.cascadeHistogram());
+    }
+
+    @Test
+    void run_withoutMines_winsEveryGameInOneMove() {
+        SimulationReport report = new Simulator(2).run(new GameConfiguration(8, 0, 1L), 10, RandomMoveStrategy::new);
+
+        assertEquals(10, report.wins());
+        assertEquals(10, report.moves());
+        assertEquals(10, report.cascadeHistogram()[6], "Each game reveals all 64 cells at once");
+    }
+
+    @Test
+    void run_deductionStrategy_beatsRandomGuessing() {
+        Simulator simulator = new Simulator(2);
+        SimulationReport deduction = simulator.run(BEGINNER, 2000, DeductionMoveStrategy::new);
+        SimulationReport random = simulator.run(BEGINNER, 2000, RandomMoveStrategy::new);
+
+        assertTrue(deduction.winRateLowerBound() > random.winRateUpperBound());
+    }
+
+    @Test
+    void constructor_withInvalidThreadCount_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new Simulator(0));
+    }
+}
@@ -0,0 +1,162 @@
+package com.minesweeper.solver;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+import com.minesweeper.placement.SeededMinePlacer;
+
+/**
+ * Unit tests for the DeductionEngine class.
+ */
+class DeductionEngineTest {
+
+    @Test
+    void solve_withOneHiddenNeighbor_findsMine() {
+        Grid grid = gridWithMines(3, 0);
+        grid.revealCell(new Coordinates(2, 2)); // Cascades to every cell except the mine
+
+        Deductions deductions = new DeductionEngine(grid).solve();
+
+        assertEquals(bits(0), deductions.mineCells());
+        assertTrue(deductions.safeCells().isEmpty());
+    }
+
+    @Test
+    void solve_withSatisfiedNumber_findsSafeNeighbors() {
+        Grid grid = gridWithMines(3, 0);
+        grid.revealAllMines();
+        grid.revealCell(new Coordinates(1, 1));
+
+        Deductions deductions = new DeductionEngine(grid).solve();
+
+        assertTrue(deductions.mineCells().isEmpty());
+        assertEquals(bits(1, 2, 3, 5, 6, 7, 8), deductions.safeCells());
+    }
+
+    @Test
+    void solve_withOverlappingNumbers_chainsDeductions() {
+        Grid grid = gridWithMines(3, 0);
+        grid.revealCell(new Coordinates(0, 1));
+        grid.revealCell(new Coordinates(1, 0));
+        grid.revealCell(new Coordinates(1, 1));
+
+        Deductions deductions = new DeductionEngine(grid).solve();
+
+        assertEquals(bits(0), deductions.mineCells());
+        assertEquals(bits(2, 5, 6, 7, 8), deductions.safeCells());
+    }
+
+    @Test
+    void solve_withOneTwoOnePattern_needsSubsetRule() {
+        // Hidden top row over revealed 1-2-1; no single number settles any cell on its own
+        Grid grid = gridWithMines(3, 0, 2);
+        grid.revealCell(new Coordinates(2, 0));
+
+        Deductions deductions = new DeductionEngine(grid).solve();
+
+        assertEquals(bits(0, 2), deductions.mineCells());
+        assertEquals(bits(1), deductions.safeCells());
+    }
+
+    @Test
+    void solve_withOneTwoOnePattern_hitsPatternTable() {
+        Grid grid = gridWithMines(3, 0, 2);
+        grid.revealCell(new Coordinates(2, 0));
+        DeductionEngine engine = new DeductionEngine(grid);
+
+        engine.solve();
+
+        assertTrue(engine.getPatternHits() > 0);
+        assertTrue(engine.getPatternHits() <= engine.getPatternLookups());
+    }
+
+    @Test
+    void solve_withNothingRevealed_findsNothing() {
+        Grid grid = gridWithMines(4, 5);
+
+        assertTrue(new DeductionEngine(grid).solve().isEmpty());
+    }
+
+    @Test
+    void solve_onRandomBoards_onlyReportsTruths() {
+        for (long seed = 0; seed < 200; seed++) {
+            Grid grid = openedBoard(16, 40, seed);
+
+            Deductions deductions = new DeductionEngine(grid).solve();
+
+            deductions.safeCells().stream().forEach(index -> {
+                assertFalse(grid.isMine(index), "Cell " + index + " is a mine");
+                assertFalse(grid.isRevealed(index), "Cell " + index + " is already revealed");
+            });
+            deductions.mineCells().stream().forEach(index -> assertTrue(grid.isMine(index)));
+        }
+    }
+
+    @Test
+    void cellRevealed_afterIncrementalPlay_matchesFreshEngine() {
+        for (long seed = 0; seed < 50; seed++) {
+            Grid grid = openedBoard(16, 40, seed);
+            DeductionEngine engine = new DeductionEngine(grid);
+            Deductions deductions = engine.solve();
+            while (!deductions.safeCells().isEmpty()) {
+                BitSet before = revealedCells(grid);
+                int safe = deductions.safeCells().nextSetBit(0);
+                grid.revealCell(new Coordinates(grid.rowOf(safe), grid.columnOf(safe)));
+                BitSet newlyRevealed = revealedCells(grid);
+                newlyRevealed.andNot(before);
+                newlyRevealed.stream().forEach(engine::cellRevealed);
+                deductions = engine.solve();
+            }
+
+            Deductions fresh = new DeductionEngine(grid).solve();
+            assertEquals(fresh, deductions, "Seed " + seed);
+        }
+    }
+
+    private static Grid gridWithMines(int size, int... mines) {
+        Grid grid = new Grid(size);
+        grid.initialize((g, count) -> {
+            for (int mine : mines) {
+                g.placeMine(mine);
+            }
+        }, mines.length);
+        return grid;
+    }
+
+    /**
+     * Generates a seeded board and reveals its first zero cell, the way a player's opening would.
+     */
+    static Grid openedBoard(int size, int mineCount, long seed) {
+        Grid grid = new Grid(size);
+        grid.initialize(new SeededMinePlacer(seed), mineCount);
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (!grid.isMine(index) && grid.getAdjacentMineCount(index) == 0) {
+                grid.revealCell(new Coordinates(grid.rowOf(index), grid.columnOf(index)));
+                break;
+            }
+        }
+        return grid;
+    }
+
+    private static BitSet revealedCells(Grid grid) {
+        BitSet revealed = new BitSet(grid.getCellCount());
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            revealed.set(index, grid.isRevealed(index));
+        }
+        return revealed;
+    }
+
+    private static BitSet bits(int... indices) {
+        BitSet bits = new BitSet();
+        for (int index : indices) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
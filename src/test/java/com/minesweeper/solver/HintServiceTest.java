@@ -0,0 +1,143 @@
+package com.minesweeper.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+
+/**
+ * Unit tests for the HintService class.
+ */
+class HintServiceTest {
+
+    @Test
+    void hint_withOneTwoOnePattern_suggestsTheSafeCell() {
+        Grid grid = new Grid(3);
+        grid.initialize((g, count) -> {
+            g.placeMine(0);
+            g.placeMine(2);
+        }, 2);
+        grid.revealCell(new Coordinates(2, 0));
+
+        Hint hint = new HintService(grid).hint();
+
+        assertEquals(1, hint.index());
+        assertTrue(hint.isCertain());
+    }
+
+    @Test
+    void hint_withNothingRevealed_suggestsAnyHiddenCell() {
+        Grid grid = new Grid(8);
+        grid.initialize((g, count) -> {
+            for (int i = 0; i < count; i++) {
+                g.placeMine(i * 6);
+            }
+        }, 10);
+
+        Hint hint = new HintService(grid).hint();
+
+        assertFalse(grid.isRevealed(hint.index()));
+        assertEquals(10.0 / 64, hint.mineProbability(), 1e-12);
+    }
+
+    @Test
+    void hint_whilePlayingHints_agreesWithAFreshSolve() {
+        ProbabilityEngine engine = new ProbabilityEngine();
+        for (long seed = 0; seed < 30; seed++) {
+            Grid grid = DeductionEngineTest.openedBoard(9, 10, seed);
+            HintService service = new HintService(grid);
+            while (grid.getHiddenSafeCellCount() > 0) {
+                Hint hint = service.hint();
+                assertFalse(grid.isRevealed(hint.index()), "Seed " + seed);
+                if (hint.isCertain()) {
+                    assertFalse(grid.isMine(hint.index()), "Seed " + seed);
+                } else {
+                    MineProbabilities fresh = engine.compute(grid);
+                    assertEquals(fresh.probabilityAt(hint.index()), hint.mineProbability(), 1e-9, "Seed " + seed);
+                }
+                if (grid.isMine(hint.index())) {
+                    break;
+                }
+                grid.revealCell(hint.index());
+                service.update();
+            }
+        }
+    }
+
+    @Test
+    void hint_withFewCellsOffFrontier_picksOneOfThem() {
+        Grid grid = new Grid(30);
+        grid.initialize((g, count) -> { // A ring of mines around a hidden 3x3 pocket
+            for (int row = 10; row < 15; row++) {
+                for (int column = 10; column < 15; column++) {
+                    if (row == 10 || row == 14 || column == 10 || column == 14) {
+                        g.placeMine(g.indexOf(row, column));
+                    }
+                }
+            }
+        }, 16);
+        grid.revealCell(0); // Opens everything outside the ring
+
+        Hint hint = new HintService(grid).hint();
+
+        int row = grid.rowOf(hint.index());
+        int column = grid.columnOf(hint.index());
+        assertTrue(row >= 11 && row <= 13 && column >= 11 && column <= 13, "Hint " + hint);
+        assertEquals(0.0, hint.mineProbability(), 1e-12);
+        assertEquals(hint, new HintService(grid).hint(), "The same position gets the same hint");
+    }
+
+    @Test
+    void hint_askedTwiceWithoutAMove_returnsTheSameCell() {
+        Grid grid = DeductionEngineTest.openedBoard(16, 40, 3L);
+        HintService service = new HintService(grid);
+
+        assertEquals(service.hint(), service.hint());
+        assertEquals(2, service.getHintCount());
+    }
+
+    @Test
+    void hint_withEverySafeCellRevealed_throwsIllegalStateException() {
+        Grid grid = new Grid(2);
+        grid.initialize((g, count) -> g.placeMine(0), 1);
+        for (int index = 1; index < 4; index++) {
+            grid.revealCell(index);
+        }
+
+        HintService service = new HintService(grid);
+
+        assertThrows(IllegalStateException.class, service::hint);
+    }
+
+    @Test
+    void latencyPercentileNanos_isOrderedAcrossPercentiles() {
+        Grid grid = DeductionEngineTest.openedBoard(16, 40, 5L);
+        HintService service = new HintService(grid);
+        for (int i = 0; i < 10; i++) {
+            service.hint();
+        }
+
+        assertTrue(service.latencyPercentileNanos(50) <= service.latencyPercentileNanos(99));
+        assertTrue(service.latencyPercentileNanos(99) <= service.latencyPercentileNanos(100));
+    }
+
+    @Test
+    void latencyPercentileNanos_withoutHints_throwsIllegalStateException() {
+        HintService service = new HintService(DeductionEngineTest.openedBoard(9, 10, 1L));
+
+        assertThrows(IllegalStateException.class, () -> service.latencyPercentileNanos(50));
+    }
+
+    @Test
+    void latencyPercentileNanos_withPercentileOutOfRange_throwsIllegalArgumentException() {
+        HintService service = new HintService(DeductionEngineTest.openedBoard(9, 10, 1L));
+        service.hint();
+
+        assertThrows(IllegalArgumentException.class, () -> service.latencyPercentileNanos(0));
+        assertThrows(IllegalArgumentException.class, () -> service.latencyPercentileNanos(101));
+    }
+}
@@ -0,0 +1,96 @@
+package com.minesweeper.solver;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+
+/**
+ * Unit tests for the LinearSolver class.
+ */
+class LinearSolverTest {
+
+    private final LinearSolver solver = new LinearSolver();
+
+    @Test
+    void solve_withOneTwoOnePattern_findsMinesAndSafeCell() {
+        Grid grid = new Grid(3);
+        grid.initialize((g, count) -> {
+            g.placeMine(0);
+            g.placeMine(2);
+        }, 2);
+        grid.revealCell(new Coordinates(2, 0));
+
+        Deductions deductions = solver.solve(grid);
+
+        assertEquals(BitSet.valueOf(new long[] {0b101}), deductions.mineCells());
+        assertEquals(BitSet.valueOf(new long[] {0b010}), deductions.safeCells());
+    }
+
+    @Test
+    void solve_onRandomBoards_onlyReportsTruths() {
+        for (long seed = 0; seed < 200; seed++) {
+            Grid grid = DeductionEngineTest.openedBoard(16, 40, seed);
+
+            Deductions deductions = solver.solve(grid);
+
+            deductions.safeCells().stream().forEach(index -> {
+                assertFalse(grid.isMine(index), "Cell " + index + " is a mine");
+                assertFalse(grid.isRevealed(index), "Cell " + index + " is already revealed");
+            });
+            deductions.mineCells().stream().forEach(index -> assertTrue(grid.isMine(index)));
+        }
+    }
+
+    @Test
+    void solve_onRandomBoards_findsEverySubsetRuleDeduction() {
+        for (long seed = 0; seed < 200; seed++) {
+            Grid grid = DeductionEngineTest.openedBoard(16, 40, seed);
+
+            Deductions linear = solver.solve(grid);
+            Deductions subset = new DeductionEngine(grid).solve();
+
+            BitSet missedSafe = (BitSet) subset.safeCells().clone();
+            missedSafe.andNot(linear.safeCells());
+            BitSet missedMines = (BitSet) subset.mineCells().clone();
+            missedMines.andNot(linear.mineCells());
+            assertTrue(missedSafe.isEmpty() && missedMines.isEmpty(), "Seed " + seed);
+        }
+    }
+
+    @Test
+    void solve_onRandomBoards_findsMoreThanSubsetRules() {
+        int linearCount = 0;
+        int subsetCount = 0;
+        for (long seed = 0; seed < 200; seed++) {
+            Grid grid = DeductionEngineTest.openedBoard(16, 40, seed);
+            Deductions linear = solver.solve(grid);
+            Deductions subset = new DeductionEngine(grid).solve();
+            linearCount += linear.safeCells().cardinality() + linear.mineCells().cardinality();
+            subsetCount += subset.safeCells().cardinality() + subset.mineCells().cardinality();
+        }
+
+        assertTrue(linearCount > subsetCount, linearCount + " vs " + subsetCount);
+    }
+
+    @Test
+    void solve_onLargeOpenedBoard_isSound() {
+        Grid grid = DeductionEngineTest.openedBoard(300, 9_000, 7L);
+        for (int index = 0; index < grid.getCellCount(); index += 97) {
+            if (!grid.isMine(index) && grid.getAdjacentMineCount(index) == 0) {
+                grid.revealCell(new Coordinates(grid.rowOf(index), grid.columnOf(index)));
+            }
+        }
+
+        Deductions deductions = solver.solve(grid);
+
+        assertFalse(deductions.isEmpty());
+        deductions.safeCells().stream().forEach(index -> assertFalse(grid.isMine(index)));
+        deductions.mineCells().stream().forEach(index -> assertTrue(grid.isMine(index)));
+    }
+}
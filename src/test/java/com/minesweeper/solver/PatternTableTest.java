@@ -0,0 +1,51 @@
+package com.minesweeper.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the PatternTable class.
+ */
+class PatternTableTest {
+
+    // Window cells of the row above a horizontal pair, left to right
+    private static final int TOP_ROW = 0b1111;
+
+    @Test
+    void get_matchesAFreshEnumeration() {
+        assertTrue(PatternTable.get().sameEntries(PatternTable.generate()),
+                "The shipped resource is stale; rerun PatternTableGenerator");
+    }
+
+    @Test
+    void lookup_withOneTwoAgainstAWall_forcesOuterCells() {
+        // 1 and 2 under a hidden row: the 2 needs the far cell, so the 1's far cell is safe
+        int entry = PatternTable.get().lookup(PatternTable.key(TOP_ROW, 1, 2));
+
+        assertEquals(0b0001, entry & PatternTable.WINDOW_MASK);
+        assertEquals(0b1000, entry >>> PatternTable.WINDOW_CELLS);
+    }
+
+    @Test
+    void lookup_withOneOneAgainstAWall_forcesNothing() {
+        assertEquals(0, PatternTable.get().lookup(PatternTable.key(TOP_ROW, 1, 1)));
+    }
+
+    @Test
+    void lookup_withInconsistentCounts_forcesNothing() {
+        // Only the two shared cells are undetermined, but the numbers need different counts there
+        int shared = 0b0110;
+
+        assertEquals(0, PatternTable.get().lookup(PatternTable.key(shared, 1, 2)));
+    }
+
+    @Test
+    void touches_coversEachNumbersNeighborhood() {
+        for (int cell = 0; cell < PatternTable.WINDOW_CELLS; cell++) {
+            int column = PatternTable.COLUMN_OFFSETS[cell];
+            assertEquals(column <= 1, PatternTable.touches(0, cell), "Cell " + cell);
+            assertEquals(column >= 0, PatternTable.touches(1, cell), "Cell " + cell);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.minesweeper.solver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.minesweeper.domain.Coordinates;
+import com.minesweeper.domain.Grid;
+
+/**
+ * Unit tests for the ProbabilityEngine class.
+ */
+class ProbabilityEngineTest {
+
+    @Test
+    void compute_withOneTwoOnePattern_isCertain() {
+        Grid grid = new Grid(3);
+        grid.initialize((g, count) -> {
+            g.placeMine(0);
+            g.placeMine(2);
+        }, 2);
+        grid.revealCell(new Coordinates(2, 0));
+
+        MineProbabilities probabilities = new ProbabilityEngine().compute(grid);
+
+        assertEquals(1.0, probabilities.probabilityAt(0), 1e-12);
+        assertEquals(0.0, probabilities.probabilityAt(1), 1e-12);
+        assertEquals(1.0, probabilities.probabilityAt(2), 1e-12);
+        assertFalse(probabilities.approximate());
+    }
+
+    @Test
+    void compute_withSharedCache_reusesComponentsAcrossEngines() {
+        TranspositionCache cache = new TranspositionCache(64);
+        Grid grid = DeductionEngineTest.openedBoard(16, 40, 11L);
+
+        MineProbabilities first = new ProbabilityEngine(cache).compute(grid);
+        long misses = cache.getMisses();
+        MineProbabilities second = new ProbabilityEngine(cache).compute(grid);
+
+        assertTrue(misses > 0);
+        assertEquals(misses, cache.getMisses(), "Every component of the second call is cached");
+        assertEquals(misses, cache.getHits());
+        assertArrayEquals(first.frontierProbabilities(), second.frontierProbabilities(), 1e-12);
+    }
+
+    @Test
+    void compute_withNothingRevealed_spreadsMinesEvenly() {
+        Grid grid = new Grid(8);
+        grid.initialize((g, count) -> {
+            for (int i = 0; i < count; i++) {
+                g.placeMine(i * 6);
+            }
+        }, 10);
+
+        MineProbabilities probabilities = new ProbabilityEngine().compute(grid);
+
+        assertEquals(0, probabilities.frontierCells().length);
+        assertEquals(10.0 / 64, probabilities.otherCellProbability(), 1e-12);
+    }
+
+    @Test
+    void compute_onRandomBoards_matchesBruteForce() {
+        ProbabilityEngine engine = new ProbabilityEngine();
+        for (long seed = 0; seed < 40; seed++) {
+            Grid grid = DeductionEngineTest.openedBoard(6, 7, seed);
+            double[] expected = bruteForce(grid);
+
+            MineProbabilities probabilities = engine.compute(grid);
+
+            assertFalse(probabilities.approximate());
+            for (int index = 0; index < grid.getCellCount(); index++) {
+                if (!grid.isRevealed(index)) {
+                    assertEquals(expected[index], probabilities.probabilityAt(index), 1e-9,
+                            "Seed " + seed + ", cell " + index);
+                }
+            }
+        }
+    }
+
+    @Test
+    void compute_overBudget_samplesCloseToExactValues() {
+        ProbabilityEngine sampler = new ProbabilityEngine(ForkJoinPool.commonPool(), 1, Duration.ofSeconds(1), 200_000);
+        for (long seed = 0; seed < 10; seed++) {
+            Grid grid = DeductionEngineTest.openedBoard(6, 7, seed);
+            double[] expected = bruteForce(grid);
+
+            MineProbabilities probabilities = sampler.compute(grid);
+
+            if (probabilities.frontierCells().length > 1) {
+                assertTrue(probabilities.approximate());
+            }
+            for (int index = 0; index < grid.getCellCount(); index++) {
+                if (!grid.isRevealed(index)) {
+                    assertEquals(expected[index], probabilities.probabilityAt(index), 0.02,
+                            "Seed " + seed + ", cell " + index);
+                }
+            }
+        }
+    }
+
+    @Test
+    void constructor_withInvalidBudgets_throwsException() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        assertThrows(IllegalArgumentException.class, () -> new ProbabilityEngine(pool, 0, Duration.ofSeconds(1), 1));
+        assertThrows(IllegalArgumentException.class, () -> new ProbabilityEngine(pool, 1, Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ProbabilityEngine(pool, 1, Duration.ofSeconds(1), 0));
+    }
+
+    /**
+     * Enumerates every placement of the grid's mines over its hidden cells and averages the ones
+     * consistent with the revealed numbers.
+     */
+    private static double[] bruteForce(Grid grid) {
+        List<Integer> hidden = new ArrayList<>();
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (!grid.isRevealed(index)) {
+                hidden.add(index);
+            }
+        }
+        boolean[] mined = new boolean[grid.getCellCount()];
+        double[] mineCounts = new double[grid.getCellCount()];
+        long consistent = enumerate(grid, hidden, 0, grid.getMineCount(), mined, mineCounts);
+        for (int index = 0; index < mineCounts.length; index++) {
+            mineCounts[index] /= consistent;
+        }
+        return mineCounts;
+    }
+
+    private static long enumerate(Grid grid, List<Integer> hidden, int from, int minesLeft,
+                                  boolean[] mined, double[] mineCounts) {
+        if (minesLeft == 0) {
+            if (!matchesNumbers(grid, mined)) {
+                return 0;
+            }
+            for (int index = 0; index < mined.length; index++) {
+                mineCounts[index] += mined[index] ? 1 : 0;
+            }
+            return 1;
+        }
+        long layouts = 0;
+        for (int i = from; i <= hidden.size() - minesLeft; i++) {
+            mined[hidden.get(i)] = true;
+            layouts += enumerate(grid, hidden, i + 1, minesLeft - 1, mined, mineCounts);
+            mined[hidden.get(i)] = false;
+        }
+        return layouts;
+    }
+
+    private static boolean matchesNumbers(Grid grid, boolean[] mined) {
+        int[] neighbors = new int[Grid.MAX_NEIGHBORS];
+        for (int index = 0; index < grid.getCellCount(); index++) {
+            if (!grid.isRevealed(index)) {
+                continue;
+            }
+            int count = 0;
+            int neighborCount = grid.getNeighbors(index, neighbors);
+            for (int i = 0; i < neighborCount; i++) {
+                count += mined[neighbors[i]] ? 1 : 0;
+            }
+            if (count != grid.getAdjacentMineCount(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
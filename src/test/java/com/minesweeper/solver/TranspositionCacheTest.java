@@ -0,0 +1,59 @@
+package com.minesweeper.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the TranspositionCache class.
+ */
+class TranspositionCacheTest {
+
+    private static final ProbabilityEngine.ComponentResult RESULT =
+            new ProbabilityEngine.ComponentResult(new double[] {1.0}, new double[][] {{0.0}}, false);
+
+    @Test
+    void get_afterPut_hitsAndCounts() {
+        TranspositionCache cache = new TranspositionCache(4);
+        int[] signature = {1, 1, 1, 1, 0};
+
+        assertNull(cache.get(7L, signature));
+        cache.put(7L, signature, RESULT);
+
+        assertSame(RESULT, cache.get(7L, signature.clone()));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.hitRate(), 1e-12);
+    }
+
+    @Test
+    void get_withCollidingHash_missesWhenSignatureDiffers() {
+        TranspositionCache cache = new TranspositionCache(4);
+        cache.put(7L, new int[] {1, 1, 1, 1, 0}, RESULT);
+
+        assertNull(cache.get(7L, new int[] {1, 1, 0, 1, 0}));
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void put_beyondCapacity_evictsLeastRecentlyUsed() {
+        TranspositionCache cache = new TranspositionCache(2);
+        int[] signature = {0};
+        cache.put(1L, signature, RESULT);
+        cache.put(2L, signature, RESULT);
+        cache.get(1L, signature); // 2 is now the least recently used
+        cache.put(3L, signature, RESULT);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertSame(RESULT, cache.get(1L, signature));
+        assertNull(cache.get(2L, signature));
+    }
+
+    @Test
+    void constructor_withNonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionCache(0));
+    }
+}